@@ -0,0 +1,63 @@
+package com.study.boardproject.dto;
+
+import com.study.boardproject.domain.Article;
+import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.domain.UserAccount;
+import com.study.boardproject.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 매핑 벤치마크 (./gradlew jmh)
+ * 게시판 한 페이지 분량의 엔티티를 ArticleDto.from -> ArticleResponse.from 으로 바꾸는 비용을 잰다.
+ * 엔티티는 영속성 컨텍스트 없이 만든 것이라 id, 작성일시는 null이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class ArticleMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    @Param({"0", "5"})
+    public int hashtagCount;
+
+    private List<Article> articles;
+    private List<ArticleDto> articleDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserAccount userAccount = UserAccount.of("jinan", "pw", "jinan@mail.com", "Jinan", "memo");
+        articles = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Article article = Article.of(userAccount, "title " + i, "content ".repeat(50));
+            for (int j = 0; j < hashtagCount; j++) {
+                article.addHashtag(Hashtag.of("hashtag" + j));
+            }
+            articles.add(article);
+        }
+        articleDtos = articles.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleDto> articleDtoFrom() {
+        return articles.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> articleResponseFrom() {
+        return articleDtos.stream().map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityToResponse() {
+        return articles.stream().map(ArticleDto::from).map(ArticleResponse::from).toList();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.study.boardproject.dto.response;
+
+import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleWithCommentsDto;
+import com.study.boardproject.dto.HashtagDto;
+import com.study.boardproject.dto.UserAccountDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 상세 응답 변환 벤치마크 (./gradlew jmh)
+ * ArticleWithCommentsResponse.from 안의 댓글/대댓글 정리(organizeChildComments)가 댓글 수에 따라 어떻게 늘어나는지 본다.
+ * 댓글의 30%는 앞서 달린 댓글에 붙는 대댓글로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class ArticleWithCommentsResponseBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int commentCount;
+
+    private ArticleWithCommentsDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        UserAccountDto userAccountDto = UserAccountDto.of("jinan", "pw", "jinan@mail.com", "Jinan", "memo");
+        LocalDateTime baseTime = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        Set<ArticleCommentDto> articleCommentDtos = new LinkedHashSet<>();
+        for (long id = 1; id <= commentCount; id++) {
+            Long parentCommentId = id > 1 && random.nextInt(100) < 30 ? random.nextLong(1, id) : null;
+            articleCommentDtos.add(ArticleCommentDto.of(
+                    id, 1L, userAccountDto, parentCommentId, "comment " + id,
+                    baseTime.plusSeconds(id), "jinan", baseTime.plusSeconds(id), "jinan"
+            ));
+        }
+
+        dto = ArticleWithCommentsDto.of(
+                1L, userAccountDto, articleCommentDtos, "title", "content",
+                Set.of(HashtagDto.of("java"), HashtagDto.of("spring")),
+                baseTime, "jinan", baseTime, "jinan"
+        );
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse from() {
+        return ArticleWithCommentsResponse.from(dto);
+    }
+
+}
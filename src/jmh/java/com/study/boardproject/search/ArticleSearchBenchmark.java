@@ -0,0 +1,115 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.domain.type.SearchType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목/본문 검색 비교 벤치마크 (./gradlew jmh)
+ * 같은 100만 건의 게시글에 대해 기존 방식(LIKE '%검색어%' 로 한 페이지 조회 + count 쿼리)과
+ * 메모리 색인(ArticleSearchIndex.search 후 한 페이지 자르기)을 비교한다.
+ * DB는 H2 메모리 DB를 쓰므로 네트워크 비용이 빠진, LIKE 쪽에 유리한 비교다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ArticleSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "게시판", "검색", "성능", "쿼리", "인덱스", "댓글", "해시태그",
+            "querydsl", "thymeleaf", "security", "테스트", "배포", "캐시", "트랜잭션", "엔티티", "프로젝트", "정리"
+    };
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1000000"})
+    public int articleCount;
+
+    @Param({"게시판", "spring boot", "트랜잭션 정리"})
+    public String keyword;
+
+    private Connection connection;
+    private ArticleSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists article");
+            statement.execute("create table article (id bigint primary key, title varchar(255), content varchar(10000))");
+        }
+
+        index = new ArticleSearchIndex(null);
+        SplittableRandom random = new SplittableRandom(42);
+        try (PreparedStatement insert = connection.prepareStatement("insert into article (id, title, content) values (?, ?, ?)")) {
+            for (long id = 1; id <= articleCount; id++) {
+                String title = sentence(random, 3);
+                String content = sentence(random, 12);
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, content);
+                insert.addBatch();
+                if (id % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+                index.index(id, title, content);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table article");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeSearch(Blackhole blackhole) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, title, content from article where content like ? order by id desc limit ?")) {
+            select.setString(1, pattern);
+            select.setInt(2, PAGE_SIZE);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getLong(1));
+                }
+            }
+        }
+        try (PreparedStatement count = connection.prepareStatement("select count(*) from article where content like ?")) {
+            count.setString(1, pattern);
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexSearch(Blackhole blackhole) {
+        List<Long> rankedIds = index.search(SearchType.CONTENT, keyword);
+        blackhole.consume(rankedIds.subList(0, Math.min(PAGE_SIZE, rankedIds.size())));
+        blackhole.consume(rankedIds.size());
+    }
+
+    private static String sentence(SplittableRandom random, int wordCount) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+}
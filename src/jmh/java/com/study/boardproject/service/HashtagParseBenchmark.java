@@ -0,0 +1,71 @@
+package com.study.boardproject.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시태그 파싱 비교 벤치마크 (./gradlew jmh)
+ * 10,000자 본문에 대해 기존 정규식 방식(매번 Pattern.compile + replace + Set.copyOf)과 한 번 훑는 스캐너(HashtagService.parseHashtagNames)를 비교한다.
+ * 할당량까지 보려면 -prof gc 옵션으로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class HashtagParseBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "게시판", "검색", "성능", "쿼리", "인덱스", "댓글", "해시태그",
+            "querydsl", "thymeleaf", "security", "테스트", "배포", "캐시", "트랜잭션", "엔티티", "프로젝트", "정리"
+    };
+
+    @Param({"10000"})
+    public int contentLength;
+
+    // 본문 단어 중 해시태그로 쓰는 비율 (%)
+    @Param({"1", "20"})
+    public int hashtagPercent;
+
+    private String content;
+    private HashtagService hashtagService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder builder = new StringBuilder(contentLength + 16);
+        while (builder.length() < contentLength) {
+            if (random.nextInt(100) < hashtagPercent) {
+                builder.append('#');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? ".\n" : " ");
+        }
+        content = builder.substring(0, contentLength);
+        hashtagService = new HashtagService(null, null); // 파싱은 저장소를 쓰지 않는다.
+    }
+
+    @Benchmark
+    public Set<String> regexParse() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> scannerParse() {
+        return hashtagService.parseHashtagNames(content);
+    }
+
+}
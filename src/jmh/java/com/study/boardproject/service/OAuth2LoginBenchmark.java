@@ -0,0 +1,126 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.dto.security.BoardPrincipal;
+import com.study.boardproject.dto.security.KakaoOAuth2Response;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 로그인 처리량 비교 벤치마크 (./gradlew jmh -PjmhIncludes=OAuth2Login)
+ * 카카오 사용자 정보 조회(DefaultOAuth2UserService)와 회원 조회/저장은 메모리 stub으로 바꾸고, 스레드 하나(코어 하나)의 초당 로그인 수를 잰다.
+ * - before: 기존 SecurityConfig 람다 (로그인마다 bcrypt 해시 후 회원 조회)
+ * - after: BoardOAuth2UserService (회원 조회 후 처음 가입할 때만 전용 실행기에서 해시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class OAuth2LoginBenchmark {
+
+    // 로그인 중 처음 가입하는 사용자 비율 (%)
+    @Param({"0", "10"})
+    public int newUserPercent;
+
+    private OAuth2UserRequest userRequest;
+    private OAuth2UserService<OAuth2UserRequest, OAuth2User> kakaoUserService;
+    private UserAccountService userAccountService;
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    private BoardOAuth2UserService boardOAuth2UserService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userRequest = createUserRequest();
+        OAuth2User kakaoUser = createKakaoUser();
+        kakaoUserService = request -> kakaoUser;
+
+        UserAccountDto userAccount = UserAccountDto.of("kakao_1234567890", "{bcrypt}hashed", "test@gmail.com", "홍길동", null);
+        SplittableRandom random = new SplittableRandom(42);
+        userAccountService = new UserAccountService(null) {
+            @Override
+            public Optional<UserAccountDto> searchUser(String username) {
+                return random.nextInt(100) < newUserPercent ? Optional.empty() : Optional.of(userAccount);
+            }
+
+            @Override
+            public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
+                return userAccount;
+            }
+        };
+
+        passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        passwordHashingService = new PasswordHashingService(passwordEncoder, 1, 100, Duration.ofSeconds(30));
+        boardOAuth2UserService = new BoardOAuth2UserService(kakaoUserService, userAccountService, passwordHashingService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHashingService.close();
+    }
+
+    @Benchmark
+    public OAuth2User before() {
+        OAuth2User oAuth2User = kakaoUserService.loadUser(userRequest);
+        KakaoOAuth2Response kakaoResponse = KakaoOAuth2Response.from(oAuth2User.getAttributes());
+        String username = userRequest.getClientRegistration().getRegistrationId() + "_" + kakaoResponse.id();
+        String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
+
+        return userAccountService.searchUser(username)
+                .map(BoardPrincipal::from)
+                .orElseGet(() -> BoardPrincipal.from(userAccountService.saveUser(
+                        username, dummyPassword, kakaoResponse.email(), kakaoResponse.nickname(), null
+                )));
+    }
+
+    @Benchmark
+    public OAuth2User after() {
+        return boardOAuth2UserService.loadUser(userRequest);
+    }
+
+    private OAuth2UserRequest createUserRequest() {
+        ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/kakao")
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .tokenUri("https://kauth.kakao.com/oauth/token")
+                .userInfoUri("https://kapi.kakao.com/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+
+        return new OAuth2UserRequest(
+                clientRegistration,
+                new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token", Instant.now(), Instant.now().plusSeconds(3600))
+        );
+    }
+
+    private OAuth2User createKakaoUser() {
+        return new DefaultOAuth2User(List.of(), Map.of(
+                "id", 1234567890L,
+                "connected_at", "2022-01-02T00:12:34Z",
+                "properties", Map.of("nickname", "홍길동"),
+                "kakao_account", Map.of("profile", Map.of("nickname", "홍길동"), "has_email", true, "email", "test@gmail.com")
+        ), "id");
+    }
+
+}
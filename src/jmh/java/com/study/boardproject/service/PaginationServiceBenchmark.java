@@ -0,0 +1,42 @@
+package com.study.boardproject.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 바 번호 계산 벤치마크 (./gradlew jmh)
+ * 목록 화면마다 호출되는 PaginationService.getPaginationBarNumbers의 오프셋 페이징/커서 페이징 두 경로를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class PaginationServiceBenchmark {
+
+    @Param({"0", "500"})
+    public int currentPageNumber;
+
+    @Param({"1000"})
+    public int totalPages;
+
+    private PaginationService paginationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        paginationService = new PaginationService();
+    }
+
+    @Benchmark
+    public List<Integer> offsetPaginationBar() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+
+    @Benchmark
+    public List<Integer> cursorPaginationBar() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, true);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.study.boardproject.actuator;
+
+import com.study.boardproject.profiling.RequestProfileRecorder;
+import com.study.boardproject.profiling.RequestProfileRecorder.HandlerMeters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 응답 시간 백분위와 구간별 평균 (/actuator/requestprofile, /actuator/requestprofile/{handler})
+ * 백분위는 최근 몇 분 동안의 값이고, 평균과 요청 수는 애플리케이션이 뜬 뒤 전체 값이다.
+ * 시간 단위는 모두 ms다.
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "requestprofile")
+public class RequestProfileEndpoint {
+
+    private final RequestProfileRecorder requestProfileRecorder;
+
+    @ReadOperation
+    public Map<String, HandlerReport> report() {
+        Map<String, HandlerReport> handlers = new TreeMap<>();
+        requestProfileRecorder.getHandlerMeters().forEach((handler, meters) -> handlers.put(handler, HandlerReport.from(meters)));
+
+        return handlers;
+    }
+
+    @ReadOperation
+    public HandlerReport handler(@Selector String handler) {
+        HandlerMeters meters = requestProfileRecorder.getHandlerMeters().get(handler);
+        return meters == null ? null : HandlerReport.from(meters); // null이면 actuator가 404로 응답한다.
+    }
+
+    public record HandlerReport(
+            long count,
+            double p50,
+            double p95,
+            double p99,
+            double max,
+            double mean,
+            double dbMean,
+            double statementsMean,
+            double statementsP95,
+            double appMean,
+            double mappingMean,
+            double renderMean
+    ) {
+
+        static HandlerReport from(HandlerMeters meters) {
+            HistogramSnapshot duration = meters.duration().takeSnapshot();
+            HistogramSnapshot statements = meters.statements().takeSnapshot();
+
+            return new HandlerReport(
+                    duration.count(),
+                    percentile(duration, 0.5, true),
+                    percentile(duration, 0.95, true),
+                    percentile(duration, 0.99, true),
+                    duration.max(TimeUnit.MILLISECONDS),
+                    duration.mean(TimeUnit.MILLISECONDS),
+                    mean(meters.db()),
+                    mean(meters.statements()),
+                    percentile(statements, 0.95, false),
+                    mean(meters.app()),
+                    mean(meters.mapping()),
+                    mean(meters.render())
+            );
+        }
+
+        private static double percentile(HistogramSnapshot snapshot, double percentile, boolean time) {
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return time ? value.value(TimeUnit.MILLISECONDS) : value.value();
+                }
+            }
+
+            return 0;
+        }
+
+        private static double mean(Timer timer) {
+            return timer.mean(TimeUnit.MILLISECONDS);
+        }
+
+        private static double mean(DistributionSummary summary) {
+            return summary.mean();
+        }
+
+    }
+
+}
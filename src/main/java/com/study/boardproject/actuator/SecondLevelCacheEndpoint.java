@@ -0,0 +1,90 @@
+package com.study.boardproject.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 영역별 통계 (/actuator/secondlevelcache, /actuator/secondlevelcache/{region})
+ * hibernate.generate_statistics가 꺼져 있으면 수치는 모두 0이다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "secondlevelcache")
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public SecondLevelCacheReport report() {
+        Statistics statistics = statistics();
+        Map<String, RegionReport> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(regionName, RegionReport.from(statistics.getCacheRegionStatistics(regionName)));
+        }
+
+        return new SecondLevelCacheReport(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getPrepareStatementCount(),
+                regions
+        );
+    }
+
+    @ReadOperation
+    public RegionReport region(@Selector String region) {
+        Statistics statistics = statistics();
+        if (!Arrays.asList(statistics.getSecondLevelCacheRegionNames()).contains(region)) {
+            return null; // null이면 actuator가 404로 응답한다.
+        }
+
+        return RegionReport.from(statistics.getCacheRegionStatistics(region));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record SecondLevelCacheReport(
+            boolean statisticsEnabled,
+            long hitCount,
+            long missCount,
+            long queryCacheHitCount,
+            long queryCacheMissCount,
+            long prepareStatementCount,
+            Map<String, RegionReport> regions
+    ) {
+    }
+
+    /**
+     * @param elementCount 지금 캐시에 있는 항목 수, 구현체가 지원하지 않으면 -1
+     */
+    public record RegionReport(long hitCount, long missCount, long putCount, double hitRatio, long elementCount) {
+
+        static RegionReport from(CacheRegionStatistics statistics) {
+            long requests = statistics.getHitCount() + statistics.getMissCount();
+            return new RegionReport(
+                    statistics.getHitCount(),
+                    statistics.getMissCount(),
+                    statistics.getPutCount(),
+                    requests == 0 ? 0 : (double) statistics.getHitCount() / requests,
+                    statistics.getElementCountInMemory()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.study.boardproject.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 메모리 캐시 설정 (Caffeine)
+ * 크기를 넘으면 Caffeine의 W-TinyLFU 정책으로 덜 쓰이는 항목부터 버린다.
+ * recordStats()를 켜두면 actuator가 캐시를 자동으로 등록해서 /actuator/metrics/cache.gets, cache.evictions 등으로 hit/miss/eviction 수를 볼 수 있다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String ARTICLE_DETAIL = "articleDetail";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${board.cache.article-detail-spec:maximumSize=1000,expireAfterWrite=10m}") String articleDetailSpec
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(articleDetailSpec).recordStats());
+        cacheManager.setCacheNames(List.of(ARTICLE_DETAIL)); // 이름을 미리 정해두면 그 외의 캐시는 만들어지지 않는다.
+
+        return cacheManager;
+    }
+
+}
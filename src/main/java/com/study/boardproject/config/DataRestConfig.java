@@ -1,9 +1,13 @@
 package com.study.boardproject.config;
 
+import com.study.boardproject.controller.ArticleApiConditionalGetInterceptor;
 import com.study.boardproject.domain.UserAccount;
+import com.study.boardproject.service.ArticleVersionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.web.servlet.handler.MappedInterceptor;
 
 @Configuration
 public class DataRestConfig {
@@ -15,4 +19,18 @@ public class DataRestConfig {
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * MappedInterceptor 빈은 data rest의 handler mapping에도 적용된다.
+     */
+    @Bean
+    public MappedInterceptor articleApiConditionalGetInterceptor(
+            ArticleVersionService articleVersionService,
+            @Value("${spring.data.rest.base-path:}") String basePath
+    ) {
+        return new MappedInterceptor(
+                new String[]{basePath + "/articles", basePath + "/articles/*"},
+                new ArticleApiConditionalGetInterceptor(articleVersionService)
+        );
+    }
+
+}
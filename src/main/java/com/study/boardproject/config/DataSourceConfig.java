@@ -0,0 +1,102 @@
+package com.study.boardproject.config;
+
+import com.study.boardproject.datasource.ReplicaDataSourceProperties;
+import com.study.boardproject.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * board.datasource.replicas를 설정했을 때만 동작하고, 없으면 spring boot 기본 DataSource 하나를 그대로 쓴다.
+ * 서비스의 @Transactional(readOnly = true) 메서드는 복제본으로, 그 외(쓰기, 트랜잭션 밖, data.sql 초기화 등)는 원본으로 간다.
+ * 복제본 읽기는 최대 max-lag-seconds만큼 옛 값일 수 있다. 목록, 검색처럼 매번 새로 읽는 화면은 그만큼 늦게 보이는 것을 받아들이고,
+ * 결과를 캐시에 넣거나 ETag로 쓰는 읽기(상세 캐시 채우기, 상세 페이지 버전)는 readOnly를 빼서 원본에서 읽는다.
+ * (복제본에서 채우면 쓰기 직후 비운 캐시에 옛 값이 캐시 수명 동안 남고, 쓴 사람이 자기 글에 304를 받는다.)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource", name = "replicas[0].url")
+public class DataSourceConfig {
+
+    /**
+     * 원본 연결 풀, spring.datasource.*와 spring.datasource.hikari.*를 그대로 쓴다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> replicaProperties = properties.replicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.get(i);
+            String name = replica.name() == null ? "replica-" + i : replica.name();
+            replicas.put(name, createReplicaDataSource(name, replica));
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                properties.lagQuery(),
+                properties.maxLagSeconds(),
+                properties.validationTimeoutSeconds()
+        );
+        // 복제본별로 읽기에 쓰이고 있는지(1) 빠져 있는지(0)를 /actuator/metrics/board.datasource.replica.available로 본다.
+        routingDataSource.getReplicaNames().forEach(name -> Gauge
+                .builder("board.datasource.replica.available", routingDataSource, dataSource -> dataSource.isAvailable(name) ? 1 : 0)
+                .tag("replica", name)
+                .register(meterRegistry));
+
+        return routingDataSource;
+    }
+
+    /**
+     * jpa, JdbcTemplate 등이 주입받는 DataSource
+     * 연결을 첫 쿼리 때 얻어야 트랜잭션의 readOnly 여부를 보고 원본/복제본을 고를 수 있다.
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createReplicaDataSource(String name, ReplicaDataSourceProperties.Replica replica) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password());
+        if (replica.driverClassName() != null) {
+            builder.driverClassName(replica.driverClassName()); // 없으면 url을 보고 정한다.
+        }
+
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName(name);
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setInitializationFailTimeout(-1); // 복제본이 죽어 있어도 애플리케이션은 뜨고, 읽기는 원본으로 간다.
+
+        return dataSource;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.study.boardproject.config;
 
+import com.study.boardproject.domain.id.SnowflakeIdGenerator;
 import com.study.boardproject.dto.security.BoardPrincipal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -32,4 +34,12 @@ public class JpaConfig {
                 .map(BoardPrincipal::getUsername);
     }
 
+    /**
+     * JDBC로 직접 insert 하는 코드(게시글 일괄 가져오기 등)도 엔티티와 같은 id 생성기를 쓰도록 빈으로 등록한다.
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${board.id.node-id:0}") int nodeId) {
+        return SnowflakeIdGenerator.forNode(nodeId);
+    }
+
 }
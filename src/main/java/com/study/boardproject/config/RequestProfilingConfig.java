@@ -0,0 +1,66 @@
+package com.study.boardproject.config;
+
+import com.study.boardproject.actuator.RequestProfileEndpoint;
+import com.study.boardproject.profiling.JdbcProfilingSessionEventListener;
+import com.study.boardproject.profiling.RequestProfileRecorder;
+import com.study.boardproject.profiling.RequestProfilingFilter;
+import com.study.boardproject.profiling.RequestProfilingInterceptor;
+import com.study.boardproject.profiling.ServiceProfilingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+/**
+ * 컨트롤러 메서드별 성능 측정 (응답 시간 백분위, JDBC 문장 수/시간, 서비스, 매핑, 렌더링 시간)
+ * 응답마다 Server-Timing 헤더를 붙이므로 브라우저 개발자 도구에서 바로 볼 수 있고, 모은 값은 /actuator/requestprofile에서 본다.
+ * board.profiling.enabled=false로 끌 수 있다.
+ */
+@ConditionalOnProperty(prefix = "board.profiling", name = "enabled", matchIfMissing = true)
+@Configuration
+public class RequestProfilingConfig {
+
+    @Bean
+    public RequestProfileRecorder requestProfileRecorder(MeterRegistry meterRegistry) {
+        return new RequestProfileRecorder(meterRegistry);
+    }
+
+    /**
+     * security 필터보다 먼저 걸어서 인증에 쓴 시간까지 total에 넣는다.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(RequestProfileRecorder requestProfileRecorder) {
+        FilterRegistrationBean<RequestProfilingFilter> registration = new FilterRegistrationBean<>(new RequestProfilingFilter(requestProfileRecorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * MappedInterceptor 빈이라 data rest(/api)의 요청도 함께 잰다.
+     */
+    @Bean
+    public MappedInterceptor requestProfilingInterceptor() {
+        return new MappedInterceptor(null, new String[]{"/actuator/**", "/error"}, new RequestProfilingInterceptor());
+    }
+
+    @Bean
+    public ServiceProfilingAspect serviceProfilingAspect() {
+        return new ServiceProfilingAspect();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestProfilingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcProfilingSessionEventListener.class.getName());
+    }
+
+    @Bean
+    public RequestProfileEndpoint requestProfileEndpoint(RequestProfileRecorder requestProfileRecorder) {
+        return new RequestProfileEndpoint(requestProfileRecorder);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.study.boardproject.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling // 메모리 캐시 재조정 같은 주기 작업(@Scheduled)을 활성화한다.
+@Configuration
+public class SchedulingConfig {
+}
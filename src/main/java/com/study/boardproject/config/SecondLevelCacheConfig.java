@@ -0,0 +1,75 @@
+package com.study.boardproject.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * 요청마다 읽지만 거의 바뀌지 않는 엔티티(사용자 계정, 해시태그)와 게시글의 해시태그 컬렉션을 세션 밖에 캐시한다.
+ * 영역(region)마다 크기를 따로 정하고, 여기서 만들지 않은 영역을 쓰면 크기 제한 없는 캐시가 생기지 않도록 실행 시 실패하게 한다.
+ * 영역별 hit/miss 수는 /actuator/secondlevelcache에서 본다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_ACCOUNT = "userAccount";
+    public static final String HASHTAG = "hashtag";
+    public static final String ARTICLE_HASHTAGS = "articleHashtags";
+
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${board.cache.second-level.user-account-max-size:10000}") long userAccountMaxSize,
+            @Value("${board.cache.second-level.hashtag-max-size:10000}") long hashtagMaxSize,
+            @Value("${board.cache.second-level.article-hashtags-max-size:10000}") long articleHashtagsMaxSize,
+            @Value("${board.cache.second-level.query-results-max-size:1000}") long queryResultsMaxSize,
+            @Value("${board.cache.second-level.expire-after-write:1h}") Duration expireAfterWrite
+    ) {
+        // 전역 Caching 대신 provider를 직접 만들어서, 애플리케이션 컨텍스트(테스트 컨텍스트 포함)마다 캐시 매니저를 따로 갖게 한다.
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(USER_ACCOUNT, regionConfiguration(userAccountMaxSize, expireAfterWrite));
+        cacheManager.createCache(HASHTAG, regionConfiguration(hashtagMaxSize, expireAfterWrite));
+        cacheManager.createCache(ARTICLE_HASHTAGS, regionConfiguration(articleHashtagsMaxSize, expireAfterWrite));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, regionConfiguration(queryResultsMaxSize, expireAfterWrite));
+        // 테이블별 마지막 수정 시각이라 테이블 수만큼만 쌓이고, 지워지면 쿼리 캐시가 틀린 값을 줄 수 있으므로 제한을 두지 않는다.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, regionConfiguration(null, null));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(Long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate가 이미 분해된 값(CacheEntry)으로 넣으므로 직렬화 복사를 하지 않는다.
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+
+        return configuration;
+    }
+
+}
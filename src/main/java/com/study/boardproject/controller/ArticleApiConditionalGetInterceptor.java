@@ -0,0 +1,36 @@
+package com.study.boardproject.controller;
+
+import com.study.boardproject.service.ArticleVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * data rest 게시글 api(/api/articles, /api/articles/{articleId})의 조건부 GET 처리
+ * 버전이 같으면 data rest가 엔티티를 읽고 json을 만들기 전에 304로 끝낸다.
+ * 응답이 보는 사람과 상관없으므로 세션 구분 없이 버전만으로 ETag를 만든다.
+ */
+@RequiredArgsConstructor
+public class ArticleApiConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ArticleVersionService articleVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String articleId = path.substring(path.lastIndexOf('/') + 1);
+
+        String version;
+        if (articleId.equals("articles")) {
+            version = articleVersionService.getBoardVersion();
+        } else if (!articleId.isEmpty() && articleId.chars().allMatch(Character::isDigit)) {
+            version = articleVersionService.getArticleVersion(Long.valueOf(articleId)).orElse(null);
+        } else {
+            return true; // search 등 다른 경로는 그대로 처리한다.
+        }
+
+        return !ConditionalGetSupport.checkNotModified(request, response, version);
+    }
+
+}
@@ -1,23 +1,57 @@
 package com.study.boardproject.controller;
 
+import com.study.boardproject.dto.PageCursor;
 import com.study.boardproject.dto.UserAccountDto;
 import com.study.boardproject.dto.request.ArticleCommentRequest;
+import com.study.boardproject.dto.response.ArticleCommentSliceResponse;
 import com.study.boardproject.dto.security.BoardPrincipal;
 import com.study.boardproject.service.ArticleCommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.*;
 
 @RequiredArgsConstructor
 @RequestMapping("/comments")
 @Controller
 public class ArticleCommentController {
 
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+
     private final ArticleCommentService articleCommentService;
 
+    /**
+     * 댓글 스레드 조회 (JSON)
+     * 게시글의 최상위 댓글을 최신순으로 size개씩 내려준다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 이어서 받는다.
+     */
+    @ResponseBody
+    @GetMapping
+    public ArticleCommentSliceResponse articleComments(
+            @RequestParam Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ArticleCommentSliceResponse.from(
+                articleCommentService.searchRootComments(articleId, PageCursor.decode(cursor), clampPageSize(size))
+        );
+    }
+
+    /**
+     * 대댓글 조회 (JSON)
+     * 대댓글을 작성순으로 size개씩 내려준다.
+     */
+    @ResponseBody
+    @GetMapping("/{commentId}/replies")
+    public ArticleCommentSliceResponse replies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ArticleCommentSliceResponse.from(
+                articleCommentService.searchReplies(commentId, PageCursor.decode(cursor), clampPageSize(size))
+        );
+    }
+
     /**
      * 댓글 등록
      */
@@ -46,4 +80,8 @@ public class ArticleCommentController {
         return "redirect:/articles/" + articleId;
     }
 
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+    }
+
 }
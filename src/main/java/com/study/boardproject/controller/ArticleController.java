@@ -1,24 +1,51 @@
 package com.study.boardproject.controller;
 
+import com.study.boardproject.domain.constant.ArticleFileFormat;
 import com.study.boardproject.domain.constant.FormStatus;
 import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.dto.ArticleDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.dto.TrendingArticleDto;
+import com.study.boardproject.dto.request.ArticleExportRequest;
 import com.study.boardproject.dto.request.ArticleRequest;
+import com.study.boardproject.dto.response.ArticleImportResponse;
 import com.study.boardproject.dto.response.ArticleResponse;
 import com.study.boardproject.dto.response.ArticleWithCommentsResponse;
+import com.study.boardproject.dto.response.TrendingArticleResponse;
 import com.study.boardproject.dto.security.BoardPrincipal;
+import com.study.boardproject.service.ArticleDetailService;
+import com.study.boardproject.service.ArticleExportService;
+import com.study.boardproject.service.ArticleImportService;
 import com.study.boardproject.service.ArticleService;
+import com.study.boardproject.service.ArticleUniqueViewerCounter;
+import com.study.boardproject.service.ArticleVersionService;
+import com.study.boardproject.service.ArticleViewCounter;
 import com.study.boardproject.service.PaginationService;
+import com.study.boardproject.service.TrendingArticles;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -26,22 +53,51 @@ import java.util.List;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleDetailService articleDetailService;
     private final PaginationService paginationService;
+    private final ArticleImportService articleImportService;
+    private final ArticleExportService articleExportService;
+    private final ArticleVersionService articleVersionService;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleUniqueViewerCounter articleUniqueViewerCounter;
+    private final TrendingArticles trendingArticles;
 
     /**
      * 게시글 리스트 조회
+     * cursor 파라미터가 있으면(빈 값 포함) 커서 페이징 모드로 동작한다. 이때 page는 화면에 보여줄 페이지 번호로만 사용한다.
+     * 게시판 전체 버전이 브라우저가 가진 ETag와 같으면 게시글을 읽지 않고 304로 끝낸다.
+     * (조회수와 읽은 사람 수는 버전에 넣지 않아서 304일 때는 브라우저가 가진 값이 보인다. 넣으면 누가 글을 읽을 때마다 목록이 200이 된다.
+     *  목록의 글이 추가, 수정, 삭제되어 버전이 바뀌면 그때의 값으로 다시 그린다.)
      */
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            ModelMap map
+            ModelMap map,
+            ServletWebRequest webRequest
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        if (ConditionalGetSupport.checkNotModifiedForView(webRequest, articleVersionService.getBoardVersion())) {
+            return null; // 304 Not Modified
+        }
+
+        if (cursor != null) {
+            Slice<ArticleResponse> articles = articleService.searchArticlesAfter(searchType, searchValue, PageCursor.decode(cursor), pageable.getPageSize())
+                    .map(this::toArticleResponse);
+            addCursorAttributes(map, articles, pageable);
+            map.addAttribute("uniqueViewers", getUniqueViewers(articles));
+            map.addAttribute("searchTypes", SearchType.values());
+            map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+            return "articles/index";
+        }
+
+        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(this::toArticleResponse);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
+        map.addAttribute("uniqueViewers", getUniqueViewers(articles));
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
@@ -51,13 +107,37 @@ public class ArticleController {
 
     /**
      * 게시글 상세페이지
+     * 게시글과 댓글 트리는 캐시된 응답 객체를 쓰고, 보는 사람마다 다른 부분(csrf 토큰, 작성자 버튼)만 매번 렌더링한다.
+     * 게시글과 댓글이 브라우저가 가진 ETag 이후로 바뀌지 않았으면 댓글을 읽지 않고 304로 끝낸다.
+     * (totalCount는 다음 글 링크에만 쓰여서 버전에 넣지 않는다. 조회수도 넣지 않아서 304일 때는 브라우저가 가진 조회수가 보인다.)
+     * 있는 게시글이면 304여도 조회수와 읽은 사람을 센다.
      */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal,
+            ModelMap map,
+            ServletWebRequest webRequest
+    ) {
+        String version = articleVersionService.getArticleDetailVersion(articleId).orElse(null);
+        if (version != null) {
+            articleViewCounter.recordView(articleId);
+            trendingArticles.recordView(articleId);
+            String viewerKey = viewerKey(boardPrincipal, webRequest);
+            if (viewerKey != null) {
+                articleUniqueViewerCounter.recordViewer(articleId, viewerKey);
+            }
+        }
+        if (ConditionalGetSupport.checkNotModifiedForView(webRequest, version)) {
+            return null; // 304 Not Modified
+        }
+
+        ArticleWithCommentsResponse article = articleDetailService.getArticleDetail(articleId);
+        article = article.withViewCount(articleViewCounter.getViewCount(articleId, article.viewCount()));
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
+        map.addAttribute("uniqueViewers", articleUniqueViewerCounter.getUniqueViewers(articleId));
         map.addAttribute("totalCount", articleService.getArticleCount());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
@@ -67,10 +147,26 @@ public class ArticleController {
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            ModelMap map
+            ModelMap map,
+            ServletWebRequest webRequest
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        if (ConditionalGetSupport.checkNotModifiedForView(webRequest, articleVersionService.getBoardVersion())) {
+            return null; // 304 Not Modified
+        }
+
+        if (cursor != null) {
+            Slice<ArticleResponse> articles = articleService.searchArticlesViaHashtagAfter(searchValue, PageCursor.decode(cursor), pageable.getPageSize())
+                    .map(this::toArticleResponse);
+            addCursorAttributes(map, articles, pageable);
+            map.addAttribute("hashtags", articleService.getHashtags());
+            map.addAttribute("searchType", SearchType.HASHTAG);
+
+            return "articles/search-hashtag";
+        }
+
+        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(this::toArticleResponse);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
 
@@ -82,6 +178,25 @@ public class ArticleController {
         return "articles/search-hashtag";
     }
 
+    /**
+     * 인기 게시글 페이지
+     * 주기적으로 다시 계산해둔 순위(최대 top-k개)를 그대로 보여주므로 게시글을 읽지 않는다.
+     */
+    @GetMapping("/trending")
+    public String trending(ModelMap map) {
+        List<TrendingArticleDto> trending = trendingArticles.getTrendingArticles();
+        List<TrendingArticleResponse> articles = new ArrayList<>(trending.size());
+        for (int i = 0; i < trending.size(); i++) {
+            TrendingArticleDto dto = trending.get(i);
+            articles.add(TrendingArticleResponse.of(i + 1, toArticleResponse(dto.articleDto()), dto.score()));
+        }
+
+        map.addAttribute("trendingArticles", articles);
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/trending";
+    }
+
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -130,4 +245,79 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
-}
\ No newline at end of file
+    /**
+     * 게시글 일괄 가져오기 (JSON)
+     * 본문(NDJSON 또는 CSV)을 한 번에 읽지 않고 스트림으로 넘겨서 chunk 단위로 저장한다.
+     * 로그인한 사용자가 작성자가 되고, 저장한 수와 실패한 레코드의 줄 번호, 사유를 돌려준다.
+     */
+    @ResponseBody
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ArticleImportResponse importArticlesFromNdjson(
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal,
+            InputStream body
+    ) throws IOException {
+        return ArticleImportResponse.from(articleImportService.importArticles(body, ArticleFileFormat.NDJSON, boardPrincipal.toDto()));
+    }
+
+    @ResponseBody
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ArticleImportResponse importArticlesFromCsv(
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal,
+            InputStream body
+    ) throws IOException {
+        return ArticleImportResponse.from(articleImportService.importArticles(body, ArticleFileFormat.CSV, boardPrincipal.toDto()));
+    }
+
+    /**
+     * 게시글 내보내기 (NDJSON, CSV 파일)
+     * 조건(해시태그, 작성자, 작성일시 범위)에 맞는 게시글과 댓글을 id 순으로 응답에 바로 흘려보낸다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            ArticleExportRequest articleExportRequest,
+            @RequestParam(defaultValue = "NDJSON") ArticleFileFormat format
+    ) {
+        StreamingResponseBody body = output -> articleExportService.exportArticles(articleExportRequest, format, output);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(format.getMediaType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("articles." + format.getExtension()).build().toString())
+                .body(body);
+    }
+
+    // 목록의 조회수는 아직 DB에 반영되지 않은 값까지 더해서 보여준다.
+    private ArticleResponse toArticleResponse(ArticleDto dto) {
+        return ArticleResponse.from(dto).withViewCount(articleViewCounter.getViewCount(dto.id(), dto.viewCount()));
+    }
+
+    // 목록에 보이는 게시글들의 읽은 사람 수를 한 번에 읽는다.
+    private Map<Long, Long> getUniqueViewers(Slice<ArticleResponse> articles) {
+        return articleUniqueViewerCounter.getUniqueViewers(articles.map(ArticleResponse::id).getContent());
+    }
+
+    // 읽은 사람 구분 값, 로그인 사용자는 사용자 id로, 아니면 이미 있는 세션으로 구분한다. (세션을 새로 만들지 않는다.)
+    private String viewerKey(BoardPrincipal boardPrincipal, ServletWebRequest webRequest) {
+        if (boardPrincipal != null) {
+            return "user:" + boardPrincipal.getUsername();
+        }
+
+        HttpSession session = webRequest.getRequest().getSession(false);
+        return session == null ? null : "session:" + session.getId();
+    }
+
+    // 커서 페이징 모드에서 화면에 필요한 값들 (마지막 게시글로 다음 커서를 만든다.)
+    private void addCursorAttributes(ModelMap map, Slice<ArticleResponse> articles, Pageable pageable) {
+        String nextCursor = null;
+        if (articles.hasNext()) {
+            ArticleResponse last = articles.getContent().get(articles.getNumberOfElements() - 1);
+            nextCursor = PageCursor.of(last.createdAt(), last.id()).encode();
+        }
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("paginationBarNumbers", paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.hasNext()));
+        map.addAttribute("cursorMode", true);
+        map.addAttribute("currentPage", pageable.getPageNumber());
+        map.addAttribute("nextCursor", nextCursor);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.study.boardproject.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 조건부 GET(If-None-Match -> 304 Not Modified) 처리
+ * 버전 값으로 weak ETag를 만들고, 요청의 ETag와 같으면 304 응답을 준비한다. (호출한 쪽은 응답을 만들지 않고 끝내면 된다.)
+ * spring security는 기본으로 no-store를 붙여서 브라우저가 저장하지 않으므로, 저장은 하되 매번 다시 확인하도록 private, no-cache를 직접 붙인다.
+ */
+public final class ConditionalGetSupport {
+
+    private ConditionalGetSupport() {}
+
+    /**
+     * 화면(Thymeleaf)용. 로그인 정보와 세션의 csrf 토큰이 화면에 들어가므로 세션마다 ETag를 다르게 만든다.
+     */
+    public static boolean checkNotModifiedForView(ServletWebRequest webRequest, String version) {
+        HttpSession session = webRequest.getRequest().getSession(false); // 세션을 새로 만들지 않는다.
+        String viewer = session == null ? "none" : Integer.toHexString(session.getId().hashCode());
+
+        return checkNotModified(webRequest, version + "-" + viewer);
+    }
+
+    /**
+     * 보는 사람과 상관없이 같은 응답(api)용
+     */
+    public static boolean checkNotModified(ServletWebRequest webRequest, String version) {
+        String method = webRequest.getRequest().getMethod();
+        if (version == null || !("GET".equals(method) || "HEAD".equals(method))) {
+            return false;
+        }
+
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+
+        return webRequest.checkNotModified("W/\"" + version + "\"");
+    }
+
+    public static boolean checkNotModified(HttpServletRequest request, HttpServletResponse response, String version) {
+        return checkNotModified(new ServletWebRequest(request, response), version);
+    }
+
+}
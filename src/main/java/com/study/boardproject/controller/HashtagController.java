@@ -0,0 +1,38 @@
+package com.study.boardproject.controller;
+
+import com.study.boardproject.dto.response.HashtagSuggestionResponse;
+import com.study.boardproject.service.HashtagDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+@Controller
+public class HashtagController {
+
+    private final HashtagDictionary hashtagDictionary;
+
+    /**
+     * 해시태그 자동완성 (JSON)
+     * prefix로 시작하는 해시태그를 게시글 수가 많은 순으로 size개(최대 10개)까지 내려준다. 입력 중인 한글 음절도 자모 단위로 맞춘다.
+     * 메모리의 해시태그 사전만 읽으므로 DB를 거치지 않는다.
+     */
+    @ResponseBody
+    @GetMapping("/autocomplete")
+    public List<HashtagSuggestionResponse> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        int limit = Math.max(1, Math.min(size, HashtagDictionary.SUGGESTION_LIMIT));
+        return hashtagDictionary.suggest(prefix.replace("#", ""), limit).stream()
+                .map(HashtagSuggestionResponse::from)
+                .toList();
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.study.boardproject.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정 (board.datasource.*)
+ * 원본 연결 정보는 그대로 spring.datasource.*를 쓴다.
+ *
+ * @param replicas 복제본 목록, 비어 있으면 모든 쿼리가 원본으로 간다.
+ * @param lagQuery 복제본에서 복제 지연(초)을 숫자 하나로 돌려주는 쿼리, 비워두면 지연은 보지 않는다.
+ * @param maxLagSeconds 이보다 지연된 복제본은 따라잡을 때까지 읽기에서 뺀다.
+ * @param validationTimeoutSeconds 상태 확인에서 연결 확인과 lag-query를 기다리는 시간
+ */
+@ConfigurationProperties("board.datasource")
+public record ReplicaDataSourceProperties(
+        @DefaultValue List<Replica> replicas,
+        String lagQuery,
+        @DefaultValue("10") long maxLagSeconds,
+        @DefaultValue("2") int validationTimeoutSeconds
+) {
+
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.study.boardproject.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지는 원본(primary)으로 보내는 DataSource
+ * - 복제본이 여러 개면 돌아가면서 고르고, 상태 확인에서 빠진 복제본은 건너뛴다.
+ * - 상태 확인(checkReplicas)은 연결이 살아있는지와 lag-query로 읽은 복제 지연(초)을 본다. 지연이 max-lag-seconds를 넘으면 따라잡을 때까지 뺀다.
+ * - 쓸 수 있는 복제본이 없거나 복제본에서 연결을 못 얻으면 원본으로 보낸다.
+ * 트랜잭션이 읽기 전용인지는 트랜잭션 매니저가 연결을 얻은 뒤에 정해지므로, 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 때 연결을 고르게 해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * @param replicas 복제본 이름 -> DataSource
+     * @param lagQuery 복제 지연(초)을 숫자 하나로 돌려주는 쿼리, null이면 지연은 보지 않는다.
+     */
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            String lagQuery,
+            long maxLagSeconds,
+            int validationTimeoutSeconds
+    ) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 복제본마다 연결과 복제 지연을 확인해서 쓸 수 있는지 다시 정한다.
+     */
+    @Scheduled(fixedDelayString = "${board.datasource.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    replica.markUnavailable("연결 확인 실패");
+                    continue;
+                }
+                if (lagQuery != null) {
+                    Double lagSeconds = readLagSeconds(connection);
+                    if (lagSeconds == null || lagSeconds > maxLagSeconds) {
+                        // null은 복제가 멈춰 있다는 뜻이다. (mysql의 Seconds_Behind_Source와 같다.)
+                        replica.markUnavailable("복제 지연 " + lagSeconds + "초");
+                        continue;
+                    }
+                }
+                replica.markAvailable();
+            } catch (SQLException e) {
+                replica.markUnavailable("연결 실패 - " + e.getMessage());
+            }
+        }
+    }
+
+    public List<String> getReplicaNames() {
+        return replicas.stream().map(replica -> replica.name).toList();
+    }
+
+    public boolean isAvailable(String replicaName) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(replicaName) && replica.available);
+    }
+
+    /**
+     * 복제본 연결 풀을 닫는다. 원본은 따로 등록된 빈이라 여기서 닫지 않는다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection getConnection(ConnectionSupplier supplier) throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Replica replica = nextAvailableReplica();
+            if (replica != null) {
+                try {
+                    return supplier.get(replica.dataSource);
+                } catch (SQLException e) {
+                    replica.markUnavailable("연결 실패 - " + e.getMessage()); // 다음 상태 확인에서 살아나면 다시 쓴다.
+                }
+            }
+        }
+
+        return supplier.get(primary);
+    }
+
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (replica.available) {
+                return replica;
+            }
+        }
+
+        return null;
+    }
+
+    private Double readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(validationTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                Object lag = resultSet.getObject(1);
+                return lag instanceof Number number ? number.doubleValue() : null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true; // 첫 상태 확인 전에는 쓸 수 있다고 보고, 연결에 실패하면 바로 뺀다.
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markAvailable() {
+            if (!available) {
+                log.info("복제본 복구 - replica: {}", name);
+            }
+            available = true;
+        }
+
+        private void markUnavailable(String reason) {
+            if (available) {
+                log.warn("복제본 제외 - replica: {}, reason: {}", name, reason);
+            }
+            available = false;
+        }
+
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.study.boardproject.domain;
 
+import com.study.boardproject.config.SecondLevelCacheConfig;
+import com.study.boardproject.domain.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
@@ -11,13 +16,15 @@ import java.util.*;
 @Table(indexes = { // index를 걸어준다.
         @Index(columnList = "title"),
         @Index(columnList = "createdAt"),
+        @Index(columnList = "createdAt, id"), // 커서 페이징(createdAt DESC, id DESC)용
+        @Index(columnList = "modifiedAt"), // 게시판 전체 버전(가장 최근 수정일시) 조회용
         @Index(columnList = "createdBy")
 })
 @Entity
 public class Article extends AuditingFields{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // IDENTITY는 insert마다 바로 실행해서 키를 읽어야 해서 batch insert가 꺼진다.
     private Long id;
 
     @Setter
@@ -34,6 +41,11 @@ public class Article extends AuditingFields{
     @Column(nullable = false, length = 10000)
     private String content; // 본문
 
+    // 조회수는 ArticleViewCounter가 모아서 update 문으로만 더한다. 엔티티를 수정할 때 옛 값으로 덮어쓰지 않도록 update에서 뺀다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount = 0; // 조회수
+
     @ToString.Exclude
     @JoinTable( // 연관관계의 주인설정(article이 주인) joinTable은 주인관계한테만 적어준다.
             name = "article_hashtag",
@@ -41,6 +53,7 @@ public class Article extends AuditingFields{
             inverseJoinColumns = @JoinColumn(name = "hashtagId")
     )
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}) // insert, update변경이 있을때만 hashtag도 동기화시킨다는 뜻이다.
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTICLE_HASHTAGS) // 해시태그 id 목록만 캐시하고, 해시태그 자체는 Hashtag 영역에서 읽는다.
     private Set<Hashtag> hashtags = new LinkedHashSet<>(); // 해시태그
 
     // List,Set으로 설정가능 (중복허용x로 set사용함)
@@ -71,6 +84,11 @@ public class Article extends AuditingFields{
         this.getHashtags().addAll(hashtags);
     }
 
+    // 해시태그 일부 삭제
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        hashtags.forEach(this.getHashtags()::remove);
+    }
+
     // 해시태그 삭제
     public void clearHashtags() {
         this.getHashtags().clear();
@@ -1,5 +1,6 @@
 package com.study.boardproject.domain;
 
+import com.study.boardproject.domain.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.apache.catalina.User;
@@ -13,14 +14,16 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "articleId, createdAt, id"), // 댓글 스레드 커서 페이징용
+        @Index(columnList = "parent_comment_id, createdAt, id") // 대댓글 페이징, 대댓글 수 집계용
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class ArticleComment extends AuditingFields{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Setter
@@ -0,0 +1,70 @@
+package com.study.boardproject.domain;
+
+import com.study.boardproject.sketch.HyperLogLog;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * 게시글을 읽은 사람 수를 추정하는 HyperLogLog 스케치 (게시글 하나에 한 행)
+ * (사용자, 게시글)마다 행을 남기지 않고 게시글마다 최대 2KB 남짓한 스케치 하나만 둔다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ArticleViewerSketch {
+
+    @Id
+    private Long articleId; // 게시글 id
+
+    @ToString.Exclude
+    @Column(nullable = false, length = 2050) // HyperLogLog.maxSerializedSize(DEFAULT_PRECISION)
+    private byte[] sketch;
+
+    // 목록에서는 스케치를 읽지 않고 이 값만 읽도록 합칠 때마다 같이 저장한다.
+    @Column(nullable = false)
+    private long uniqueViewers; // 읽은 사람 수 (추정값)
+
+    // 여러 노드가 같은 행을 동시에 합치면 늦은 쪽을 실패시키고, 그 노드는 다음 주기에 다시 합친다.
+    @Version
+    private Long version;
+
+    private ArticleViewerSketch(Long articleId) {
+        this.articleId = articleId;
+        this.sketch = new HyperLogLog().toBytes();
+    }
+
+    public static ArticleViewerSketch of(Long articleId) {
+        return new ArticleViewerSketch(articleId);
+    }
+
+    /**
+     * 다른 노드가 먼저 합친 값 위에 viewers를 합친다. 같은 사람을 여러 번 합쳐도 한 번만 센다.
+     */
+    public void merge(HyperLogLog viewers) {
+        HyperLogLog merged = HyperLogLog.fromBytes(sketch).merge(viewers);
+        this.sketch = merged.toBytes();
+        this.uniqueViewers = merged.estimate();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleViewerSketch that)) return false;
+        return this.getArticleId() != null && this.getArticleId().equals(that.getArticleId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getArticleId());
+    }
+
+}
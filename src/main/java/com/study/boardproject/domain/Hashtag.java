@@ -1,7 +1,11 @@
 package com.study.boardproject.domain;
 
+import com.study.boardproject.config.SecondLevelCacheConfig;
+import com.study.boardproject.domain.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -15,11 +19,13 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.HASHTAG)
 @Entity
 public class Hashtag extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ToString.Exclude // toString 순환참조를 방지해준다.
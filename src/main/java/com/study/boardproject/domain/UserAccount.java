@@ -1,9 +1,12 @@
 package com.study.boardproject.domain;
 
+import com.study.boardproject.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Objects;
 
@@ -14,6 +17,8 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable // 게시글, 댓글 작성자와 로그인 사용자 조회마다 읽히므로 2차 캐시에 둔다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_ACCOUNT)
 @Entity
 public class UserAccount extends AuditingFields {
 
@@ -0,0 +1,22 @@
+package com.study.boardproject.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 가져오기/내보내기 파일 형식
+ */
+public enum ArticleFileFormat {
+    NDJSON("application/x-ndjson", "ndjson", "한 줄에 게시글 JSON 객체 하나"),
+    CSV("text/csv", "csv", "첫 줄이 컬럼 헤더인 CSV (RFC 4180 따옴표 규칙)");
+
+    @Getter private final String mediaType;
+    @Getter private final String extension;
+    @Getter private final String description;
+
+    ArticleFileFormat(String mediaType, String extension, String description) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.study.boardproject.domain.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 증가하는 노드 로컬 id 생성기 (Snowflake 방식)
+ * DB를 거치지 않고 id를 만들 수 있어서 IDENTITY와 달리 Hibernate가 insert를 JDBC batch로 묶을 수 있고, 여러 노드가 동시에 만들어도 겹치지 않는다.
+ * <p>
+ * id 구성 (53비트): [타임스탬프(ms, 2023-01-01부터) 41비트][노드 id 5비트][순번 7비트]
+ * - JSON으로 내려간 id를 자바스크립트 number로 읽어도 값이 깨지지 않도록 2^53 안에 맞췄다. (41비트 타임스탬프는 약 69년)
+ * - 노드 id는 0 ~ 31, 같은 밀리초 안에서 노드마다 128개까지 만들고 넘치면 다음 밀리초 값을 미리 당겨 쓴다.
+ * - 시계가 뒤로 가도 마지막으로 쓴 타임스탬프에서 순번을 이어가므로 id는 계속 증가한다. (시계가 따라잡으면 다시 현재 시각을 쓴다.)
+ * 타임스탬프와 순번을 long 하나에 담아 CAS로 갱신하므로 락이 없다.
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final Map<Integer, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong(); // (타임스탬프 << SEQUENCE_BITS) | 순번
+
+    public SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. - nodeId: " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드마다 하나의 생성기를 같이 쓴다. (Hibernate와 JDBC로 넣는 코드가 같은 테이블에 같은 id를 만들지 않도록)
+     */
+    public static SnowflakeIdGenerator forNode(int nodeId) {
+        return GENERATORS.computeIfAbsent(nodeId, id -> new SnowflakeIdGenerator(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // 현재 시각이 마지막 타임스탬프보다 뒤면 순번 0부터, 아니면(같은 밀리초, 시계 역행) 순번을 올린다. 순번이 넘치면 타임스탬프 자리로 올라간다.
+            next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+        } while (!state.compareAndSet(current, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public static long timestampMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.study.boardproject.dto;
+
+/**
+ * 댓글 스레드의 한 항목: 댓글과 그 댓글에 달린 대댓글 수
+ * 대댓글 자체는 담지 않고 필요할 때 따로 불러온다.
+ */
+public record ArticleCommentThreadDto(
+        ArticleCommentDto articleCommentDto,
+        long childCount
+) {
+
+    public static ArticleCommentThreadDto of(ArticleCommentDto articleCommentDto, long childCount) {
+        return new ArticleCommentThreadDto(articleCommentDto, childCount);
+    }
+
+}
@@ -20,18 +20,19 @@ public record ArticleDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount // DB에 반영된 조회수
 ) {
 
 
     // request에서 사용될 ArticleDto를 만들때 사용되는 factory 메소드
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null);
+        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null, 0);
     }
 
     // 테스트 코드에서 사용되는 factory 메소드
     public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0);
     }
 
     /**
@@ -50,7 +51,8 @@ public record ArticleDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount()
         );
     }
 
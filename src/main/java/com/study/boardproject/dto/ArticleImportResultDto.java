@@ -0,0 +1,30 @@
+package com.study.boardproject.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 결과
+ * failures는 앞에서부터 일부만 담고, 실패한 전체 수는 failedCount로 센다.
+ */
+public record ArticleImportResultDto(
+        long importedCount,
+        long failedCount,
+        List<Failure> failures
+) {
+
+    public static ArticleImportResultDto of(long importedCount, long failedCount, List<Failure> failures) {
+        return new ArticleImportResultDto(importedCount, failedCount, failures);
+    }
+
+    /**
+     * 실패한 레코드 (lineNumber는 레코드가 시작하는 본문 줄 번호)
+     */
+    public record Failure(long lineNumber, String message) {
+
+        public static Failure of(long lineNumber, String message) {
+            return new Failure(lineNumber, message);
+        }
+
+    }
+
+}
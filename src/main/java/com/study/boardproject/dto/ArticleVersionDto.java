@@ -0,0 +1,29 @@
+package com.study.boardproject.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 게시글 상세 화면이 바뀌었는지 판단하는 값 (게시글 수정일시, 가장 최근 댓글 수정일시, 댓글 수)
+ * 댓글을 지우면 최근 수정일시는 그대로일 수 있으므로 댓글 수도 같이 본다.
+ */
+public record ArticleVersionDto(
+        Long articleId,
+        LocalDateTime modifiedAt,
+        LocalDateTime lastCommentModifiedAt,
+        Long commentCount
+) {
+
+    public static ArticleVersionDto of(Long articleId, LocalDateTime modifiedAt, LocalDateTime lastCommentModifiedAt, Long commentCount) {
+        return new ArticleVersionDto(articleId, modifiedAt, lastCommentModifiedAt, commentCount);
+    }
+
+    public String toVersion() {
+        return articleId + "-" + toEpochMilli(modifiedAt) + "-" + toEpochMilli(lastCommentModifiedAt) + "-" + commentCount;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+}
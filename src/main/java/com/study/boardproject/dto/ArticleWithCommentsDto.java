@@ -4,6 +4,7 @@ import com.study.boardproject.domain.Article;
 import com.study.boardproject.domain.Hashtag;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -18,10 +19,11 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount // DB에 반영된 조회수
 ) {
     public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0);
     }
 
     // entity를 dto로
@@ -42,8 +44,32 @@ public record ArticleWithCommentsDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount()
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * 게시글 엔티티와 따로 조회한 댓글 dto로 만든다.
+     * 댓글 연관관계(articleComments)를 건드리지 않으므로 댓글 수만큼 지연 로딩이 일어나지 않는다. 댓글 순서는 그대로 유지한다.
+     */
+    public static ArticleWithCommentsDto from(Article entity, Collection<ArticleCommentDto> articleCommentDtos) {
+        return new ArticleWithCommentsDto(
+                entity.getId(),
+                UserAccountDto.from(entity.getUserAccount()),
+                new LinkedHashSet<>(articleCommentDtos),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(HashtagDto::from)
+                        .collect(Collectors.toUnmodifiableSet())
+                ,
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy(),
+                entity.getViewCount()
+        );
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.study.boardproject.dto;
+
+/**
+ * 해시태그 사전에 올리는 해시태그 요약 (id, 이름, 게시글 수)
+ */
+public record HashtagSummaryDto(
+        Long id,
+        String hashtagName,
+        long articleCount
+) {
+
+    public static HashtagSummaryDto of(Long id, String hashtagName, long articleCount) {
+        return new HashtagSummaryDto(id, hashtagName, articleCount);
+    }
+
+}
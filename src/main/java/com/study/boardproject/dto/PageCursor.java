@@ -0,0 +1,49 @@
+package com.study.boardproject.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징에서 "마지막으로 본 게시글"의 위치
+ * 정렬 기준이 createdAt DESC, id DESC 이므로 두 값을 함께 들고 있어야 작성일이 같은 글도 빠짐없이 넘길 수 있다.
+ * 화면에는 내부 구조가 드러나지 않도록 base64url 문자열(token)로 인코딩해서 내보낸다.
+ */
+public record PageCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * token을 커서로 되돌린다.
+     * 비어 있거나 형식이 맞지 않는 token은 첫 페이지 요청으로 보고 null을 반환한다.
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.study.boardproject.dto;
+
+/**
+ * 인기 게시글 순위의 한 줄 (게시글 + 시간에 따라 줄어드는 점수)
+ */
+public record TrendingArticleDto(
+        ArticleDto articleDto,
+        double score
+) {
+
+    public static TrendingArticleDto of(ArticleDto articleDto, double score) {
+        return new TrendingArticleDto(articleDto, score);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.study.boardproject.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기 조건 (값이 없는 조건은 걸지 않는다.)
+ * 작성일시는 createdFrom 이상, createdTo 미만이다.
+ */
+public record ArticleExportRequest(
+        String hashtagName,
+        String userId,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+) {
+
+    public static ArticleExportRequest of(String hashtagName, String userId, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return new ArticleExportRequest(hashtagName, userId, createdFrom, createdTo);
+    }
+
+}
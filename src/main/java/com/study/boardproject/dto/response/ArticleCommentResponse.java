@@ -4,6 +4,7 @@ import com.study.boardproject.dto.ArticleCommentDto;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -53,6 +54,28 @@ public record ArticleCommentResponse(
         );
     }
 
+    /**
+     * 대댓글을 이미 정렬된 순서(createdAt ASC, id ASC)로 넣어줄 때 사용한다.
+     * TreeSet 대신 삽입 순서를 유지하는 LinkedHashSet을 사용해서 대댓글마다 비교 정렬을 하지 않는다.
+     */
+    public static ArticleCommentResponse fromOrdered(ArticleCommentDto dto) {
+        String nickname = dto.userAccountDto().nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userAccountDto().userId();
+        }
+
+        return new ArticleCommentResponse(
+                dto.id(),
+                dto.content(),
+                dto.createdAt(),
+                dto.userAccountDto().email(),
+                nickname,
+                dto.userAccountDto().userId(),
+                dto.parentCommentId(),
+                new LinkedHashSet<>()
+        );
+    }
+
     /**
      * 부모댓글을 가졌는지 확인하는 메서드
      * parentCommentId가 null이 아니면 true
@@ -0,0 +1,37 @@
+package com.study.boardproject.dto.response;
+
+import com.study.boardproject.dto.ArticleCommentThreadDto;
+import com.study.boardproject.dto.PageCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드 API 응답 (한 페이지 분량)
+ * 다음 페이지가 있으면 nextCursor를 그대로 cursor 파라미터로 넘겨서 이어서 불러온다.
+ */
+public record ArticleCommentSliceResponse(
+        List<ArticleCommentThreadResponse> comments,
+        boolean hasNext,
+        String nextCursor
+) {
+
+    public static ArticleCommentSliceResponse of(List<ArticleCommentThreadResponse> comments, boolean hasNext, String nextCursor) {
+        return new ArticleCommentSliceResponse(comments, hasNext, nextCursor);
+    }
+
+    public static ArticleCommentSliceResponse from(Slice<ArticleCommentThreadDto> slice) {
+        List<ArticleCommentThreadResponse> comments = slice.getContent().stream()
+                .map(ArticleCommentThreadResponse::from)
+                .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !comments.isEmpty()) {
+            ArticleCommentThreadResponse last = comments.get(comments.size() - 1);
+            nextCursor = PageCursor.of(last.createdAt(), last.id()).encode();
+        }
+
+        return new ArticleCommentSliceResponse(comments, slice.hasNext(), nextCursor);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.study.boardproject.dto.response;
+
+import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleCommentThreadDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드 API의 댓글 한 개
+ * 대댓글 목록 대신 대댓글 수(childCount)를 내려주고, 화면에서 필요할 때 /comments/{id}/replies로 불러온다.
+ */
+public record ArticleCommentThreadResponse(
+        Long id,
+        String content,
+        LocalDateTime createdAt,
+        String email,
+        String nickname,
+        String userId,
+        Long parentCommentId,
+        long childCount
+) {
+
+    public static ArticleCommentThreadResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId, long childCount) {
+        return new ArticleCommentThreadResponse(id, content, createdAt, email, nickname, userId, parentCommentId, childCount);
+    }
+
+    public static ArticleCommentThreadResponse from(ArticleCommentThreadDto dto) {
+        ArticleCommentDto comment = dto.articleCommentDto();
+        String nickname = comment.userAccountDto().nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = comment.userAccountDto().userId();
+        }
+
+        return new ArticleCommentThreadResponse(
+                comment.id(),
+                comment.content(),
+                comment.createdAt(),
+                comment.userAccountDto().email(),
+                nickname,
+                comment.userAccountDto().userId(),
+                comment.parentCommentId(),
+                dto.childCount()
+        );
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.study.boardproject.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 내보내기 NDJSON 한 줄 (게시글 하나와 그 댓글 전체)
+ */
+public record ArticleExportResponse(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        List<String> hashtags,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy,
+        List<CommentResponse> comments
+) {
+
+    public static ArticleExportResponse of(Long id, String userId, String title, String content, List<String> hashtags, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, List<CommentResponse> comments) {
+        return new ArticleExportResponse(id, userId, title, content, hashtags, createdAt, createdBy, modifiedAt, modifiedBy, comments);
+    }
+
+    public record CommentResponse(
+            Long id,
+            Long parentCommentId,
+            String userId,
+            String content,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime modifiedAt,
+            String modifiedBy
+    ) {
+
+        public static CommentResponse of(Long id, Long parentCommentId, String userId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+            return new CommentResponse(id, parentCommentId, userId, content, createdAt, createdBy, modifiedAt, modifiedBy);
+        }
+
+    }
+
+}
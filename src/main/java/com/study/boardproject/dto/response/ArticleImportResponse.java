@@ -0,0 +1,33 @@
+package com.study.boardproject.dto.response;
+
+import com.study.boardproject.dto.ArticleImportResultDto;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 API 응답
+ */
+public record ArticleImportResponse(
+        long imported,
+        long failed,
+        List<FailureResponse> failures
+) {
+
+    public static ArticleImportResponse of(long imported, long failed, List<FailureResponse> failures) {
+        return new ArticleImportResponse(imported, failed, failures);
+    }
+
+    public static ArticleImportResponse from(ArticleImportResultDto dto) {
+        return new ArticleImportResponse(
+                dto.importedCount(),
+                dto.failedCount(),
+                dto.failures().stream()
+                        .map(failure -> new FailureResponse(failure.lineNumber(), failure.message()))
+                        .toList()
+        );
+    }
+
+    public record FailureResponse(long lineNumber, String message) {
+    }
+
+}
@@ -14,11 +14,12 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long viewCount
 ) {
 
     public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, 0);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -37,8 +38,16 @@ public record ArticleResponse(
                 ,
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.viewCount()
         );
     }
 
+    /**
+     * 아직 DB에 반영되지 않은 조회수까지 더한 값으로 바꾼다. (ArticleViewCounter)
+     */
+    public ArticleResponse withViewCount(long viewCount) {
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, viewCount);
+    }
+
 }
\ No newline at end of file
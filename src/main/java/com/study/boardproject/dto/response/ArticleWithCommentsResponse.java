@@ -5,11 +5,7 @@ import com.study.boardproject.dto.ArticleWithCommentsDto;
 import com.study.boardproject.dto.HashtagDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -24,9 +20,15 @@ public record ArticleWithCommentsResponse(
         String email,
         String nickname,
         String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
+        Set<ArticleCommentResponse> articleCommentsResponse,
+        long viewCount
 ) {
 
+    // DB 조회 순서와 같은 댓글 정렬 기준
+    private static final Comparator<ArticleCommentDto> COMMENT_ORDER = Comparator
+            .comparing(ArticleCommentDto::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ArticleCommentDto::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     // factory 메소드로 만든 ArticleWithCommentsResponse의 생성자 메소드다.
     public static ArticleWithCommentsResponse of(Long id,
                                                  String title,
@@ -46,7 +48,8 @@ public record ArticleWithCommentsResponse(
                 email,
                 nickname,
                 userId,
-                articleCommentResponses);
+                articleCommentResponses,
+                0);
     }
 
     /**
@@ -71,57 +74,62 @@ public record ArticleWithCommentsResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                organizeChildComments(dto.articleCommentDtos()) // dto안의 articleCommentDtos()를 인자로 넣어준다.
+                organizeChildComments(dto.articleCommentDtos()), // dto안의 articleCommentDtos()를 인자로 넣어준다.
+                dto.viewCount()
         );
     }
 
+    /**
+     * 아직 DB에 반영되지 않은 조회수까지 더한 값으로 바꾼다. (ArticleViewCounter)
+     * 캐시된 객체는 그대로 두고 새 객체를 만든다. 댓글 트리는 같은 객체를 같이 쓴다.
+     */
+    public ArticleWithCommentsResponse withViewCount(long viewCount) {
+        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentsResponse, viewCount);
+    }
+
     /**
      * 댓글, 대댓글 세팅하는 메소드
+     * 1. 댓글을 createdAt ASC, id ASC 순서의 리스트로 만든다. (DB에서 이미 이 순서로 가져오므로 TimSort는 한 번 훑고 끝난다.)
+     * 2. 이 순서대로 부모 댓글의 childComments(LinkedHashSet)에 넣으면 대댓글은 별도 정렬 없이 오름차순이 된다.
+     * 3. 최상위 댓글은 뒤에서부터 읽어서 createdAt 내림차순으로 만들되, 작성시간이 같은 댓글끼리는 id 오름차순을 유지한다.
      */
     private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos) {
-        /**
-         * 1. Set<ArticleCommentDto>를 Map<Long, ArticleCommentResponse>으로 변환하는 작업 실시
-         * 2. ArticleCommentResponse::id를 통해 각 객체의 id를 키로, 그리고 Function.identity()를 통해 각 객체 그대로를 값으로 가지는 Map이 생성된다.
-         *    그래서 결과적으로 id를 키로, 해당 id를 가진 ArticleCommentResponse 객체를 값으로 하는 Map을 반환하는 것이다..
-         */
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-                .map(ArticleCommentResponse::from)
-                .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()));
-
-        /**
-         * 1. 부모댓글이 있는것만 filtering해서 꺼낸다음 사용한다.
-         * 2. forEach 안의 comment는 filtering으로 꺼내온 자식댓글이다. 이 자식댓글을 반복문을 돌려 작업을 실시한다.
-         * 3. comment.parentCommentId()로 부모 댓글id를 에서 꺼내서 가져온 다음 map.get()안에 id를 넣어서 ArticleCommentResponse를 받아온다.
-         * 4. 이제 꺼내온 ArticleCommentResponse 객체 안에 childComments 필드인 Set에 필터링해서 꺼낸 자식 댓글을 넣어준다.
-         */
-        map.values().stream()
-                .filter(ArticleCommentResponse::hasParentComment) //
-                .forEach(comment -> {
-                    ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);
-                });
+        List<ArticleCommentDto> orderedDtos = new ArrayList<>(dtos);
+        orderedDtos.sort(COMMENT_ORDER);
 
+        Map<Long, ArticleCommentResponse> responses = new HashMap<>(orderedDtos.size() * 2);
+        List<ArticleCommentResponse> rootComments = new ArrayList<>();
+        for (ArticleCommentDto dto : orderedDtos) {
+            ArticleCommentResponse response = ArticleCommentResponse.fromOrdered(dto);
+            responses.put(response.id(), response);
+            if (!response.hasParentComment()) {
+                rootComments.add(response);
+            }
+        }
 
-        /**
-         * 1. 한번 더 values 스트림을 돈다.
-         * 2. 위의 stream과 반대로 여기서는 댓글이 부모 댓글을 가지고 있지 않은지 체크한다.(최상위 댓글인지 체크한다.)
-         * 3. 체크를 하고 이 map의 내용을 Collection형태로 만들면서 TreeSet을 사용하여 댓글과 대댓글을 각각 정렬을 해준다. (대댓글 정렬, 댓글 정렬이 각각 따로 적용되어야 한다.)
-         *    [순서가 보장되어야 하니 TreeSet을 사용한다.]
-         * 4. Comparator.comparing(ArticleCommentResponse::createdAt)으로 생성시간을 가져온다.
-         * 5. createdAt은 내림차순 정렬이니 제일 먼저 써주고 다음에 .reversed()로 오름차순으로 바꿔준다.
-         * 6. 이후 .thenComparingLong(ArticleCommentResponse::id) 이 코드를 통해 혹시 동일한 시간이 존재할지도 모르니 그때를 대비해서 id를 기준으로 하는 오름차순도 넣어준다.
-         */
-        return map.values().stream()
-                .filter(comment -> !comment.hasParentComment())
-                .collect(Collectors.toCollection(() ->
-                        new TreeSet<>(Comparator
-                                .comparing(ArticleCommentResponse::createdAt)
-                                .reversed() // 오름차순으로 바꿔준다.
-                                .thenComparingLong(ArticleCommentResponse::id)
+        // 부모 댓글이 자식보다 늦게 정렬되는 경우(작성시간이 역전된 데이터)도 있으므로 응답을 다 만든 뒤에 연결한다.
+        for (ArticleCommentDto dto : orderedDtos) {
+            if (dto.parentCommentId() != null) {
+                ArticleCommentResponse parentComment = responses.get(dto.parentCommentId());
+                if (parentComment != null) {
+                    parentComment.childComments().add(responses.get(dto.id()));
+                }
+            }
+        }
 
-                        ) // 순서가 보장되어야 하니 TreeSet을 사용한다.
-                    )); // 대댓글 정렬 따로 댓글 정렬이 따로 적용되어야 한다.
+        Set<ArticleCommentResponse> result = new LinkedHashSet<>(rootComments.size() * 2);
+        int end = rootComments.size();
+        while (end > 0) {
+            int start = end - 1;
+            LocalDateTime createdAt = rootComments.get(start).createdAt();
+            while (start > 0 && Objects.equals(rootComments.get(start - 1).createdAt(), createdAt)) {
+                start--;
+            }
+            result.addAll(rootComments.subList(start, end));
+            end = start;
+        }
 
+        return result;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.study.boardproject.dto.response;
+
+import com.study.boardproject.dto.HashtagSummaryDto;
+
+/**
+ * 해시태그 자동완성 API 응답 (해시태그 하나)
+ */
+public record HashtagSuggestionResponse(
+        String hashtagName,
+        long articleCount
+) {
+
+    public static HashtagSuggestionResponse of(String hashtagName, long articleCount) {
+        return new HashtagSuggestionResponse(hashtagName, articleCount);
+    }
+
+    public static HashtagSuggestionResponse from(HashtagSummaryDto dto) {
+        return new HashtagSuggestionResponse(dto.hashtagName(), dto.articleCount());
+    }
+
+}
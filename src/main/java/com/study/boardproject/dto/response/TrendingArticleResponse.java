@@ -0,0 +1,13 @@
+package com.study.boardproject.dto.response;
+
+public record TrendingArticleResponse(
+        int rank,
+        ArticleResponse article,
+        double score
+) {
+
+    public static TrendingArticleResponse of(int rank, ArticleResponse article, double score) {
+        return new TrendingArticleResponse(rank, article, score);
+    }
+
+}
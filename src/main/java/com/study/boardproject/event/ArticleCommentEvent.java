@@ -0,0 +1,21 @@
+package com.study.boardproject.event;
+
+/**
+ * 댓글 쓰기(저장, 수정, 삭제)가 일어났음을 알리는 이벤트
+ * ArticleCommentService가 발행하고, 게시글 상세 캐시처럼 댓글이 달린 게시글 단위로 상태를 들고 있는 컴포넌트가 커밋 이후에 받아서 갱신한다.
+ */
+public record ArticleCommentEvent(
+        EventType eventType,
+        Long articleId,
+        Long articleCommentId
+) {
+
+    public static ArticleCommentEvent of(EventType eventType, Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(eventType, articleId, articleCommentId);
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.study.boardproject.event;
+
+import com.study.boardproject.domain.Article;
+import com.study.boardproject.domain.Hashtag;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 쓰기(저장, 수정, 삭제)가 일어났음을 알리는 이벤트
+ * ArticleService가 발행하고, 메모리에 상태를 들고 있는 컴포넌트(검색 색인, 게시글 수 캐시 등)가 커밋 이후에 받아서 갱신한다.
+ * 해시태그별 게시글 수를 증감할 수 있도록 변경 전/후 해시태그 이름을 함께 담는다.
+ * 검색 색인이 최신글 순으로 답할 수 있도록 작성일시도 담는다. (삭제 이벤트처럼 모르면 null)
+ */
+public record ArticleEvent(
+        EventType eventType,
+        Long articleId,
+        String title,
+        String content,
+        Set<String> hashtagNames,
+        Set<String> previousHashtagNames,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String title, String content) {
+        return new ArticleEvent(eventType, articleId, title, content, Set.of(), Set.of(), null);
+    }
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String title, String content, Set<String> hashtagNames, Set<String> previousHashtagNames) {
+        return new ArticleEvent(eventType, articleId, title, content, hashtagNames, previousHashtagNames, null);
+    }
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String title, String content, Set<String> hashtagNames, Set<String> previousHashtagNames, LocalDateTime createdAt) {
+        return new ArticleEvent(eventType, articleId, title, content, hashtagNames, previousHashtagNames, createdAt);
+    }
+
+    public static ArticleEvent created(Article article) {
+        return created(article, hashtagNamesOf(article));
+    }
+
+    /**
+     * 해시태그 이름을 이미 알고 있을 때 사용한다. (프록시로 붙인 해시태그의 이름을 읽느라 select가 나가지 않도록)
+     */
+    public static ArticleEvent created(Article article, Set<String> hashtagNames) {
+        return new ArticleEvent(EventType.CREATED, article.getId(), article.getTitle(), article.getContent(), hashtagNames, Set.of(), article.getCreatedAt());
+    }
+
+    public static ArticleEvent updated(Article article, Set<String> previousHashtagNames) {
+        return updated(article, hashtagNamesOf(article), previousHashtagNames);
+    }
+
+    public static ArticleEvent updated(Article article, Set<String> hashtagNames, Set<String> previousHashtagNames) {
+        return new ArticleEvent(EventType.UPDATED, article.getId(), article.getTitle(), article.getContent(), hashtagNames, previousHashtagNames, article.getCreatedAt());
+    }
+
+    public static ArticleEvent deleted(Long articleId, Set<String> previousHashtagNames) {
+        return new ArticleEvent(EventType.DELETED, articleId, null, null, Set.of(), previousHashtagNames, null);
+    }
+
+    public static Set<String> hashtagNamesOf(Article article) {
+        return article.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+
+}
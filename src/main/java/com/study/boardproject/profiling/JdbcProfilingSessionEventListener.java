@@ -0,0 +1,42 @@
+package com.study.boardproject.profiling;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션이 JDBC 문장을 실행할 때마다 문장 수와 실행 시간을 지금 요청의 RequestProfile에 더한다.
+ * hibernate.session.events.auto로 등록하면 Hibernate가 세션마다 새로 만들어서 쓴다. (그래서 상태를 필드에 둬도 된다.)
+ * JdbcTemplate으로 직접 실행하는 문장(게시글 내보내기 등)은 세지 않는다.
+ */
+public class JdbcProfilingSessionEventListener implements SessionEventListener {
+
+    private long executeStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution(); // batch 한 번을 문장 하나로 센다.
+    }
+
+    private void recordExecution() {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null && executeStartedAt != 0) {
+            profile.statementExecuted(System.nanoTime() - executeStartedAt);
+        }
+        executeStartedAt = 0;
+    }
+
+}
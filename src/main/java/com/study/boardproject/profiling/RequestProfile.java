@@ -0,0 +1,154 @@
+package com.study.boardproject.profiling;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나가 어디서 시간을 썼는지 모으는 값 (요청 스레드에 묶인다.)
+ * - db: JDBC 문장 실행 시간과 문장 수 (JdbcProfilingSessionEventListener)
+ * - app: 서비스(@Service) 안에서 db를 뺀 시간, 엔티티를 읽어서 DTO로 바꾸는 일이 대부분이다. (ServiceProfilingAspect)
+ * - mapping: 핸들러(컨트롤러) 안에서 서비스를 뺀 시간, DTO를 응답 객체와 모델로 바꾸는 시간이다. (@ResponseBody면 json 직렬화도 들어간다.)
+ * - render: postHandle 이후 뷰(Thymeleaf)를 렌더링한 시간
+ * - total: 필터에 들어와서 나갈 때까지 (security 필터 포함)
+ * 스케줄러처럼 요청 밖에서 실행되는 코드는 current()가 null이라 아무것도 남기지 않는다.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private String handler;
+    private long handlerStartedAt;
+    private long handlerEndedAt;
+    private boolean viewRendered;
+    private long renderEndedAt;
+    private long completedAt;
+
+    private int serviceDepth;
+    private long serviceStartedAt;
+    private long serviceNanos;
+
+    private int statementCount;
+    private long dbNanos;
+
+    private RequestProfile(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public static RequestProfile start() {
+        RequestProfile profile = new RequestProfile(System.nanoTime());
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void handlerStarted(String handler) {
+        this.handler = handler;
+        this.handlerStartedAt = System.nanoTime();
+    }
+
+    /**
+     * @param viewRendered 이어서 뷰를 렌더링하는지 (postHandle ~ afterCompletion 사이를 render로 센다.)
+     */
+    public void handlerEnded(boolean viewRendered) {
+        if (handlerStartedAt != 0 && handlerEndedAt == 0) {
+            this.handlerEndedAt = System.nanoTime();
+            this.viewRendered = viewRendered;
+        }
+    }
+
+    public void afterCompletion() {
+        if (renderEndedAt == 0) {
+            this.renderEndedAt = System.nanoTime();
+        }
+    }
+
+    public void completed() {
+        if (completedAt == 0) {
+            this.completedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * 서비스 안에서 다른 서비스를 부르면 가장 바깥 호출만 센다.
+     */
+    public void serviceEntered() {
+        if (serviceDepth++ == 0) {
+            serviceStartedAt = System.nanoTime();
+        }
+    }
+
+    public void serviceExited() {
+        if (--serviceDepth == 0) {
+            serviceNanos += System.nanoTime() - serviceStartedAt;
+        }
+    }
+
+    public void statementExecuted(long nanos) {
+        statementCount++;
+        dbNanos += nanos;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public long getAppNanos() {
+        return Math.max(serviceNanos - dbNanos, 0);
+    }
+
+    public long getMappingNanos() {
+        if (handlerStartedAt == 0) {
+            return 0;
+        }
+
+        long handlerEnd = handlerEndedAt != 0 ? handlerEndedAt : renderEndOr(System.nanoTime());
+        return Math.max(handlerEnd - handlerStartedAt - serviceNanos, 0);
+    }
+
+    public long getRenderNanos() {
+        return viewRendered ? renderEndOr(System.nanoTime()) - handlerEndedAt : 0;
+    }
+
+    public long getTotalNanos() {
+        return endOr(System.nanoTime()) - startedAt;
+    }
+
+    /**
+     * Server-Timing 헤더 값, 응답이 일찍 커밋되면 그때까지의 값이다.
+     */
+    public String toServerTiming() {
+        return "db;dur=" + millis(getDbNanos()) + ";desc=\"" + statementCount + " statements\""
+                + ", app;dur=" + millis(getAppNanos())
+                + ", mapping;dur=" + millis(getMappingNanos())
+                + ", render;dur=" + millis(getRenderNanos())
+                + ", total;dur=" + millis(getTotalNanos());
+    }
+
+    private long renderEndOr(long now) {
+        return renderEndedAt != 0 ? renderEndedAt : endOr(now);
+    }
+
+    private long endOr(long now) {
+        return completedAt != 0 ? completedAt : now;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.study.boardproject.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드(handler 태그)별 측정값
+ * 응답 시간과 문장 수는 백분위(p50, p95, p99)까지 남긴다. micrometer가 HdrHistogram으로 최근 구간의 분포를 유지한다.
+ * /actuator/metrics/board.request.duration?tag=handler:ArticleController.article 처럼 보거나 /actuator/requestprofile에서 모아서 본다.
+ */
+@RequiredArgsConstructor
+public class RequestProfileRecorder {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    public void record(RequestProfile profile) {
+        HandlerMeters meters = handlerMeters.computeIfAbsent(profile.getHandler(), this::register);
+        meters.duration().record(profile.getTotalNanos(), TimeUnit.NANOSECONDS);
+        meters.db().record(profile.getDbNanos(), TimeUnit.NANOSECONDS);
+        meters.statements().record(profile.getStatementCount());
+        meters.app().record(profile.getAppNanos(), TimeUnit.NANOSECONDS);
+        meters.mapping().record(profile.getMappingNanos(), TimeUnit.NANOSECONDS);
+        meters.render().record(profile.getRenderNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public Map<String, HandlerMeters> getHandlerMeters() {
+        return Collections.unmodifiableMap(handlerMeters);
+    }
+
+    private HandlerMeters register(String handler) {
+        return new HandlerMeters(
+                Timer.builder("board.request.duration")
+                        .description("요청 전체 시간")
+                        .tag("handler", handler)
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry),
+                timer("board.request.db", "JDBC 문장 실행 시간", handler),
+                DistributionSummary.builder("board.request.statements")
+                        .description("요청 하나에서 실행한 JDBC 문장 수")
+                        .tag("handler", handler)
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry),
+                timer("board.request.app", "서비스에서 db를 뺀 시간 (엔티티 -> DTO)", handler),
+                timer("board.request.mapping", "컨트롤러에서 서비스를 뺀 시간 (DTO -> 응답)", handler),
+                timer("board.request.render", "뷰 렌더링 시간", handler)
+        );
+    }
+
+    private Timer timer(String name, String description, String handler) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("handler", handler)
+                .register(meterRegistry);
+    }
+
+    public record HandlerMeters(
+            Timer duration,
+            Timer db,
+            DistributionSummary statements,
+            Timer app,
+            Timer mapping,
+            Timer render
+    ) {
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.study.boardproject.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 RequestProfile을 만들고, 끝나면 Server-Timing 헤더를 붙이고 컨트롤러 메서드별 측정값으로 남긴다.
+ * 헤더는 응답이 커밋되기 직전에 붙인다. 렌더링 중에 버퍼가 차서 먼저 커밋되면 그때까지의 값이 나가고, 측정값에는 끝까지 잰 값이 남는다.
+ * 비동기 요청(게시글 내보내기)은 요청 스레드가 먼저 끝나므로 기록하지 않는다.
+ */
+@RequiredArgsConstructor
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final RequestProfileRecorder requestProfileRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start();
+        ServerTimingResponseWrapper responseWrapper = new ServerTimingResponseWrapper(response, profile);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestProfile.clear();
+            if (!request.isAsyncStarted()) {
+                profile.completed();
+                responseWrapper.writeServerTiming();
+                if (profile.getHandler() != null) {
+                    requestProfileRecorder.record(profile);
+                }
+            }
+        }
+    }
+
+    private static class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final RequestProfile profile;
+        private boolean written = false;
+
+        ServerTimingResponseWrapper(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        void writeServerTiming() {
+            if (written || profile.getHandler() == null || isCommitted()) {
+                return;
+            }
+
+            written = true;
+            setHeader(SERVER_TIMING, profile.toServerTiming());
+        }
+
+    }
+
+}
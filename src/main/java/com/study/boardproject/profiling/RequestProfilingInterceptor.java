@@ -0,0 +1,42 @@
+package com.study.boardproject.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 어떤 컨트롤러 메서드가 요청을 처리했는지(ArticleController.article 등)와 핸들러, 렌더링 구간을 RequestProfile에 남긴다.
+ * 정적 리소스처럼 컨트롤러 메서드가 아닌 핸들러는 기록하지 않는다.
+ */
+public class RequestProfilingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null && handler instanceof HandlerMethod handlerMethod) {
+            profile.handlerStarted(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.handlerEnded(modelAndView != null && !modelAndView.wasCleared());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.handlerEnded(false);
+            profile.afterCompletion();
+        }
+    }
+
+}
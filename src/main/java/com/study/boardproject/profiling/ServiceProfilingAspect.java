@@ -0,0 +1,28 @@
+package com.study.boardproject.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 요청 안에서 서비스(@Service)에 머문 시간을 RequestProfile에 더한다.
+ */
+@Aspect
+public class ServiceProfilingAspect {
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            return joinPoint.proceed();
+        }
+
+        profile.serviceEntered();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            profile.serviceExited();
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ import com.querydsl.core.types.dsl.StringExpression;
 import com.study.boardproject.domain.ArticleComment;
 import com.study.boardproject.domain.QArticle;
 import com.study.boardproject.domain.QArticleComment;
+import com.study.boardproject.repository.querydsl.ArticleCommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
@@ -16,6 +17,7 @@ import java.util.List;
 @RepositoryRestResource // spring-data-rest 사용을 위해 작성
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom, // 커스텀 리포지토리를 상속받는다.
         QuerydslPredicateExecutor<ArticleComment>, // 이 entity의 모든 필드에 대한 기본 검색기능을 추가해준다.
         QuerydslBinderCustomizer<QArticleComment> // 이걸 추가해야 검색의 세부설정이 가능하다. (like 검색 설정가능)
 {
@@ -0,0 +1,10 @@
+package com.study.boardproject.repository;
+
+import com.study.boardproject.domain.ArticleViewerSketch;
+import com.study.boardproject.repository.querydsl.ArticleViewerSketchRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleViewerSketchRepository extends
+        JpaRepository<ArticleViewerSketch, Long>,
+        ArticleViewerSketchRepositoryCustom {
+}
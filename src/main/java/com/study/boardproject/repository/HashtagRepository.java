@@ -2,7 +2,10 @@ package com.study.boardproject.repository;
 
 import com.study.boardproject.domain.Hashtag;
 import com.study.boardproject.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
@@ -17,6 +20,8 @@ public interface HashtagRepository extends JpaRepository<Hashtag, Long>,
 
     Optional<Hashtag> findByHashtagName(String hashtagName);
 
+    // 해시태그 테이블은 거의 바뀌지 않으므로 결과(id 목록)를 쿼리 캐시에 둔다. 해시태그 테이블이 바뀌면 Hibernate가 알아서 버린다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
 
 }
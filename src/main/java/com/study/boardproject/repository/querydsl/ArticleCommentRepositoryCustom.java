@@ -0,0 +1,34 @@
+package com.study.boardproject.repository.querydsl;
+
+import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.PageCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * 게시글의 모든 댓글을 작성자 정보와 함께 한 번의 쿼리로 가져온다.
+     * 엔티티 대신 dto로 바로 projection하고 createdAt ASC, id ASC 순서로 정렬해서 반환한다. (부모, 자식 연관관계를 따라가는 추가 쿼리 없음)
+     */
+    List<ArticleCommentDto> findCommentDtosByArticleId(Long articleId);
+
+    /**
+     * 게시글의 최상위 댓글을 커서 다음부터 size개 가져온다. (createdAt DESC, id DESC, 최신 댓글이 먼저)
+     */
+    Slice<ArticleCommentDto> findRootCommentDtos(Long articleId, PageCursor cursor, int size);
+
+    /**
+     * 댓글의 대댓글을 커서 다음부터 size개 가져온다. (createdAt ASC, id ASC, 먼저 단 대댓글이 먼저)
+     */
+    Slice<ArticleCommentDto> findReplyCommentDtos(Long parentCommentId, PageCursor cursor, int size);
+
+    /**
+     * 부모 댓글 id별 대댓글 수를 group by 한 번으로 센다. 대댓글이 없는 부모는 결과에 없다.
+     */
+    Map<Long, Long> countRepliesByParentCommentIds(Collection<Long> parentCommentIds);
+
+}
@@ -0,0 +1,154 @@
+package com.study.boardproject.repository.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPQLQuery;
+import com.study.boardproject.domain.ArticleComment;
+import com.study.boardproject.domain.QArticleComment;
+import com.study.boardproject.domain.QUserAccount;
+import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.dto.UserAccountDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    private static final QArticleComment articleComment = QArticleComment.articleComment;
+    private static final QUserAccount userAccount = QUserAccount.userAccount;
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleCommentDto> findCommentDtosByArticleId(Long articleId) {
+        return selectCommentDtos()
+                .where(articleComment.article.id.eq(articleId))
+                .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                .fetch()
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public Slice<ArticleCommentDto> findRootCommentDtos(Long articleId, PageCursor cursor, int size) {
+        // (createdAt, id) < (cursor.createdAt, cursor.id)
+        Predicate afterCursor = cursor == null ? null : articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+
+        List<Tuple> rows = selectCommentDtos()
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        articleComment.parentComment.isNull(),
+                        afterCursor
+                )
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toSlice(rows, size);
+    }
+
+    @Override
+    public Slice<ArticleCommentDto> findReplyCommentDtos(Long parentCommentId, PageCursor cursor, int size) {
+        // (createdAt, id) > (cursor.createdAt, cursor.id)
+        Predicate afterCursor = cursor == null ? null : articleComment.createdAt.gt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())));
+
+        List<Tuple> rows = selectCommentDtos()
+                .where(
+                        articleComment.parentComment.id.eq(parentCommentId),
+                        afterCursor
+                )
+                .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toSlice(rows, size);
+    }
+
+    @Override
+    public Map<Long, Long> countRepliesByParentCommentIds(Collection<Long> parentCommentIds) {
+        if (parentCommentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        NumberExpression<Long> replyCount = articleComment.id.count();
+        List<Tuple> rows = from(articleComment)
+                .where(articleComment.parentComment.id.in(parentCommentIds))
+                .groupBy(articleComment.parentComment.id)
+                .select(articleComment.parentComment.id, replyCount)
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(articleComment.parentComment.id),
+                        row -> row.get(replyCount)
+                ));
+    }
+
+    /**
+     * 댓글 dto를 만드는 데 필요한 컬럼만 고른다.
+     * parentComment.id는 외래키 컬럼을 그대로 읽으므로 부모 댓글을 join하지 않는다.
+     */
+    private JPQLQuery<Tuple> selectCommentDtos() {
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount, userAccount)
+                .select(
+                        articleComment.id,
+                        articleComment.article.id,
+                        articleComment.parentComment.id,
+                        articleComment.content,
+                        articleComment.createdAt,
+                        articleComment.createdBy,
+                        articleComment.modifiedAt,
+                        articleComment.modifiedBy,
+                        userAccount.userId,
+                        userAccount.email,
+                        userAccount.nickname,
+                        userAccount.memo
+                );
+    }
+
+    private ArticleCommentDto toDto(Tuple row) {
+        return ArticleCommentDto.of(
+                row.get(articleComment.id),
+                row.get(articleComment.article.id),
+                // 댓글 화면에는 비밀번호, 작성자의 auditing 정보가 필요 없으므로 읽지 않는다.
+                UserAccountDto.of(
+                        row.get(userAccount.userId),
+                        null,
+                        row.get(userAccount.email),
+                        row.get(userAccount.nickname),
+                        row.get(userAccount.memo)
+                ),
+                row.get(articleComment.parentComment.id),
+                row.get(articleComment.content),
+                row.get(articleComment.createdAt),
+                row.get(articleComment.createdBy),
+                row.get(articleComment.modifiedAt),
+                row.get(articleComment.modifiedBy)
+        );
+    }
+
+    // size + 1개를 읽어서 넘치면 다음 페이지가 있다고 판단한다.
+    private Slice<ArticleCommentDto> toSlice(List<Tuple> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ArticleCommentDto> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(this::toDto)
+                .toList();
+
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+    }
+
+}
@@ -1,11 +1,18 @@
 package com.study.boardproject.repository.querydsl;
 
 import com.study.boardproject.domain.Article;
-import org.springframework.data.domain.Page;
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.dto.ArticleVersionDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.search.ArticleDocument;
+import com.study.boardproject.search.ArticleHashtagName;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
 
@@ -14,5 +21,52 @@ public interface ArticleRepositoryCustom {
      */
     @Deprecated
     List<String> findAllDistinctHashtags();
-    Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 한 페이지 분량의 게시글만 가져온다. (count 쿼리 없음)
+     * 전체 개수는 ArticleCountService의 캐시에서 채운다.
+     */
+    List<Article> findPageContent(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 게시글 수 (해시태그가 여러 개 걸려도 게시글은 한 번만 센다.)
+     */
+    long countBySearch(SearchType searchType, String searchKeyword);
+
+    /**
+     * 커서 다음 게시글부터 size개를 createdAt DESC, id DESC 순으로 가져온다.
+     * OFFSET과 count 쿼리 없이 size + 1개만 읽어서 다음 페이지가 있는지 판단한다.
+     * searchType이 null이거나 검색어가 비어 있으면 전체 게시글이 대상이다.
+     */
+    Slice<Article> findSliceAfter(SearchType searchType, String searchKeyword, PageCursor cursor, int size);
+
+    /**
+     * 상세 페이지용으로 작성자와 해시태그를 fetch join해서 게시글 하나를 가져온다.
+     */
+    Optional<Article> findWithUserAccountAndHashtagsById(Long articleId);
+
+    /**
+     * 검색 색인을 만들기 위해 lastId 다음 게시글부터 limit개를 id 오름차순으로 가져온다. (offset 없이 끊어 읽기)
+     */
+    List<ArticleDocument> findArticleDocuments(Long lastId, int limit);
+
+    /**
+     * 해시태그 비트맵 색인을 만들기 위해 cursor 다음 게시글부터 limit개의 (createdAt, id)를 오름차순으로 가져온다. (cursor가 null이면 처음부터)
+     */
+    List<PageCursor> findArticleKeysAfter(PageCursor cursor, int limit);
+
+    /**
+     * 게시글들에 붙은 해시태그 이름 (게시글 엔티티는 올리지 않는다.)
+     */
+    List<ArticleHashtagName> findArticleHashtagNames(Collection<Long> articleIds);
+
+    /**
+     * 조건부 GET용으로 게시글 수정일시와 댓글의 최근 수정일시, 댓글 수만 가져온다. (댓글 내용은 읽지 않는다.)
+     */
+    Optional<ArticleVersionDto> findArticleVersion(Long articleId);
+
+    /**
+     * 가장 최근에 수정된 게시글의 수정일시 (modifiedAt 인덱스만 읽는다.)
+     */
+    Optional<LocalDateTime> findLatestModifiedAt();
 }
\ No newline at end of file
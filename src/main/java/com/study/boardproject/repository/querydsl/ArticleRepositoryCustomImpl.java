@@ -1,16 +1,29 @@
 package com.study.boardproject.repository.querydsl;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.study.boardproject.domain.Article;
 import com.study.boardproject.domain.QArticle;
+import com.study.boardproject.domain.QArticleComment;
 import com.study.boardproject.domain.QHashtag;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.dto.ArticleVersionDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.search.ArticleDocument;
+import com.study.boardproject.search.ArticleHashtagName;
+import com.study.boardproject.search.HashtagQuery;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
@@ -29,16 +42,182 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
     }
 
     @Override
-    public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
-        QHashtag hashtag = QHashtag.hashtag;
+    public List<Article> findPageContent(SearchType searchType, String searchKeyword, Pageable pageable) {
         QArticle article = QArticle.article;
 
         JPQLQuery<Article> query = from(article)
+                .where(keywordPredicate(article, searchType, searchKeyword));
+
+        return getQuerydsl().applyPagination(pageable, query).fetch();
+    }
+
+    @Override
+    public long countBySearch(SearchType searchType, String searchKeyword) {
+        QArticle article = QArticle.article;
+
+        Long count = from(article)
+                .where(keywordPredicate(article, searchType, searchKeyword))
+                .select(article.count())
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Optional<Article> findWithUserAccountAndHashtagsById(Long articleId) {
+        QArticle article = QArticle.article;
+
+        // 해시태그는 게시글당 몇 개 안 되므로 컬렉션 fetch join으로 인한 row 증가는 무시할 만하다.
+        return Optional.ofNullable(
+                from(article)
+                        .innerJoin(article.userAccount).fetchJoin()
+                        .leftJoin(article.hashtags).fetchJoin()
+                        .where(article.id.eq(articleId))
+                        .distinct()
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<ArticleDocument> findArticleDocuments(Long lastId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleDocument.class, article.id, article.title, article.content, article.createdAt))
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PageCursor> findArticleKeysAfter(PageCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder where = new BooleanBuilder();
+        if (cursor != null) {
+            where.and(article.createdAt.gt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id()))));
+        }
+
+        return from(article)
+                .select(Projections.constructor(PageCursor.class, article.createdAt, article.id))
+                .where(where)
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleHashtagName> findArticleHashtagNames(Collection<Long> articleIds) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(article)
                 .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+                .select(Projections.constructor(ArticleHashtagName.class, article.id, hashtag.hashtagName))
+                .where(article.id.in(articleIds))
+                .fetch();
+    }
+
+    @Override
+    public Optional<ArticleVersionDto> findArticleVersion(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return Optional.ofNullable(
+                from(article)
+                        .leftJoin(article.articleComments, articleComment)
+                        .where(article.id.eq(articleId))
+                        .groupBy(article.id, article.modifiedAt)
+                        .select(Projections.constructor(
+                                ArticleVersionDto.class,
+                                article.id,
+                                article.modifiedAt,
+                                articleComment.modifiedAt.max(),
+                                articleComment.id.count()
+                        ))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestModifiedAt() {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(
+                from(article)
+                        .select(article.modifiedAt.max())
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public Slice<Article> findSliceAfter(SearchType searchType, String searchKeyword, PageCursor cursor, int size) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(keywordPredicate(article, searchType, searchKeyword))
+                .and(afterCursor(article, cursor));
+
+        return fetchSlice(where, size);
+    }
+
+    // size + 1개를 읽어서 넘치면 다음 페이지가 있다고 판단한다.
+    private Slice<Article> fetchSlice(Predicate where, int size) {
+        QArticle article = QArticle.article;
+
+        List<Article> articles = from(article)
+                .where(where)
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = articles.size() > size;
+        List<Article> content = hasNext ? articles.subList(0, size) : articles;
+
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+    }
+
+    private Predicate keywordPredicate(QArticle article, SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> HashtagQuery.tryParse(searchKeyword)
+                    .map(query -> hashtagPredicate(article, query))
+                    .orElseGet(article.id::isNull); // 해석할 수 없는 검색어는 아무 게시글도 고르지 않는다.
+        };
+    }
+
+    // 해시태그 검색어를 해시태그마다 exists 서브쿼리로 바꾼다. (join이 아니라서 게시글이 중복되지 않는다.)
+    private BooleanExpression hashtagPredicate(QArticle article, HashtagQuery query) {
+        if (query instanceof HashtagQuery.Tag tag) {
+            return article.hashtags.any().hashtagName.eq(tag.hashtagName());
+        }
+        if (query instanceof HashtagQuery.And and) {
+            return hashtagPredicate(article, and.left()).and(hashtagPredicate(article, and.right()));
+        }
+        if (query instanceof HashtagQuery.Or or) {
+            return hashtagPredicate(article, or.left()).or(hashtagPredicate(article, or.right()));
+        }
+
+        return hashtagPredicate(article, ((HashtagQuery.Not) query).operand()).not();
+    }
+
+    // (createdAt, id) < (cursor.createdAt, cursor.id)
+    private Predicate afterCursor(QArticle article, PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.study.boardproject.repository.querydsl;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ArticleViewerSketchRepositoryCustom {
+
+    /**
+     * 게시글 id별 읽은 사람 수 (스케치는 읽지 않는다.) 스케치가 없는 게시글은 결과에서 빠진다.
+     */
+    Map<Long, Long> findUniqueViewers(Collection<Long> articleIds);
+
+    /**
+     * 게시글의 스케치를 지운다. (버전을 보지 않는다.)
+     */
+    long deleteByArticleId(Long articleId);
+
+    /**
+     * 게시글이 없는 스케치를 지운다.
+     */
+    long deleteOrphans();
+
+}
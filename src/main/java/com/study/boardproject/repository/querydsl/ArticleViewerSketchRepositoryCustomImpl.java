@@ -0,0 +1,60 @@
+package com.study.boardproject.repository.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.study.boardproject.domain.ArticleViewerSketch;
+import com.study.boardproject.domain.QArticle;
+import com.study.boardproject.domain.QArticleViewerSketch;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArticleViewerSketchRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleViewerSketchRepositoryCustom {
+
+    private static final QArticleViewerSketch articleViewerSketch = QArticleViewerSketch.articleViewerSketch;
+
+    public ArticleViewerSketchRepositoryCustomImpl() {
+        super(ArticleViewerSketch.class);
+    }
+
+    @Override
+    public Map<Long, Long> findUniqueViewers(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> rows = from(articleViewerSketch)
+                .where(articleViewerSketch.articleId.in(articleIds))
+                .select(articleViewerSketch.articleId, articleViewerSketch.uniqueViewers)
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(articleViewerSketch.articleId),
+                        row -> row.get(articleViewerSketch.uniqueViewers)
+                ));
+    }
+
+    @Override
+    public long deleteByArticleId(Long articleId) {
+        return delete(articleViewerSketch)
+                .where(articleViewerSketch.articleId.eq(articleId))
+                .execute();
+    }
+
+    @Override
+    public long deleteOrphans() {
+        QArticle article = QArticle.article;
+
+        return delete(articleViewerSketch)
+                .where(JPAExpressions.selectOne()
+                        .from(article)
+                        .where(article.id.eq(articleViewerSketch.articleId))
+                        .notExists())
+                .execute();
+    }
+
+}
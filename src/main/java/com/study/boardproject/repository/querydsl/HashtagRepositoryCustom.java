@@ -1,7 +1,31 @@
 package com.study.boardproject.repository.querydsl;
 
+import com.study.boardproject.dto.HashtagSummaryDto;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+
+    /**
+     * 해시태그 이름별 게시글 수 (게시글이 없는 해시태그는 0)
+     */
+    Map<String, Long> countArticlesGroupByHashtagName();
+
+    /**
+     * 해시태그별 id, 이름, 게시글 수 (id 순)
+     */
+    List<HashtagSummaryDto> findHashtagSummaries();
+
+    /**
+     * 게시글이 하나도 없는 해시태그 id를 afterId 다음부터 id 순으로 limit개
+     */
+    List<Long> findOrphanIds(Long afterId, int limit);
+
+    /**
+     * 주어진 id 중 지우는 시점에도 게시글이 없는 해시태그만 삭제하고, 삭제한 수를 반환한다. (트랜잭션 안에서 호출)
+     */
+    long deleteOrphansByIdIn(Collection<Long> hashtagIds);
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package com.study.boardproject.repository.querydsl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.domain.QArticle;
 import com.study.boardproject.domain.QHashtag;
+import com.study.boardproject.dto.HashtagSummaryDto;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
 
@@ -21,4 +28,69 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .fetch();
     }
 
-}
\ No newline at end of file
+    @Override
+    public Map<String, Long> countArticlesGroupByHashtagName() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+        NumberExpression<Long> articleCount = article.id.count();
+
+        List<Tuple> rows = from(hashtag)
+                .leftJoin(hashtag.articles, article)
+                .groupBy(hashtag.hashtagName)
+                .select(hashtag.hashtagName, articleCount)
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> row.get(hashtag.hashtagName),
+                        row -> row.get(articleCount)
+                ));
+    }
+
+    @Override
+    public List<HashtagSummaryDto> findHashtagSummaries() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+        NumberExpression<Long> articleCount = article.id.count();
+
+        return from(hashtag)
+                .leftJoin(hashtag.articles, article)
+                .groupBy(hashtag.id, hashtag.hashtagName)
+                .orderBy(hashtag.id.asc())
+                .select(hashtag.id, hashtag.hashtagName, articleCount)
+                .fetch()
+                .stream()
+                .map(row -> HashtagSummaryDto.of(row.get(hashtag.id), row.get(hashtag.hashtagName), row.get(articleCount)))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findOrphanIds(Long afterId, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        // articles is empty -> article_hashtag에 대한 not exists (anti-join)
+        return from(hashtag)
+                .where(
+                        hashtag.id.gt(afterId),
+                        hashtag.articles.isEmpty()
+                )
+                .orderBy(hashtag.id.asc())
+                .limit(limit)
+                .select(hashtag.id)
+                .fetch();
+    }
+
+    @Override
+    public long deleteOrphansByIdIn(Collection<Long> hashtagIds) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        // 조회한 뒤에 다시 게시글에 붙은 해시태그는 지우지 않도록 조건을 한 번 더 건다.
+        return delete(hashtag)
+                .where(
+                        hashtag.id.in(hashtagIds),
+                        hashtag.articles.isEmpty()
+                )
+                .execute();
+    }
+
+}
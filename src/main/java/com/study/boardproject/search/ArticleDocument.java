@@ -0,0 +1,15 @@
+package com.study.boardproject.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인을 만들 때 필요한 게시글 컬럼만 담은 projection
+ * 엔티티 전체(작성자, 해시태그 연관관계)를 올리지 않기 위해 사용한다.
+ */
+public record ArticleDocument(
+        Long id,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.study.boardproject.search;
+
+/**
+ * 해시태그 비트맵 색인을 만들 때 필요한 (게시글 id, 해시태그 이름) 쌍의 projection
+ */
+public record ArticleHashtagName(
+        Long articleId,
+        String hashtagName
+) {
+}
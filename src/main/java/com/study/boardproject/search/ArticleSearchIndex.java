@@ -0,0 +1,265 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목, 본문 검색을 위한 메모리 역색인(inverted index)
+ * LIKE '%검색어%' 는 인덱스를 탈 수 없어서 검색할 때마다 게시글 테이블 전체를 훑는다.
+ * 그래서 기동 시점에 게시글 전체를 bigram으로 색인해두고, 이후에는 게시글 이벤트로 증분 갱신한다.
+ * - bigram 교집합은 후보일 뿐이므로("게시글 … 시판"도 "게시판"의 gram을 모두 가진다) 후보마다 원문에 검색어가 그대로 들어있는지 확인한다.
+ *   그래서 결과와 개수는 LIKE '%검색어%' 와 같다. (MySQL 기본 collation처럼 대소문자는 가리지 않는다.)
+ * - 결과는 게시글 목록의 기본 정렬과 같은 최신글 순(createdAt DESC, id DESC)이다.
+ * - 확인용 원문(소문자)을 필드마다 들고 있으므로 메모리는 게시글 제목/본문 크기만큼 더 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+
+    // 재구성 중 교체(swap)와 이벤트 반영이 엇갈리지 않도록 한다. 이벤트끼리는 read lock이라 서로 막지 않는다.
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Queue<ArticleEvent> eventsDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Map<SearchType, FieldIndex> fieldIndexes = newFieldIndexes();
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+
+    /**
+     * 애플리케이션이 뜨고 나면 게시글을 id 순서대로 잘라 읽어서 새 색인을 만들고, 다 만들면 교체한다.
+     * 만드는 동안 커밋된 게시글 이벤트는 모아두었다가 교체 직전에 새 색인에 다시 반영한다. (먼저 읽은 chunk가 삭제를 덮어쓰지 않도록)
+     * 색인이 처음 완성되기 전까지 ArticleService는 기존 LIKE 검색을 사용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        rebuilding = true;
+        eventsDuringRebuild.clear();
+        Map<SearchType, FieldIndex> rebuilt = newFieldIndexes();
+
+        long lastId = 0L;
+        int indexedCount = 0;
+        List<ArticleDocument> chunk;
+        do {
+            chunk = articleRepository.findArticleDocuments(lastId, REBUILD_CHUNK_SIZE);
+            chunk.forEach(document -> index(rebuilt, document.id(), document.title(), document.content(), document.createdAt()));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+            indexedCount += chunk.size();
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        swapLock.writeLock().lock();
+        try {
+            // 같은 변경을 두 번 반영해도 결과는 같다.
+            ArticleEvent event;
+            while ((event = eventsDuringRebuild.poll()) != null) {
+                apply(rebuilt, event);
+            }
+            fieldIndexes = rebuilt;
+            rebuilding = false;
+            ready = true;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 완료 - articles: {}, elapsed: {}ms", indexedCount, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 커밋된 게시글 변경만 색인에 반영한다. (롤백된 글이 검색되지 않도록)
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        swapLock.readLock().lock();
+        try {
+            apply(fieldIndexes, event);
+            if (rebuilding) {
+                eventsDuringRebuild.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void index(Long articleId, String title, String content, LocalDateTime createdAt) {
+        index(fieldIndexes, articleId, title, content, createdAt);
+    }
+
+    public void remove(Long articleId) {
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(articleId));
+    }
+
+    /**
+     * 색인으로 답할 수 있는 검색인지 확인한다.
+     * 색인이 아직 준비되지 않았거나, 검색어에 한 글자짜리 단어가 있으면 false
+     */
+    public boolean supports(SearchType searchType, String keyword) {
+        return ready
+                && fieldIndexes.containsKey(searchType)
+                && SearchTokenizer.queryGrams(keyword) != null;
+    }
+
+    /**
+     * 검색어를 그대로 포함하는 게시글 id를 최신글 순으로 반환한다.
+     */
+    public List<Long> search(SearchType searchType, String keyword) {
+        Set<String> grams = SearchTokenizer.queryGrams(keyword);
+        FieldIndex fieldIndex = fieldIndexes.get(searchType);
+        if (grams == null || fieldIndex == null) {
+            return List.of();
+        }
+
+        return fieldIndex.search(grams, keyword.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static Map<SearchType, FieldIndex> newFieldIndexes() {
+        return Map.of(
+                SearchType.TITLE, new FieldIndex(),
+                SearchType.CONTENT, new FieldIndex()
+        );
+    }
+
+    private static void apply(Map<SearchType, FieldIndex> target, ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED, UPDATED -> index(target, event.articleId(), event.title(), event.content(), event.createdAt());
+            case DELETED -> target.values().forEach(fieldIndex -> fieldIndex.remove(event.articleId()));
+        }
+    }
+
+    private static void index(Map<SearchType, FieldIndex> target, Long articleId, String title, String content, LocalDateTime createdAt) {
+        target.get(SearchType.TITLE).put(articleId, title, createdAt);
+        target.get(SearchType.CONTENT).put(articleId, content, createdAt);
+    }
+
+    /**
+     * 필드(제목 또는 본문) 하나에 대한 색인
+     * gram -> postings, 그리고 게시글 -> 원문(소문자), 작성일시, 삭제/수정 시 빼야 할 postings 목록을 가진다.
+     * PostingList의 삽입/삭제는 배열을 밀고 당기므로(길이에 비례) 쓰기 lock을 필드마다 따로 두어, 본문 갱신이 제목 검색을 막지 않게 한다.
+     */
+    private static class FieldIndex {
+
+        private static final Comparator<Document> LATEST_FIRST = Comparator
+                .comparing(Document::createdAt, Comparator.nullsFirst(Comparator.reverseOrder()))
+                .thenComparing(Document::articleId, Comparator.reverseOrder());
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /**
+         * 작성일시가 없는 수정 이벤트라면 기존 작성일시를 그대로 쓴다. (작성일시를 끝내 모르면 가장 최근 글로 본다.)
+         */
+        void put(Long articleId, String text, LocalDateTime createdAt) {
+            Map<String, Integer> grams = SearchTokenizer.tokenize(text);
+
+            lock.writeLock().lock();
+            try {
+                Document previous = removeDocument(articleId);
+                if (createdAt == null && previous != null) {
+                    createdAt = previous.createdAt();
+                }
+
+                // gram 문자열을 게시글마다 따로 들고 있지 않도록 postings 자체를 참조한다.
+                PostingList[] postingLists = new PostingList[grams.size()];
+                int i = 0;
+                for (Map.Entry<String, Integer> entry : grams.entrySet()) {
+                    PostingList postingList = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+                    postingList.put(articleId, entry.getValue());
+                    postingLists[i++] = postingList;
+                }
+                documents.put(articleId, new Document(articleId, text == null ? "" : text.toLowerCase(Locale.ROOT), createdAt, postingLists));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long articleId) {
+            lock.writeLock().lock();
+            try {
+                removeDocument(articleId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private Document removeDocument(Long articleId) {
+            Document document = documents.remove(articleId);
+            if (document == null) {
+                return null;
+            }
+
+            for (PostingList postingList : document.postingLists()) {
+                postingList.remove(articleId);
+                if (postingList.isEmpty()) {
+                    postings.remove(postingList.gram());
+                }
+            }
+            return document;
+        }
+
+        /**
+         * 가장 짧은 postings를 기준으로 돌면서 나머지 postings는 이진탐색으로 확인하고(교집합), 남은 후보는 원문으로 확인한다.
+         */
+        List<Long> search(Set<String> grams, String keyword) {
+            lock.readLock().lock();
+            try {
+                List<PostingList> lists = new ArrayList<>(grams.size());
+                for (String gram : grams) {
+                    PostingList postingList = postings.get(gram);
+                    if (postingList == null) {
+                        return List.of(); // 하나라도 없는 gram이 있으면 결과가 없다.
+                    }
+                    lists.add(postingList);
+                }
+                lists.sort(Comparator.comparingInt(PostingList::size));
+
+                PostingList smallest = lists.get(0);
+                List<Document> matched = new ArrayList<>();
+
+                candidates:
+                for (int i = 0; i < smallest.size(); i++) {
+                    long id = smallest.idAt(i);
+                    for (int j = 1; j < lists.size(); j++) {
+                        if (lists.get(j).frequencyOf(id) == 0) {
+                            continue candidates;
+                        }
+                    }
+                    Document document = documents.get(id);
+                    if (document.text().contains(keyword)) {
+                        matched.add(document);
+                    }
+                }
+                matched.sort(LATEST_FIRST);
+
+                List<Long> result = new ArrayList<>(matched.size());
+                matched.forEach(document -> result.add(document.articleId()));
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+    }
+
+    private record Document(Long articleId, String text, LocalDateTime createdAt, PostingList[] postingLists) {}
+
+}
@@ -0,0 +1,64 @@
+package com.study.boardproject.search;
+
+import java.util.Map;
+
+/**
+ * 해시태그 자동완성에 쓰는 한글 자모 분해
+ * 입력 중인 글자도 찾을 수 있도록 음절을 초성/중성/종성 자모로 풀고, 겹모음과 겹받침은 한 번 더 푼다.
+ * 예) "감" -> ㄱㅏㅁ 이라서 "감자"(ㄱㅏㅁㅈㅏ)를 찾고, "값" -> ㄱㅏㅂㅅ, "과" -> ㄱㅗㅏ 라서 "갑시다", "과자"를 입력하는 도중에도 찾는다.
+ * 영문은 대소문자를 가리지 않도록 소문자로 바꾸고, 나머지 문자는 그대로 둔다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 따로 입력한 겹모음, 겹받침 자모 ("ㅘ", "ㄳ" 등)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    static String decompose(CharSequence text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                jamo.append(CHOSEONG.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)))
+                        .append(JUNGSEONG[index / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else if (c >= 'A' && c <= 'Z') {
+                jamo.append((char) (c + ('a' - 'A')));
+            } else {
+                String compound = COMPOUND_JAMO.get(c);
+                if (compound != null) {
+                    jamo.append(compound);
+                } else {
+                    jamo.append(c);
+                }
+            }
+        }
+
+        return jamo.toString();
+    }
+
+}
@@ -0,0 +1,278 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 검색을 위한 메모리 비트맵 색인
+ * 해시태그마다 그 해시태그가 붙은 게시글의 압축 비트맵(RoaringBitmap)을 들고, 검색어(HashtagQuery)를 비트맵 교집합/합집합/차집합으로 계산한다.
+ * - 게시글 id는 64비트 snowflake라서 비트맵에 바로 넣지 않고, (createdAt, id) 오름차순으로 매긴 순번(ordinal)을 넣는다.
+ *   그래서 결과 비트맵을 큰 순번부터 읽으면 바로 최신글 순(createdAt DESC, id DESC)이 되고, 정렬 없이 한 페이지만 꺼낼 수 있다.
+ * - 새 게시글은 가장 최근 글이므로 다음 순번을 받는다. 지운 게시글의 순번은 비워두고(전체 게시글 비트맵에서만 뺀다) 다음 재구성 때 정리한다.
+ * 기동 시점과 주기적으로 DB에서 통째로 다시 만들고(그동안은 기존 색인으로 답한다), 그 사이에는 커밋된 게시글 이벤트로 증분 갱신한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagBitmapIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<ArticleEvent> eventsDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.hashtag.bitmap-rebuild-interval-ms:3600000}",
+            fixedDelayString = "${board.hashtag.bitmap-rebuild-interval-ms:3600000}"
+    )
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        rebuilding = true;
+        eventsDuringRebuild.clear();
+        Snapshot rebuilt = new Snapshot();
+
+        PageCursor lastKey = null;
+        List<PageCursor> keys;
+        do {
+            keys = articleRepository.findArticleKeysAfter(lastKey, REBUILD_CHUNK_SIZE);
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            List<Long> articleIds = new ArrayList<>(keys.size());
+            keys.forEach(key -> {
+                rebuilt.addArticle(key.id());
+                articleIds.add(key.id());
+            });
+            articleRepository.findArticleHashtagNames(articleIds)
+                    .forEach(pair -> rebuilt.addHashtag(pair.articleId(), pair.hashtagName()));
+            lastKey = keys.get(keys.size() - 1);
+        } while (keys.size() == REBUILD_CHUNK_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            // 다시 만드는 동안 커밋된 변경은 새 색인에도 반영한다. (같은 변경을 두 번 반영해도 결과는 같다.)
+            ArticleEvent event;
+            while ((event = eventsDuringRebuild.poll()) != null) {
+                rebuilt.apply(event);
+            }
+            snapshot = rebuilt;
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("해시태그 비트맵 색인 완료 - articles: {}, hashtags: {}, elapsed: {}ms",
+                rebuilt.live.cardinality(), rebuilt.bitmaps.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 커밋된 게시글 변경만 색인에 반영한다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            snapshot.apply(event);
+            if (rebuilding) {
+                eventsDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어에 맞는 게시글 id를 최신글 순으로 offset부터 limit개, 그리고 전체 개수
+     */
+    public HashtagSearchResult search(HashtagQuery query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            RoaringBitmap matched = current.evaluate(query);
+            return HashtagSearchResult.of(current.toArticleIds(matched.reverseValues(Integer.MAX_VALUE, offset, limit)), matched.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어에 맞는 게시글 중 cursorArticleId보다 오래된 게시글 id를 최신글 순으로 limit개 (cursorArticleId가 null이면 처음부터)
+     * 커서의 게시글이 색인에 없으면(다른 노드에서 쓴 글이 아직 재구성 전이면) 위치를 알 수 없으므로 빈 값
+     */
+    public Optional<List<Long>> searchAfter(HashtagQuery query, Long cursorArticleId, int limit) {
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            int below = Integer.MAX_VALUE;
+            if (cursorArticleId != null) {
+                below = current.ordinals.ordinalOf(cursorArticleId);
+                if (below < 0) {
+                    return Optional.empty();
+                }
+            }
+
+            RoaringBitmap matched = current.evaluate(query);
+            return Optional.of(current.toArticleIds(matched.reverseValues(below, 0, limit)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 한 벌 (게시글 순번표, 전체 게시글 비트맵, 해시태그별 비트맵)
+     */
+    private static class Snapshot {
+
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final ArticleOrdinals ordinals = new ArticleOrdinals();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+
+        void addArticle(long articleId) {
+            int ordinal = ordinals.ordinalOf(articleId);
+            if (ordinal < 0) {
+                ordinal = ordinals.append(articleId);
+            }
+            live.add(ordinal);
+        }
+
+        void addHashtag(long articleId, String hashtagName) {
+            int ordinal = ordinals.ordinalOf(articleId);
+            if (ordinal >= 0) {
+                bitmaps.computeIfAbsent(hashtagName, name -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+
+        void removeHashtag(int ordinal, String hashtagName) {
+            RoaringBitmap bitmap = bitmaps.get(hashtagName);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(hashtagName);
+                }
+            }
+        }
+
+        void apply(ArticleEvent event) {
+            if (event.eventType() == ArticleEvent.EventType.CREATED) {
+                addArticle(event.articleId());
+            }
+
+            int ordinal = ordinals.ordinalOf(event.articleId());
+            if (ordinal < 0) {
+                return; // 색인에 없는 게시글의 수정/삭제 (다음 재구성 때 맞춰진다.)
+            }
+
+            if (event.eventType() == ArticleEvent.EventType.DELETED) {
+                live.remove(ordinal);
+                event.previousHashtagNames().forEach(name -> removeHashtag(ordinal, name));
+                return;
+            }
+            event.previousHashtagNames().stream()
+                    .filter(name -> !event.hashtagNames().contains(name))
+                    .forEach(name -> removeHashtag(ordinal, name));
+            event.hashtagNames().forEach(name -> addHashtag(event.articleId(), name));
+        }
+
+        /**
+         * A AND NOT B는 전체 게시글 비트맵을 거치지 않고 A에서 B를 바로 뺀다.
+         */
+        RoaringBitmap evaluate(HashtagQuery query) {
+            if (query instanceof HashtagQuery.Tag tag) {
+                return bitmaps.getOrDefault(tag.hashtagName(), EMPTY);
+            }
+            if (query instanceof HashtagQuery.And and) {
+                if (and.right() instanceof HashtagQuery.Not not) {
+                    return evaluate(and.left()).andNot(evaluate(not.operand()));
+                }
+                if (and.left() instanceof HashtagQuery.Not not) {
+                    return evaluate(and.right()).andNot(evaluate(not.operand()));
+                }
+                return evaluate(and.left()).and(evaluate(and.right()));
+            }
+            if (query instanceof HashtagQuery.Or or) {
+                return evaluate(or.left()).or(evaluate(or.right()));
+            }
+
+            return live.andNot(evaluate(((HashtagQuery.Not) query).operand()));
+        }
+
+        List<Long> toArticleIds(int[] ordinalValues) {
+            List<Long> articleIds = new ArrayList<>(ordinalValues.length);
+            for (int ordinal : ordinalValues) {
+                articleIds.add(ordinals.articleIdOf(ordinal));
+            }
+            return articleIds;
+        }
+
+    }
+
+    /**
+     * 게시글 id <-> 순번
+     * 순번 -> id는 순번 자리의 배열, id -> 순번은 id 오름차순으로 정렬한 배열에서 이진탐색으로 찾는다. (박싱한 Map보다 게시글당 메모리가 훨씬 적다.)
+     * snowflake id는 나중에 만든 글이 더 크므로 새 글은 보통 정렬 배열의 끝에 붙는다.
+     */
+    private static class ArticleOrdinals {
+
+        private long[] idsByOrdinal = new long[1024];
+        private long[] sortedIds = new long[1024];
+        private int[] sortedOrdinals = new int[1024];
+        private int size;
+
+        int append(long articleId) {
+            if (size == idsByOrdinal.length) {
+                idsByOrdinal = Arrays.copyOf(idsByOrdinal, size * 2);
+                sortedIds = Arrays.copyOf(sortedIds, size * 2);
+                sortedOrdinals = Arrays.copyOf(sortedOrdinals, size * 2);
+            }
+
+            int ordinal = size;
+            idsByOrdinal[ordinal] = articleId;
+            int insertAt = size > 0 && sortedIds[size - 1] < articleId
+                    ? size
+                    : -Arrays.binarySearch(sortedIds, 0, size, articleId) - 1;
+            System.arraycopy(sortedIds, insertAt, sortedIds, insertAt + 1, size - insertAt);
+            System.arraycopy(sortedOrdinals, insertAt, sortedOrdinals, insertAt + 1, size - insertAt);
+            sortedIds[insertAt] = articleId;
+            sortedOrdinals[insertAt] = ordinal;
+            size++;
+            return ordinal;
+        }
+
+        // 없으면 -1
+        int ordinalOf(long articleId) {
+            int index = Arrays.binarySearch(sortedIds, 0, size, articleId);
+            return index >= 0 ? sortedOrdinals[index] : -1;
+        }
+
+        long articleIdOf(int ordinal) {
+            return idsByOrdinal[ordinal];
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.study.boardproject.search;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 해시태그 검색어 (AND, OR, NOT, 괄호)
+ * 예) "java AND (spring OR jpa) NOT kotlin", "#java #spring"
+ * - 연산자는 대문자로만 쓰고, 우선순위는 NOT > AND > OR 이다. AND 없이 붙인 NOT은 AND NOT으로 본다.
+ * - 소문자 "not", "and", "or"는 해시태그다. 대문자 이름의 해시태그는 #을 붙여서("#NOT") 찾는다.
+ * - 연산자 없이 띄어 쓴 해시태그는 예전 검색처럼 OR로 묶는다. ("java spring" = "java OR spring")
+ * - 해시태그 앞의 #은 떼고 본다.
+ * HashtagBitmapIndex는 비트맵 연산으로, ArticleRepositoryCustomImpl은 exists 조건으로 같은 검색어를 계산한다.
+ */
+public sealed interface HashtagQuery {
+
+    record Tag(String hashtagName) implements HashtagQuery {
+    }
+
+    record And(HashtagQuery left, HashtagQuery right) implements HashtagQuery {
+    }
+
+    record Or(HashtagQuery left, HashtagQuery right) implements HashtagQuery {
+    }
+
+    record Not(HashtagQuery operand) implements HashtagQuery {
+    }
+
+    /**
+     * 해석할 수 없는 검색어(괄호 짝이 안 맞거나 연산자 뒤에 해시태그가 없는 등)는 IllegalArgumentException
+     */
+    static HashtagQuery parse(String query) {
+        return HashtagQueryParser.parse(query);
+    }
+
+    /**
+     * 해석할 수 없는 검색어면 빈 값
+     */
+    static Optional<HashtagQuery> tryParse(String query) {
+        try {
+            return Optional.of(parse(query));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검색어에 나온 해시태그 이름 (NOT 안의 이름 포함)
+     */
+    default Set<String> hashtagNames() {
+        Set<String> names = new LinkedHashSet<>();
+        collectHashtagNames(this, names);
+        return names;
+    }
+
+    private static void collectHashtagNames(HashtagQuery query, Set<String> names) {
+        if (query instanceof Tag tag) {
+            names.add(tag.hashtagName());
+        } else if (query instanceof And and) {
+            collectHashtagNames(and.left(), names);
+            collectHashtagNames(and.right(), names);
+        } else if (query instanceof Or or) {
+            collectHashtagNames(or.left(), names);
+            collectHashtagNames(or.right(), names);
+        } else if (query instanceof Not not) {
+            collectHashtagNames(not.operand(), names);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.search.HashtagQuery.And;
+import com.study.boardproject.search.HashtagQuery.Not;
+import com.study.boardproject.search.HashtagQuery.Or;
+import com.study.boardproject.search.HashtagQuery.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해시태그 검색어 재귀 하강 파서
+ * or  := and (("OR")? and)*
+ * and := not ("AND" not | "NOT" not)*   ("java NOT kotlin"처럼 AND 없이 붙인 NOT은 AND NOT으로 본다.)
+ * not := "NOT" not | "(" or ")" | 해시태그
+ * 연산자는 대문자로 쓴 AND, OR, NOT만이다. 소문자 "not", "and", "or"와 #을 붙인 단어("#NOT")는 해시태그로 본다.
+ */
+final class HashtagQueryParser {
+
+    private final List<String> tokens;
+    private int position;
+
+    private HashtagQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    static HashtagQuery parse(String query) {
+        return new HashtagQueryParser(tokenize(query)).parseQuery();
+    }
+
+    private HashtagQuery parseQuery() {
+        HashtagQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw new IllegalArgumentException("해시태그 검색어를 해석할 수 없습니다. - " + tokens.get(position));
+        }
+        return query;
+    }
+
+    private HashtagQuery parseOr() {
+        HashtagQuery query = parseAnd();
+        while (position < tokens.size() && !peekIs(")")) {
+            if (peekIs("OR")) {
+                position++;
+            }
+            query = new Or(query, parseAnd());
+        }
+        return query;
+    }
+
+    private HashtagQuery parseAnd() {
+        HashtagQuery query = parseNot();
+        while (peekIs("AND") || peekIs("NOT")) {
+            if (peekIs("AND")) {
+                position++;
+            }
+            query = new And(query, parseNot());
+        }
+        return query;
+    }
+
+    private HashtagQuery parseNot() {
+        if (position >= tokens.size()) {
+            throw new IllegalArgumentException("해시태그 검색어가 연산자로 끝났습니다.");
+        }
+
+        String token = tokens.get(position++);
+        if (isOperator(token, "NOT")) {
+            return new Not(parseNot());
+        }
+        if (token.equals("(")) {
+            HashtagQuery query = parseOr();
+            if (!peekIs(")")) {
+                throw new IllegalArgumentException("해시태그 검색어의 괄호가 닫히지 않았습니다.");
+            }
+            position++;
+            return query;
+        }
+        if (token.equals(")") || isOperator(token, "AND") || isOperator(token, "OR")) {
+            throw new IllegalArgumentException("해시태그가 와야 할 자리에 " + token + " 이(가) 있습니다.");
+        }
+
+        return new Tag(token.startsWith("#") ? token.substring(1) : token);
+    }
+
+    private boolean peekIs(String expected) {
+        if (position >= tokens.size()) {
+            return false;
+        }
+
+        String token = tokens.get(position);
+        return expected.equals(")") ? token.equals(")") : isOperator(token, expected);
+    }
+
+    // #을 붙인 토큰은 "#NOT"처럼 연산자와 이름이 같아도 해시태그다.
+    private static boolean isOperator(String token, String operator) {
+        return token.equals(operator);
+    }
+
+    private static List<String> tokenize(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("해시태그 검색어가 비어 있습니다.");
+        }
+
+        // 해시태그 앞의 #은 연산자와 구분하도록 남겨두고, 해시태그를 만들 때 뗀다.
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '(' || c == ')' || Character.isWhitespace(c)) {
+                addWord(tokens, word);
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else if (c != '#') {
+                word.append(c);
+            } else {
+                // "#java#spring" 처럼 붙여 쓴 해시태그는 따로 본다.
+                addWord(tokens, word);
+                word.append(c);
+            }
+        }
+        addWord(tokens, word);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("해시태그 검색어에 해시태그가 없습니다.");
+        }
+
+        return tokens;
+    }
+
+    // #만 있는 단어는 버린다.
+    private static void addWord(List<String> tokens, StringBuilder word) {
+        if (!word.isEmpty() && !word.toString().equals("#")) {
+            tokens.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+}
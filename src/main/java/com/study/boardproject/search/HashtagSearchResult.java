@@ -0,0 +1,17 @@
+package com.study.boardproject.search;
+
+import java.util.List;
+
+/**
+ * 해시태그 비트맵 색인의 검색 결과 (한 페이지 분량의 게시글 id를 최신글 순으로, 검색어에 맞는 전체 게시글 수)
+ */
+public record HashtagSearchResult(
+        List<Long> articleIds,
+        long totalCount
+) {
+
+    public static HashtagSearchResult of(List<Long> articleIds, long totalCount) {
+        return new HashtagSearchResult(articleIds, totalCount);
+    }
+
+}
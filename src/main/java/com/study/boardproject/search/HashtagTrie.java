@@ -0,0 +1,327 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.dto.HashtagSummaryDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 자동완성용 radix tree
+ * 해시태그 이름을 자모로 푼 문자열(HangulJamo)을 키로, 갈라지지 않는 구간은 한 노드의 label로 묶어서 노드 수를 해시태그 수의 2배 이하로 유지한다.
+ * 노드마다 그 아래 해시태그 중 게시글 수 상위 suggestionLimit개를 미리 들고 있으므로, 조회는 접두어 길이만큼 내려가서 그 목록을 복사하면 끝난다.
+ * - 게시글 수가 바뀌거나 해시태그가 생기고 지워지면, 그 해시태그까지의 경로에 있는 노드만 아래에서부터 상위 목록을 다시 만든다. (자식들의 상위 목록만 합치면 된다.)
+ * - 게시글 수가 0인 해시태그는 나무에는 남아 있어도 자동완성에 나오지 않는다.
+ */
+public final class HashtagTrie {
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int suggestionLimit;
+    private final Node root = new Node(new char[0]);
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public HashtagTrie(int suggestionLimit) {
+        this.suggestionLimit = suggestionLimit;
+    }
+
+    /**
+     * 해시태그 전체로 한 번에 만든다. 상위 목록은 다 넣은 뒤에 아래에서부터 한 번만 만든다.
+     */
+    public static HashtagTrie of(Collection<HashtagSummaryDto> hashtags, int suggestionLimit) {
+        HashtagTrie trie = new HashtagTrie(suggestionLimit);
+        hashtags.forEach(hashtag -> {
+            Entry entry = new Entry(hashtag.id(), hashtag.hashtagName(), hashtag.articleCount());
+            if (trie.entries.putIfAbsent(entry.name, entry) == null) {
+                trie.insert(entry);
+            }
+        });
+        trie.rankAll(trie.root);
+
+        return trie;
+    }
+
+    /**
+     * 해시태그를 넣거나 게시글 수를 바꾼다.
+     */
+    public void put(Long id, String hashtagName, long articleCount) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(hashtagName);
+            List<Node> path;
+            if (entry == null) {
+                entry = new Entry(id, hashtagName, articleCount);
+                entries.put(hashtagName, entry);
+                path = insert(entry);
+            } else {
+                if (entry.articleCount == articleCount) {
+                    return;
+                }
+                entry.articleCount = articleCount;
+                path = pathTo(entry.key);
+            }
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                rank(path.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그를 빼고, 비거나 자식이 하나만 남은 노드는 부모나 자식과 합친다.
+     */
+    public void remove(String hashtagName) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(hashtagName);
+            if (entry == null) {
+                return;
+            }
+
+            List<Node> path = pathTo(entry.key);
+            path.get(path.size() - 1).removeEntry(entry);
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+                if (i > 0 && node.entries.length == 0 && node.childCount <= 1) {
+                    Node parent = path.get(i - 1);
+                    if (node.childCount == 0) {
+                        parent.removeChild(node.label[0]);
+                    } else {
+                        Node onlyChild = node.children[0];
+                        onlyChild.label = concat(node.label, onlyChild.label);
+                        parent.replaceChild(onlyChild);
+                    }
+                    continue;
+                }
+                rank(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * prefix로 시작하는 해시태그를 게시글 수가 많은 순으로 최대 limit개 (limit은 suggestionLimit까지만)
+     * prefix가 비어 있으면 전체에서 고른다.
+     */
+    public List<HashtagSummaryDto> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : HangulJamo.decompose(prefix.strip());
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.findChild(key.charAt(position));
+                if (child == null) {
+                    return List.of();
+                }
+
+                int matched = 0;
+                while (matched < child.label.length && position < key.length() && child.label[matched] == key.charAt(position)) {
+                    matched++;
+                    position++;
+                }
+                if (matched < child.label.length && position < key.length()) {
+                    return List.of(); // label 중간에서 어긋났다.
+                }
+                node = child;
+            }
+
+            int size = Math.min(Math.min(limit, suggestionLimit), node.top.length);
+            List<HashtagSummaryDto> suggestions = new ArrayList<>(Math.max(size, 0));
+            for (int i = 0; i < size; i++) {
+                Entry entry = node.top[i];
+                suggestions.add(HashtagSummaryDto.of(entry.id, entry.name, entry.articleCount));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 루트부터 entry가 들어갈 노드까지의 경로를 돌려준다. (노드를 만들거나 label을 가르면서 내려간다.)
+    private List<Node> insert(Entry entry) {
+        List<Node> path = new ArrayList<>();
+        String key = entry.key;
+        Node node = root;
+        int position = 0;
+        path.add(node);
+        while (position < key.length()) {
+            Node child = node.findChild(key.charAt(position));
+            if (child == null) {
+                Node leaf = new Node(key.substring(position).toCharArray());
+                node.addChild(leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+
+            int common = 0;
+            while (common < child.label.length && position + common < key.length() && child.label[common] == key.charAt(position + common)) {
+                common++;
+            }
+            if (common < child.label.length) {
+                // label 중간에서 갈라지므로 공통 부분만 가진 노드를 사이에 끼운다.
+                Node middle = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                node.replaceChild(middle);
+                middle.addChild(child);
+                child = middle;
+            }
+            node = child;
+            position += common;
+            path.add(node);
+        }
+        node.addEntry(entry);
+
+        return path;
+    }
+
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        path.add(node);
+        while (position < key.length()) {
+            node = node.findChild(key.charAt(position));
+            position += node.label.length;
+            path.add(node);
+        }
+
+        return path;
+    }
+
+    private void rankAll(Node node) {
+        for (int i = 0; i < node.childCount; i++) {
+            rankAll(node.children[i]);
+        }
+        rank(node);
+    }
+
+    /**
+     * 노드의 상위 목록 = 이 노드에서 끝나는 해시태그 + 자식들의 상위 목록 중 상위 suggestionLimit개
+     */
+    private void rank(Node node) {
+        Entry[] top = new Entry[suggestionLimit];
+        int size = 0;
+        for (Entry entry : node.entries) {
+            size = offer(top, size, entry);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            for (Entry entry : node.children[i].top) {
+                if (size == suggestionLimit && compare(entry, top[size - 1]) >= 0) {
+                    break; // 자식의 상위 목록은 이미 정렬되어 있으므로 뒤는 볼 필요가 없다.
+                }
+                size = offer(top, size, entry);
+            }
+        }
+
+        node.top = size == 0 ? NO_ENTRIES : Arrays.copyOf(top, size);
+    }
+
+    private int offer(Entry[] top, int size, Entry entry) {
+        if (entry.articleCount <= 0 || (size == top.length && compare(entry, top[size - 1]) >= 0)) {
+            return size;
+        }
+
+        int position = size < top.length ? size++ : top.length - 1;
+        while (position > 0 && compare(entry, top[position - 1]) < 0) {
+            top[position] = top[position - 1];
+            position--;
+        }
+        top[position] = entry;
+
+        return size;
+    }
+
+    // 게시글 수가 많은 순, 같으면 이름 순
+    private static int compare(Entry a, Entry b) {
+        int byCount = Long.compare(b.articleCount, a.articleCount);
+        return byCount != 0 ? byCount : a.name.compareTo(b.name);
+    }
+
+    private static char[] concat(char[] head, char[] tail) {
+        char[] joined = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, joined, head.length, tail.length);
+        return joined;
+    }
+
+    private static class Entry {
+
+        private final Long id;
+        private final String name;
+        private final String key;
+        private long articleCount;
+
+        Entry(Long id, String name, long articleCount) {
+            this.id = id;
+            this.name = name;
+            this.key = HangulJamo.decompose(name);
+            this.articleCount = articleCount;
+        }
+
+    }
+
+    /**
+     * 자식은 label 첫 글자 순으로 정렬해서 이진탐색한다.
+     * 대소문자만 다른 이름처럼 키가 같은 해시태그가 있을 수 있으므로 한 노드에서 끝나는 해시태그는 배열로 둔다.
+     */
+    private static class Node {
+
+        private char[] label;
+        private char[] childKeys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private Entry[] entries = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        Node findChild(char key) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(childCount * 2, 2);
+                childKeys = Arrays.copyOf(childKeys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+
+            int index = -Arrays.binarySearch(childKeys, 0, childCount, child.label[0]) - 1;
+            System.arraycopy(childKeys, index, childKeys, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            childKeys[index] = child.label[0];
+            children[index] = child;
+            childCount++;
+        }
+
+        // 첫 글자가 같은 자식을 바꿔 끼운다.
+        void replaceChild(Node child) {
+            children[Arrays.binarySearch(childKeys, 0, childCount, child.label[0])] = child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, key);
+            System.arraycopy(childKeys, index + 1, childKeys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        void addEntry(Entry entry) {
+            entries = Arrays.copyOf(entries, entries.length + 1);
+            entries[entries.length - 1] = entry;
+        }
+
+        void removeEntry(Entry entry) {
+            entries = Arrays.stream(entries).filter(existing -> existing != entry).toArray(Entry[]::new);
+        }
+
+    }
+
+}
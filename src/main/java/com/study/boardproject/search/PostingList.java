@@ -0,0 +1,63 @@
+package com.study.boardproject.search;
+
+import java.util.Arrays;
+
+/**
+ * gram 하나에 대한 게시글 id 목록(postings)
+ * id 오름차순으로 정렬된 원시 배열에 보관해서 박싱 없이 이진탐색으로 교집합을 구할 수 있게 한다.
+ * 새 게시글은 대부분 가장 큰 id로 들어오므로 삽입은 보통 배열 끝에 붙는다.
+ * 오래된 게시글의 수정/삭제는 뒤쪽 원소를 모두 밀고 당기므로 postings 길이에 비례하고, 그동안 필드 색인의 쓰기 lock을 잡고 있다.
+ */
+final class PostingList {
+
+    private final String gram;
+    private long[] ids = new long[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    PostingList(String gram) {
+        this.gram = gram;
+    }
+
+    void put(long id, int frequency) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+    }
+
+    // 해당 게시글에서의 출현 횟수, 없으면 0
+    int frequencyOf(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        return index >= 0 ? frequencies[index] : 0;
+    }
+
+    String gram() { return gram; }
+    long idAt(int index) { return ids[index]; }
+    int size() { return size; }
+    boolean isEmpty() { return size == 0; }
+
+}
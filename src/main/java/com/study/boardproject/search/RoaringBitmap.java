@@ -0,0 +1,475 @@
+package com.study.boardproject.search;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 값의 압축 비트맵 (Roaring 방식)
+ * 값의 상위 16비트로 칸(container)을 나누고, 칸마다 값이 적으면(4096개 이하) 정렬된 char 배열, 많으면 65536비트 비트맵으로 들고 있다.
+ * 드문 해시태그는 값 하나에 2바이트, 흔한 해시태그는 값 하나에 1비트 정도만 쓰고, 교집합/합집합/차집합은 칸끼리 배열 병합이나 long 단위 비트 연산으로 한다.
+ * 연산 결과는 입력의 칸을 그대로 참조할 수 있으므로, 결과는 원본이 바뀌기 전에(HashtagBitmapIndex의 읽기 잠금 안에서) 다 쓰고 버린다.
+ * 동기화하지 않으므로 잠금은 쓰는 쪽에서 건다.
+ */
+final class RoaringBitmap {
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    void add(int value) {
+        char key = highBits(value);
+        int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(value));
+            return;
+        }
+
+        insertContainerAt(-index - 1, key, new ArrayContainer().add(lowBits(value)));
+    }
+
+    void remove(int value) {
+        int index = indexOf(highBits(value));
+        if (index < 0) {
+            return;
+        }
+
+        Container container = containers[index].remove(lowBits(value));
+        if (container.cardinality() == 0) {
+            removeContainerAt(index);
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    boolean contains(int value) {
+        int index = indexOf(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    RoaringBitmap and(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    RoaringBitmap or(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], containers[i]);
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j]);
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    RoaringBitmap andNot(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * below보다 작은 값을 큰 것부터 skip개 건너뛰고 limit개 돌려준다.
+     * 건너뛸 때는 칸 하나를 통째로 넘길 수 있으면 칸의 개수만 빼므로, 뒤쪽 페이지도 앞쪽 페이지와 거의 같은 시간이 걸린다.
+     */
+    int[] reverseValues(int below, long skip, int limit) {
+        int[] values = new int[limit];
+        int count = 0;
+        long remainingSkip = skip;
+        for (int i = size - 1; i >= 0 && count < limit; i--) {
+            int high = keys[i] << 16;
+            if (high >= below) {
+                continue;
+            }
+
+            Container container = containers[i];
+            int from = below - high > 0xFFFF ? 0xFFFF : below - high - 1;
+            if (from == 0xFFFF && remainingSkip >= container.cardinality()) {
+                remainingSkip -= container.cardinality();
+                continue;
+            }
+
+            for (int low = container.previousValue(from); low >= 0 && count < limit; low = low == 0 ? -1 : container.previousValue(low - 1)) {
+                if (remainingSkip > 0) {
+                    remainingSkip--;
+                } else {
+                    values[count++] = high | low;
+                }
+            }
+        }
+
+        return count == limit ? values : Arrays.copyOf(values, count);
+    }
+
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertContainerAt(size, key, container);
+        }
+    }
+
+    private void insertContainerAt(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainerAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private int indexOf(char key) {
+        // 새 게시글은 가장 큰 값으로 들어오므로 마지막 칸부터 본다.
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * 상위 16비트가 같은 값들을 담는 칸
+     * add, remove는 제자리에서 바꾸되 배열/비트맵 사이를 오가야 하면 새 칸을 돌려준다.
+     * and, or, andNot은 항상 새 칸을 돌려준다.
+     */
+    private abstract static class Container {
+
+        static final int ARRAY_MAX_SIZE = 4096; // 이보다 많으면 비트맵(8KB)이 배열보다 작다.
+
+        abstract Container add(char value);
+        abstract Container remove(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        // from 이하에서 가장 큰 값, 없으면 -1
+        abstract int previousValue(int from);
+
+        Container and(Container other) {
+            if (this instanceof BitmapContainer bitmap && other instanceof BitmapContainer otherBitmap) {
+                long[] words = new long[BitmapContainer.WORDS];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = bitmap.words[i] & otherBitmap.words[i];
+                }
+                return BitmapContainer.of(words).shrinkIfSparse();
+            }
+
+            ArrayContainer array = this instanceof ArrayContainer a ? a : (ArrayContainer) other;
+            Container probe = array == this ? other : this;
+            return array.filter(probe, true);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer array && other instanceof ArrayContainer otherArray) {
+                return array.union(otherArray);
+            }
+            if (this instanceof BitmapContainer bitmap && other instanceof BitmapContainer otherBitmap) {
+                long[] words = new long[BitmapContainer.WORDS];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = bitmap.words[i] | otherBitmap.words[i];
+                }
+                return BitmapContainer.of(words);
+            }
+
+            BitmapContainer bitmap = (this instanceof BitmapContainer b ? b : (BitmapContainer) other).copy();
+            ArrayContainer array = (ArrayContainer) (this instanceof ArrayContainer ? this : other);
+            for (int i = 0; i < array.cardinality; i++) {
+                bitmap.set(array.values[i]);
+            }
+
+            return bitmap;
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer array) {
+                return array.filter(other, false);
+            }
+
+            BitmapContainer bitmap = ((BitmapContainer) this).copy();
+            if (other instanceof BitmapContainer otherBitmap) {
+                for (int i = 0; i < BitmapContainer.WORDS; i++) {
+                    bitmap.words[i] &= ~otherBitmap.words[i];
+                }
+                bitmap.recount();
+            } else {
+                ArrayContainer otherArray = (ArrayContainer) other;
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    bitmap.clear(otherArray.values[i]);
+                }
+            }
+
+            return bitmap.shrinkIfSparse();
+        }
+
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) {
+                BitmapContainer bitmap = toBitmap();
+                bitmap.set(value);
+                return bitmap;
+            }
+
+            int insertAt = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(cardinality * 2, 4), ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int previousValue(int from) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            int at = index >= 0 ? index : -index - 2;
+            return at >= 0 ? values[at] : -1;
+        }
+
+        // keep이 true면 other에 있는 값만, false면 other에 없는 값만 남긴다.
+        ArrayContainer filter(Container other, boolean keep) {
+            char[] filtered = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    filtered[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(filtered, count);
+        }
+
+        Container union(ArrayContainer other) {
+            char[] merged = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j >= other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    merged[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > other.values[j]) {
+                    merged[count++] = other.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+
+            ArrayContainer union = new ArrayContainer(merged, count);
+            return count > ARRAY_MAX_SIZE ? union.toBitmap() : union;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = BitmapContainer.of(new long[BitmapContainer.WORDS]);
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        static final int WORDS = 1 << 10; // 65536비트
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer of(long[] words) {
+            BitmapContainer bitmap = new BitmapContainer(words, 0);
+            bitmap.recount();
+            return bitmap;
+        }
+
+        @Override
+        Container add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            clear(value);
+            return shrinkIfSparse();
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int previousValue(int from) {
+            int wordIndex = from >>> 6;
+            long word = words[wordIndex] & (-1L >>> (63 - (from & 63)));
+            while (true) {
+                if (word != 0) {
+                    return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(word);
+                }
+                if (--wordIndex < 0) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+        }
+
+        void set(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            words[value >>> 6] = after;
+            if (before != after) {
+                cardinality++;
+            }
+        }
+
+        void clear(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            words[value >>> 6] = after;
+            if (before != after) {
+                cardinality--;
+            }
+        }
+
+        void recount() {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            cardinality = count;
+        }
+
+        BitmapContainer copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        Container shrinkIfSparse() {
+            if (cardinality > ARRAY_MAX_SIZE) {
+                return this;
+            }
+
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.study.boardproject.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 색인용 토크나이저
+ * 한글은 형태소 분석 없이도 조사가 붙은 단어("게시판을")를 찾을 수 있어야 하므로 단어를 2글자 단위(bigram)로 잘라서 색인한다.
+ * 글자/숫자(Character.isLetterOrDigit)가 아닌 문자는 모두 단어 구분자로 취급하고 영문은 소문자로 정규화한다.
+ */
+public final class SearchTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private SearchTokenizer() {}
+
+    /**
+     * 본문을 gram 단위로 잘라서 gram별 출현 횟수를 반환한다.
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        forEachGram(text, gram -> frequencies.merge(gram, 1, Integer::sum));
+
+        return frequencies;
+    }
+
+    /**
+     * 검색어를 gram 집합으로 바꾼다.
+     * GRAM_SIZE보다 짧은 단어가 하나라도 있으면 색인만으로는 답할 수 없으므로 null을 반환한다. (호출하는 쪽에서 LIKE 검색으로 돌아간다.)
+     */
+    public static Set<String> queryGrams(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        Set<String> grams = new HashSet<>();
+        char[] word = new char[keyword.length()];
+        int length = 0;
+
+        for (int i = 0; i <= keyword.length(); i++) {
+            char c = i < keyword.length() ? keyword.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word[length++] = Character.toLowerCase(c);
+                continue;
+            }
+            if (length == 0) {
+                continue;
+            }
+            if (length < GRAM_SIZE) {
+                return null;
+            }
+            for (int start = 0; start + GRAM_SIZE <= length; start++) {
+                grams.add(new String(word, start, GRAM_SIZE));
+            }
+            length = 0;
+        }
+
+        return grams.isEmpty() ? null : grams;
+    }
+
+    // 단어를 하나씩 모으면서 GRAM_SIZE 이상인 단어에 대해서만 gram을 만들어 넘겨준다.
+    private static void forEachGram(String text, Consumer<String> action) {
+        char[] word = new char[text.length()];
+        int length = 0;
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word[length++] = Character.toLowerCase(c);
+                continue;
+            }
+            for (int start = 0; start + GRAM_SIZE <= length; start++) {
+                action.accept(new String(word, start, GRAM_SIZE));
+            }
+            length = 0;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.study.boardproject.seed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 여러 행을 insert 한 문장(insert into t (...) values (...), (...), ...)으로 묶어서 넣는다.
+ * batchSize 행이 모이면 바로 보내고, 남은 행은 flush()로 보낸다.
+ */
+class BatchInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String columnList;
+    private final int columnCount;
+    private final int batchSize;
+    private final String fullBatchSql;
+
+    private final List<Object> args;
+    private int rows = 0;
+    private long inserted = 0;
+
+    BatchInserter(JdbcTemplate jdbcTemplate, String table, List<String> columns, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.columnList = String.join(", ", columns);
+        this.columnCount = columns.size();
+        this.batchSize = batchSize;
+        this.fullBatchSql = buildSql(batchSize);
+        this.args = new ArrayList<>(batchSize * columnCount);
+    }
+
+    void add(Object... values) {
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException(table + " 컬럼 수와 값의 수가 다릅니다. - columns: " + columnCount + ", values: " + values.length);
+        }
+
+        Collections.addAll(args, values);
+        if (++rows == batchSize) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (rows == 0) {
+            return;
+        }
+
+        jdbcTemplate.update(rows == batchSize ? fullBatchSql : buildSql(rows), args.toArray());
+        inserted += rows;
+        args.clear();
+        rows = 0;
+    }
+
+    long inserted() {
+        return inserted;
+    }
+
+    private String buildSql(int rowCount) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "insert into " + table + " (" + columnList + ") values "
+                + String.join(", ", Collections.nCopies(rowCount, placeholders));
+    }
+
+}
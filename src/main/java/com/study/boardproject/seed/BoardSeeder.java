@@ -0,0 +1,230 @@
+package com.study.boardproject.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 성능 테스트용 대용량 데이터 생성기 (seed 프로파일)
+ * data.sql은 손으로 쓴 수백 건이라 운영 규모를 재현할 수 없어서, 설정(SeedProperties)한 수만큼 게시판 데이터를 만들어 넣는다.
+ * - 회원: user1 ~ userN (비밀번호는 data.sql 테스트 계정과 같다.)
+ * - 해시태그: Zipf 분포로 인기도를 나눠서 상위 해시태그에 게시글이 몰리게 한다.
+ * - 게시글: 1년에 걸쳐 id 순으로 작성일시가 늘어나고, 본문에 고른 해시태그를 #으로 적는다.
+ * - 댓글: 게시글마다 치우친 개수로 만들고, 일부는 앞선 댓글에 maxReplyDepth 깊이까지 대댓글로 단다.
+ * JPA를 거치지 않고 id를 직접 정해서(1부터) 여러 행 insert 문장으로 넣으므로 H2, MySQL 모두 빠르게 들어간다.
+ * 이후 애플리케이션이 만드는 id(SnowflakeIdGenerator)는 타임스탬프가 앞자리라 시드 id와 겹치지 않는다.
+ * ApplicationReadyEvent 전에 실행되므로 검색 색인, 해시태그 사전 같은 메모리 캐시는 만들어진 데이터로 채워진다.
+ */
+@Slf4j
+@Profile("seed")
+@RequiredArgsConstructor
+@Component
+public class BoardSeeder implements ApplicationRunner {
+
+    private static final String USER_PASSWORD = "{noop}asdf1234";
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "게시판", "검색", "성능", "쿼리", "인덱스", "댓글", "해시태그",
+            "querydsl", "thymeleaf", "security", "테스트", "배포", "캐시", "트랜잭션", "엔티티", "프로젝트", "정리",
+            "mysql", "redis", "kotlin", "개발", "리뷰", "설계", "장애", "모니터링", "api", "서버"
+    };
+    private static final int SEED_PERIOD_DAYS = 365;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seed();
+    }
+
+    public void seed() {
+        Long articleCount = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        if (articleCount != null && articleCount > 0) {
+            log.info("게시글이 이미 있어서 데이터 생성을 건너뜁니다. - articles: {}", articleCount);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(properties.randomSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<String> userIds = seedUserAccounts(now);
+        int hashtagCount = seedHashtags(now);
+        long[] counts = seedArticles(random, userIds, hashtagCount, now);
+
+        log.info("데이터 생성 완료 - users: {}, hashtags: {}, articles: {}, articleHashtags: {}, comments: {}, elapsed: {}ms",
+                userIds.size(), hashtagCount, properties.articles(), counts[0], counts[1], System.currentTimeMillis() - startedAt);
+    }
+
+    private List<String> seedUserAccounts(LocalDateTime now) {
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, "user_account",
+                List.of("user_id", "user_password", "nickname", "email", "memo", "created_at", "created_by", "modified_at", "modified_by"),
+                properties.batchSize());
+
+        List<String> userIds = new ArrayList<>(properties.users());
+        for (int i = 1; i <= properties.users(); i++) {
+            String userId = "user" + i;
+            LocalDateTime createdAt = now.minusDays(SEED_PERIOD_DAYS + 1);
+            inserter.add(userId, USER_PASSWORD, "User" + i, userId + "@mail.com", "I am " + userId + ".", createdAt, userId, createdAt, userId);
+            userIds.add(userId);
+        }
+        inserter.flush();
+
+        return userIds;
+    }
+
+    /**
+     * 해시태그 id는 인기 순위 + 1 이다. (1번이 가장 많이 쓰인다.)
+     */
+    private int seedHashtags(LocalDateTime now) {
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, "hashtag",
+                List.of("id", "hashtag_name", "created_at", "created_by", "modified_at", "modified_by"),
+                properties.batchSize());
+
+        LocalDateTime createdAt = now.minusDays(SEED_PERIOD_DAYS + 1);
+        for (int rank = 0; rank < properties.hashtags(); rank++) {
+            inserter.add(rank + 1L, hashtagName(rank), createdAt, "seed", createdAt, "seed");
+        }
+        inserter.flush();
+
+        return properties.hashtags();
+    }
+
+    /**
+     * 외래키 순서를 지키기 위해 batchSize개 게시글 단위로 게시글 -> 게시글 해시태그 -> 댓글 순으로 넣는다.
+     *
+     * @return {게시글 해시태그 수, 댓글 수}
+     */
+    private long[] seedArticles(SplittableRandom random, List<String> userIds, int hashtagCount, LocalDateTime now) {
+        int batchSize = properties.batchSize();
+        BatchInserter articleInserter = new BatchInserter(jdbcTemplate, "article",
+                List.of("id", "user_id", "title", "content", "created_at", "created_by", "modified_at", "modified_by"),
+                batchSize);
+        BatchInserter articleHashtagInserter = new BatchInserter(jdbcTemplate, "article_hashtag",
+                List.of("article_id", "hashtag_id"),
+                batchSize);
+        BatchInserter commentInserter = new BatchInserter(jdbcTemplate, "article_comment",
+                List.of("id", "article_id", "user_id", "parent_comment_id", "content", "created_at", "created_by", "modified_at", "modified_by"),
+                batchSize);
+
+        ZipfSampler hashtagSampler = hashtagCount > 0 ? new ZipfSampler(hashtagCount, properties.hashtagZipfExponent()) : null;
+        LocalDateTime firstCreatedAt = now.minusDays(SEED_PERIOD_DAYS);
+        long secondsPerArticle = Math.max(1, SEED_PERIOD_DAYS * 86_400L / Math.max(properties.articles(), 1));
+        long commentId = 0;
+
+        for (int chunkStart = 0; chunkStart < properties.articles(); chunkStart += batchSize) {
+            int chunkEnd = Math.min(properties.articles(), chunkStart + batchSize);
+            List<int[]> chunkHashtagRanks = new ArrayList<>(chunkEnd - chunkStart);
+
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                int[] hashtagRanks = pickHashtagRanks(random, hashtagSampler);
+                String userId = userIds.get(random.nextInt(userIds.size()));
+                LocalDateTime createdAt = firstCreatedAt.plusSeconds(i * secondsPerArticle);
+                articleInserter.add(i + 1L, userId, sentence(random, 3, 8), content(random, hashtagRanks), createdAt, userId, createdAt, userId);
+                chunkHashtagRanks.add(hashtagRanks);
+            }
+            articleInserter.flush();
+
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                long articleId = i + 1L;
+                for (int rank : chunkHashtagRanks.get(i - chunkStart)) {
+                    articleHashtagInserter.add(articleId, rank + 1L);
+                }
+                commentId = addComments(random, commentInserter, userIds, articleId, firstCreatedAt.plusSeconds(i * secondsPerArticle), commentId);
+            }
+            articleHashtagInserter.flush();
+            commentInserter.flush();
+
+            if (chunkEnd % (batchSize * 100) < batchSize) {
+                log.info("게시글 생성 중 - {}/{}", chunkEnd, properties.articles());
+            }
+        }
+
+        return new long[]{articleHashtagInserter.inserted(), commentInserter.inserted()};
+    }
+
+    /**
+     * 댓글 수는 대부분의 게시글이 적고 일부만 많도록 제곱으로 치우치게 뽑는다.
+     * 대댓글의 부모는 같은 게시글의 앞선 댓글 중에서 고르므로, 부모 행이 항상 먼저 들어간다.
+     *
+     * @return 마지막으로 쓴 댓글 id
+     */
+    private long addComments(SplittableRandom random, BatchInserter inserter, List<String> userIds, long articleId, LocalDateTime articleCreatedAt, long lastCommentId) {
+        double skew = random.nextDouble();
+        int commentCount = (int) (properties.maxCommentsPerArticle() * skew * skew);
+
+        long firstCommentId = lastCommentId + 1;
+        int[] depths = new int[commentCount];
+        LocalDateTime createdAt = articleCreatedAt;
+        for (int k = 0; k < commentCount; k++) {
+            Long parentCommentId = null;
+            if (k > 0 && random.nextInt(100) < properties.replyPercent()) {
+                int parentIndex = random.nextInt(k);
+                if (depths[parentIndex] < properties.maxReplyDepth()) {
+                    parentCommentId = firstCommentId + parentIndex;
+                    depths[k] = depths[parentIndex] + 1;
+                }
+            }
+
+            String userId = userIds.get(random.nextInt(userIds.size()));
+            createdAt = createdAt.plusSeconds(1 + random.nextInt(600));
+            inserter.add(firstCommentId + k, articleId, userId, parentCommentId, sentence(random, 3, 30), createdAt, userId, createdAt, userId);
+        }
+
+        return lastCommentId + commentCount;
+    }
+
+    private int[] pickHashtagRanks(SplittableRandom random, ZipfSampler sampler) {
+        if (sampler == null) {
+            return new int[0];
+        }
+
+        int count = Math.min(random.nextInt(properties.maxHashtagsPerArticle() + 1), sampler.size());
+        Set<Integer> ranks = new LinkedHashSet<>();
+        for (int attempt = 0; ranks.size() < count && attempt < count * 10; attempt++) {
+            ranks.add(sampler.sample(random));
+        }
+
+        return ranks.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private String content(SplittableRandom random, int[] hashtagRanks) {
+        StringBuilder builder = new StringBuilder();
+        int paragraphs = 1 + random.nextInt(4);
+        for (int p = 0; p < paragraphs; p++) {
+            builder.append(sentence(random, 10, 60)).append("\n\n");
+        }
+        for (int rank : hashtagRanks) {
+            builder.append('#').append(hashtagName(rank)).append(' ');
+        }
+
+        return builder.toString().strip();
+    }
+
+    private String sentence(SplittableRandom random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringJoiner joiner = new StringJoiner(" ", "", ".");
+        for (int w = 0; w < words; w++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * 해시태그로 파싱되는 문자만 쓰도록 단어 뒤에 숫자를 붙여서 이름을 만든다. (spring, boot, ..., spring1, boot1, ...)
+     */
+    private static String hashtagName(int rank) {
+        int round = rank / WORDS.length;
+        return WORDS[rank % WORDS.length] + (round == 0 ? "" : String.valueOf(round));
+    }
+
+}
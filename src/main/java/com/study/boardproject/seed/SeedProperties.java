@@ -0,0 +1,23 @@
+package com.study.boardproject.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 성능 테스트용 데이터 생성 설정 (board.seed)
+ * seed 프로파일로 실행하면 BoardSeeder가 이 값대로 데이터를 만든다.
+ */
+@ConfigurationProperties("board.seed")
+public record SeedProperties(
+        @DefaultValue("1000") int users,
+        @DefaultValue("100000") int articles,
+        @DefaultValue("20") int maxCommentsPerArticle, // 게시글당 댓글 수 상한 (대부분의 게시글은 댓글이 적도록 치우치게 뽑는다.)
+        @DefaultValue("30") int replyPercent, // 댓글 중 대댓글 비율 (%)
+        @DefaultValue("2") int maxReplyDepth, // 대댓글에 다시 달 수 있는 깊이
+        @DefaultValue("5000") int hashtags,
+        @DefaultValue("1.1") double hashtagZipfExponent, // 해시태그 인기도 분포 (클수록 상위 해시태그에 몰린다.)
+        @DefaultValue("3") int maxHashtagsPerArticle,
+        @DefaultValue("1000") int batchSize, // insert 한 문장에 넣는 행 수
+        @DefaultValue("42") long randomSeed // 같은 값이면 같은 데이터가 만들어진다.
+) {
+}
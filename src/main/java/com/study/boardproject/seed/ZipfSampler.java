@@ -0,0 +1,40 @@
+package com.study.boardproject.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 k(0부터)가 1 / (k + 1)^exponent 에 비례하는 확률로 뽑히는 Zipf 분포 샘플러
+ * 누적 확률표를 한 번 만들어두고 이분 탐색으로 뽑는다.
+ */
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다. - size: " + size);
+        }
+
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+}
@@ -4,16 +4,22 @@ import com.study.boardproject.domain.Article;
 import com.study.boardproject.domain.ArticleComment;
 import com.study.boardproject.domain.UserAccount;
 import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleCommentThreadDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.event.ArticleCommentEvent;
 import com.study.boardproject.repository.ArticleCommentRepository;
 import com.study.boardproject.repository.ArticleRepository;
 import com.study.boardproject.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,6 +30,7 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -33,6 +40,22 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 게시글의 최상위 댓글을 한 페이지씩 가져온다. 대댓글은 개수만 함께 내려준다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentThreadDto> searchRootComments(Long articleId, PageCursor cursor, int size) {
+        return withChildCounts(articleCommentRepository.findRootCommentDtos(articleId, cursor, size));
+    }
+
+    /**
+     * 댓글의 대댓글을 한 페이지씩 가져온다. 대댓글에 달린 대댓글도 개수만 함께 내려준다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentThreadDto> searchReplies(Long parentCommentId, PageCursor cursor, int size) {
+        return withChildCounts(articleCommentRepository.findReplyCommentDtos(parentCommentId, cursor, size));
+    }
+
     /**
      * 게시글 댓글 저장 메소드
      */
@@ -50,6 +73,8 @@ public class ArticleCommentService {
                 articleCommentRepository.save(articleComment);
             }
 
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, dto.articleId(), articleComment.getId()));
+
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
@@ -59,13 +84,32 @@ public class ArticleCommentService {
         try {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if (dto.content() != null) { articleComment.setContent(dto.content()); }
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.UPDATED, articleComment.getArticle().getId(), dto.id()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
         }
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
+        // 어느 게시글의 댓글인지 알아야 그 게시글의 상세 캐시를 지울 수 있다.
+        Long articleId = articleCommentRepository.findById(articleCommentId)
+                .map(articleComment -> articleComment.getArticle().getId())
+                .orElse(null);
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+
+        if (articleId != null) {
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, articleId, articleCommentId));
+        }
+    }
+
+    // 페이지에 들어있는 댓글들의 대댓글 수를 쿼리 한 번으로 붙인다.
+    private Slice<ArticleCommentThreadDto> withChildCounts(Slice<ArticleCommentDto> comments) {
+        List<Long> commentIds = comments.getContent().stream()
+                .map(ArticleCommentDto::id)
+                .toList();
+        Map<Long, Long> childCounts = articleCommentRepository.countRepliesByParentCommentIds(commentIds);
+
+        return comments.map(comment -> ArticleCommentThreadDto.of(comment, childCounts.getOrDefault(comment.id(), 0L)));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 수 캐시
+ * 목록/상세 페이지마다 count(*)를 날리지 않도록 전체 게시글 수, 해시태그별 게시글 수, 검색어별 게시글 수를 메모리에 들고 있는다.
+ * - 전체 수: 게시글 이벤트(커밋 이후)로 증감하고 주기적으로 DB 값과 맞춘다.
+ * - 해시태그별 수: 해시태그 사전(HashtagDictionary)이 들고 있는 값을 쓴다.
+ * - 검색어별 수: 게시글 하나가 어떤 검색어에 걸리는지 알 수 없으므로 처음 조회할 때 DB에서 세어 두고, 쓰기가 일어나면 비운다.
+ *   비울 때마다 쓰기 버전을 올리고, 세기 시작한 뒤 버전이 바뀌었으면 센 값을 넣지 않는다. (비우기 전에 센 옛 값이 비운 뒤에 들어가지 않도록)
+ * 이벤트와 재조정 사이에는 잠깐 어긋날 수 있으므로 화면의 페이지 수 계산 같은 근사값 용도로만 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCountService {
+
+    private static final long NOT_LOADED = -1L;
+    private static final int MAX_SEARCH_COUNT_ENTRIES = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final HashtagDictionary hashtagDictionary;
+
+    private final AtomicLong totalCount = new AtomicLong(NOT_LOADED);
+    // searchCounts를 비울 때마다 올린다. 바꾸고 확인하는 것은 모두 searchCounts의 락 안에서 한다.
+    private long writeVersion = 0L;
+    // 접근 순서 기준 LRU, 크기를 넘으면 가장 오래 안 쓴 검색어부터 버린다.
+    private final Map<SearchKey, Long> searchCounts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SearchKey, Long> eldest) {
+            return size() > MAX_SEARCH_COUNT_ENTRIES;
+        }
+    });
+
+    public long getTotalCount() {
+        long count = totalCount.get();
+        if (count == NOT_LOADED) {
+            count = articleRepository.count();
+            totalCount.compareAndSet(NOT_LOADED, count);
+        }
+
+        return count;
+    }
+
+    public long getHashtagCount(String hashtagName) {
+        return hashtagDictionary.getArticleCount(hashtagName);
+    }
+
+    /**
+     * 검색어별 게시글 수, 검색어가 없으면 전체 게시글 수
+     */
+    public long getSearchCount(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return getTotalCount();
+        }
+
+        SearchKey key = new SearchKey(searchType, searchKeyword);
+        long version;
+        synchronized (searchCounts) {
+            Long count = searchCounts.get(key);
+            if (count != null) {
+                return count;
+            }
+            version = writeVersion;
+        }
+
+        // DB 조회 중에는 락을 잡지 않는다. 같은 검색어가 동시에 들어오면 한두 번 더 셀 수 있다.
+        long count = articleRepository.countBySearch(searchType, searchKeyword);
+        synchronized (searchCounts) {
+            if (writeVersion == version) {
+                searchCounts.put(key, count);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * 커밋된 게시글 변경만 반영한다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED -> totalCount.updateAndGet(count -> count == NOT_LOADED ? count : count + 1);
+            case DELETED -> totalCount.updateAndGet(count -> count == NOT_LOADED ? count : count - 1);
+            default -> { }
+        }
+
+        clearSearchCounts();
+    }
+
+    /**
+     * 이벤트 유실(다른 인스턴스의 쓰기, 직접 수정한 DB 등)로 벌어진 값을 주기적으로 DB 값과 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.count.reconcile-interval-ms:300000}",
+            fixedDelayString = "${board.count.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        totalCount.set(articleRepository.count());
+        clearSearchCounts();
+        log.debug("게시글 수 캐시 재조정 - total: {}", totalCount.get());
+    }
+
+    private void clearSearchCounts() {
+        synchronized (searchCounts) {
+            writeVersion++;
+            searchCounts.clear();
+        }
+    }
+
+    private record SearchKey(SearchType searchType, String searchKeyword) {}
+
+}
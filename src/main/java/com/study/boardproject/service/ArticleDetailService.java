@@ -0,0 +1,44 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.config.CacheConfig;
+import com.study.boardproject.dto.response.ArticleWithCommentsResponse;
+import com.study.boardproject.event.ArticleCommentEvent;
+import com.study.boardproject.event.ArticleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 페이지 캐시
+ * 게시글 + 댓글 조회, dto 변환, 댓글 트리 구성까지 끝난 응답 객체를 게시글 id로 캐시한다.
+ * 게시글이나 그 게시글의 댓글이 바뀌면(커밋 이후) 해당 게시글 항목만 지운다.
+ * 쓰기 커밋 직전에 읽어 간 요청이 지운 뒤에 옛 값을 넣을 수 있으므로 expireAfterWrite로 최대 수명을 둔다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleDetailService {
+
+    private final ArticleService articleService;
+
+    @Cacheable(cacheNames = CacheConfig.ARTICLE_DETAIL, key = "#articleId")
+    public ArticleWithCommentsResponse getArticleDetail(Long articleId) {
+        return ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_DETAIL, key = "#event.articleId()")
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        log.debug("게시글 상세 캐시 삭제 - articleId: {}, eventType: {}", event.articleId(), event.eventType());
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_DETAIL, key = "#event.articleId()")
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        log.debug("게시글 상세 캐시 삭제 - articleId: {}, comment eventType: {}", event.articleId(), event.eventType());
+    }
+
+}
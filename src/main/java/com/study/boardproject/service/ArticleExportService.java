@@ -0,0 +1,289 @@
+package com.study.boardproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
+import com.study.boardproject.dto.request.ArticleExportRequest;
+import com.study.boardproject.dto.response.ArticleExportResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 게시글 내보내기 (게시글과 댓글 전체를 NDJSON 또는 CSV로)
+ * data rest(/api)처럼 페이지마다 엔티티와 지연 로딩 연관관계를 만들지 않고, JDBC로 읽어서 바로 응답 스트림에 쓴다.
+ * - 게시글은 id 순 forward-only 커서 하나로 fetch-size 행씩 받아온다. (영속성 컨텍스트가 없으므로 비워줄 것도 없다.)
+ *   MySQL Connector/J는 url에 useCursorFetch=true가 없으면 양수 fetch size를 무시하고 결과 전체를 메모리에 받는다.
+ *   url은 다른 쿼리와 같이 쓰므로 MySQL에서는 fetch size를 Integer.MIN_VALUE로 줘서 한 행씩 흘려받는다(streaming).
+ * - chunk-size 개 게시글이 모이면 그 게시글들의 해시태그와 댓글을 IN 쿼리로 읽어서 쓰고 버린다.
+ *   streaming 중인 연결에서는 다른 쿼리를 실행할 수 없으므로, IN 쿼리는 chunk마다 새 트랜잭션(REQUIRES_NEW)을 열어서 다른 연결로 실행한다.
+ *   (트랜잭션 동기화가 켜져 있으면 NOT_SUPPORTED처럼 트랜잭션만 없애서는 커서 연결이 스레드에 묶여 IN 쿼리도 같은 연결을 쓴다.)
+ * 메모리에는 게시글 한 chunk만 남으므로 내보내는 행 수와 상관없이 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class ArticleExportService {
+
+    private static final String CSV_HEADER =
+            "record_type,id,article_id,parent_comment_id,user_id,title,content,hashtags,created_at,created_by,modified_at,modified_by";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int fetchSize;
+    private final int chunkSize;
+
+    public ArticleExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${board.article-export.fetch-size:1000}") int fetchSize,
+            @Value("${board.article-export.chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fetchSize = fetchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 조건에 맞는 게시글을 id 순으로 output에 쓴다.
+     *
+     * @return 내보낸 게시글 수
+     */
+    public long exportArticles(ArticleExportRequest request, ArticleFileFormat format, OutputStream output) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == ArticleFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        List<Object> args = new ArrayList<>();
+        String sql = buildArticleQuery(request, args);
+        List<ArticleRow> chunk = new ArrayList<>(chunkSize);
+        long[] exported = {0};
+        try {
+            jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(isMySql(connection) ? Integer.MIN_VALUE : fetchSize);
+                        for (int i = 0; i < args.size(); i++) {
+                            statement.setObject(i + 1, args.get(i));
+                        }
+                        return statement;
+                    },
+                    (RowCallbackHandler) resultSet -> {
+                        chunk.add(ArticleRow.from(resultSet));
+                        if (chunk.size() == chunkSize) {
+                            exported[0] += writeChunk(chunk, format, writer);
+                            chunk.clear();
+                        }
+                    }
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트가 연결을 끊으면 여기로 온다.
+        }
+        if (!chunk.isEmpty()) {
+            exported[0] += writeChunk(chunk, format, writer);
+        }
+        writer.flush();
+
+        log.info("게시글 내보내기 완료 - format: {}, articles: {}, elapsed: {}ms", format, exported[0], System.currentTimeMillis() - startedAt);
+        return exported[0];
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private String buildArticleQuery(ArticleExportRequest request, List<Object> args) {
+        StringBuilder sql = new StringBuilder(
+                "select a.id, a.user_id, a.title, a.content, a.created_at, a.created_by, a.modified_at, a.modified_by from article a where 1 = 1"
+        );
+        if (request.hashtagName() != null && !request.hashtagName().isBlank()) {
+            sql.append(" and exists (select 1 from article_hashtag ah join hashtag h on h.id = ah.hashtag_id where ah.article_id = a.id and h.hashtag_name = ?)");
+            args.add(request.hashtagName());
+        }
+        if (request.userId() != null && !request.userId().isBlank()) {
+            sql.append(" and a.user_id = ?");
+            args.add(request.userId());
+        }
+        if (request.createdFrom() != null) {
+            sql.append(" and a.created_at >= ?");
+            args.add(request.createdFrom());
+        }
+        if (request.createdTo() != null) {
+            sql.append(" and a.created_at < ?");
+            args.add(request.createdTo());
+        }
+
+        return sql.append(" order by a.id").toString();
+    }
+
+    private int writeChunk(List<ArticleRow> chunk, ArticleFileFormat format, Writer writer) {
+        List<Long> articleIds = chunk.stream().map(ArticleRow::id).toList();
+        // 게시글 커서가 연결을 쥐고 있으므로 새 트랜잭션으로 다른 연결을 받아서 읽는다.
+        ChunkRelations relations = chunkTransactionTemplate.execute(status ->
+                new ChunkRelations(findHashtagNames(articleIds), findComments(articleIds))
+        );
+        Map<Long, List<String>> hashtagNames = relations.hashtagNames();
+        Map<Long, List<ArticleExportResponse.CommentResponse>> comments = relations.comments();
+
+        try {
+            for (ArticleRow article : chunk) {
+                List<String> articleHashtagNames = hashtagNames.getOrDefault(article.id(), List.of());
+                List<ArticleExportResponse.CommentResponse> articleComments = comments.getOrDefault(article.id(), List.of());
+                switch (format) {
+                    case NDJSON -> writeNdjson(writer, article, articleHashtagNames, articleComments);
+                    case CSV -> writeCsv(writer, article, articleHashtagNames, articleComments);
+                }
+            }
+            writer.flush(); // chunk마다 내보내서 클라이언트가 바로 받기 시작하게 한다.
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return chunk.size();
+    }
+
+    private void writeNdjson(Writer writer, ArticleRow article, List<String> hashtagNames, List<ArticleExportResponse.CommentResponse> comments) throws IOException {
+        writer.write(objectMapper.writeValueAsString(ArticleExportResponse.of(
+                article.id(),
+                article.userId(),
+                article.title(),
+                article.content(),
+                hashtagNames,
+                article.createdAt(),
+                article.createdBy(),
+                article.modifiedAt(),
+                article.modifiedBy(),
+                comments
+        )));
+        writer.write('\n');
+    }
+
+    /**
+     * 게시글 한 행(record_type=article) 뒤에 그 댓글 행(record_type=comment)을 이어서 쓴다.
+     */
+    private void writeCsv(Writer writer, ArticleRow article, List<String> hashtagNames, List<ArticleExportResponse.CommentResponse> comments) throws IOException {
+        writeCsvRow(writer, "article", article.id(), article.id(), null, article.userId(), article.title(), article.content(),
+                String.join(" ", hashtagNames), article.createdAt(), article.createdBy(), article.modifiedAt(), article.modifiedBy());
+        for (ArticleExportResponse.CommentResponse comment : comments) {
+            writeCsvRow(writer, "comment", comment.id(), article.id(), comment.parentCommentId(), comment.userId(), null, comment.content(),
+                    null, comment.createdAt(), comment.createdBy(), comment.modifiedAt(), comment.modifiedBy());
+        }
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private Map<Long, List<String>> findHashtagNames(List<Long> articleIds) {
+        Map<Long, List<String>> hashtagNames = new HashMap<>();
+        jdbcTemplate.query(
+                "select ah.article_id, h.hashtag_name from article_hashtag ah join hashtag h on h.id = ah.hashtag_id"
+                        + " where ah.article_id in (" + placeholders(articleIds.size()) + ") order by h.hashtag_name",
+                (RowCallbackHandler) resultSet -> hashtagNames
+                        .computeIfAbsent(resultSet.getLong("article_id"), id -> new ArrayList<>())
+                        .add(resultSet.getString("hashtag_name")),
+                articleIds.toArray()
+        );
+
+        return hashtagNames;
+    }
+
+    private Map<Long, List<ArticleExportResponse.CommentResponse>> findComments(List<Long> articleIds) {
+        Map<Long, List<ArticleExportResponse.CommentResponse>> comments = new HashMap<>();
+        jdbcTemplate.query(
+                "select id, article_id, parent_comment_id, user_id, content, created_at, created_by, modified_at, modified_by from article_comment"
+                        + " where article_id in (" + placeholders(articleIds.size()) + ") order by article_id, created_at, id",
+                (RowCallbackHandler) resultSet -> comments
+                        .computeIfAbsent(resultSet.getLong("article_id"), id -> new ArrayList<>())
+                        .add(ArticleExportResponse.CommentResponse.of(
+                                resultSet.getLong("id"),
+                                resultSet.getObject("parent_comment_id", Long.class),
+                                resultSet.getString("user_id"),
+                                resultSet.getString("content"),
+                                resultSet.getObject("created_at", LocalDateTime.class),
+                                resultSet.getString("created_by"),
+                                resultSet.getObject("modified_at", LocalDateTime.class),
+                                resultSet.getString("modified_by")
+                        )),
+                articleIds.toArray()
+        );
+
+        return comments;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record ArticleRow(
+            Long id,
+            String userId,
+            String title,
+            String content,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime modifiedAt,
+            String modifiedBy
+    ) {
+
+        static ArticleRow from(ResultSet resultSet) throws SQLException {
+            return new ArticleRow(
+                    resultSet.getLong("id"),
+                    resultSet.getString("user_id"),
+                    resultSet.getString("title"),
+                    resultSet.getString("content"),
+                    resultSet.getObject("created_at", LocalDateTime.class),
+                    resultSet.getString("created_by"),
+                    resultSet.getObject("modified_at", LocalDateTime.class),
+                    resultSet.getString("modified_by")
+            );
+        }
+
+    }
+
+    private record ChunkRelations(
+            Map<Long, List<String>> hashtagNames,
+            Map<Long, List<ArticleExportResponse.CommentResponse>> comments
+    ) {}
+
+}
@@ -0,0 +1,186 @@
+package com.study.boardproject.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
+import com.study.boardproject.dto.request.ArticleRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 일괄 가져오기 본문을 레코드 하나씩 읽는다.
+ * 본문 전체를 메모리에 올리지 않고 BufferedReader에서 필요한 만큼만 읽는다.
+ * 형식이 잘못된 레코드는 예외 대신 error를 채운 레코드로 돌려주고 다음 레코드를 계속 읽는다.
+ */
+class ArticleImportReader {
+
+    // 따옴표가 닫히지 않은 CSV 필드가 본문 끝까지 메모리에 쌓이지 않도록 필드 길이를 자른다. (게시글 본문 최대 길이보다 길면 어차피 실패한다.)
+    private static final int MAX_FIELD_LENGTH = 20_000;
+
+    private final ArticleFileFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    private long nextLineNumber = 1;
+    private int titleIndex = -1;
+    private int contentIndex = -1;
+
+    private ArticleImportReader(ArticleFileFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    static ArticleImportReader of(ArticleFileFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        return new ArticleImportReader(format, reader, objectMapper);
+    }
+
+    /**
+     * @return 다음 레코드, 본문 끝이면 null
+     */
+    ImportRecord next() throws IOException {
+        return switch (format) {
+            case NDJSON -> nextNdjson();
+            case CSV -> nextCsv();
+        };
+    }
+
+    private ImportRecord nextNdjson() throws IOException {
+        String line;
+        long lineNumber;
+        do {
+            line = reader.readLine();
+            lineNumber = nextLineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        try {
+            ArticleRequest request = objectMapper.readValue(line, ArticleRequest.class);
+            if (request == null) {
+                return ImportRecord.error(lineNumber, "JSON 객체가 아닙니다.");
+            }
+            return ImportRecord.of(lineNumber, request.title(), request.content());
+        } catch (JsonProcessingException e) {
+            return ImportRecord.error(lineNumber, "JSON 형식이 잘못되었습니다. - " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (titleIndex < 0 || contentIndex < 0) {
+            long headerLineNumber = nextLineNumber;
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+
+            List<String> columns = header.stream().map(column -> column.strip().toLowerCase(Locale.ROOT)).toList();
+            titleIndex = columns.indexOf("title");
+            contentIndex = columns.indexOf("content");
+            if (titleIndex < 0 || contentIndex < 0) {
+                drain();
+                return ImportRecord.error(headerLineNumber, "CSV 헤더에 title, content 컬럼이 있어야 합니다. - header: " + header);
+            }
+        }
+
+        List<String> fields;
+        long lineNumber;
+        do {
+            lineNumber = nextLineNumber;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() <= Math.max(titleIndex, contentIndex)) {
+            return ImportRecord.error(lineNumber, "CSV 컬럼 수가 헤더보다 적습니다. - columns: " + fields.size());
+        }
+
+        return ImportRecord.of(lineNumber, fields.get(titleIndex), fields.get(contentIndex));
+    }
+
+    /**
+     * CSV 레코드 하나를 읽는다. 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" (따옴표 하나)를 처리한다.
+     */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString()); // 닫히지 않은 따옴표는 본문 끝까지를 한 필드로 본다.
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    nextLineNumber++;
+                }
+                append(field, c);
+            } else {
+                if (c == -1 || c == '\n') {
+                    if (c == '\n') {
+                        nextLineNumber++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c != '\r') {
+                    append(field, c);
+                }
+            }
+            c = reader.read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        }
+    }
+
+    private void drain() throws IOException {
+        while (reader.read() != -1) {
+            // 헤더가 잘못되면 나머지는 읽을 수 없으므로 버린다.
+        }
+    }
+
+    /**
+     * 읽은 레코드 하나 (형식이 잘못되었으면 error에 사유가 있다.)
+     */
+    record ImportRecord(long lineNumber, String title, String content, String error) {
+
+        static ImportRecord of(long lineNumber, String title, String content) {
+            return new ImportRecord(lineNumber, title, content, null);
+        }
+
+        static ImportRecord error(long lineNumber, String error) {
+            return new ImportRecord(lineNumber, null, null, error);
+        }
+
+    }
+
+}
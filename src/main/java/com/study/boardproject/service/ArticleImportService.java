@@ -0,0 +1,244 @@
+package com.study.boardproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
+import com.study.boardproject.domain.id.SnowflakeIdGenerator;
+import com.study.boardproject.dto.ArticleImportResultDto;
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.event.ArticleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 게시글 일괄 가져오기 (이전 시스템 게시판 이관용)
+ * 게시글 폼을 한 건씩 저장하던 것(saveArticle: 해시태그 조회, 게시글 insert)을 chunk-size 건씩 묶어서 처리한다.
+ * - 본문은 스트림으로 레코드 하나씩 읽고, 검증에 실패한 레코드는 줄 번호와 사유를 남기고 넘어간다.
+ * - chunk의 해시태그 이름을 한 번에 모아서 사전(HashtagDictionary)과 IN 쿼리 한 번으로 id를 찾고, 없는 해시태그만 새로 넣는다.
+ * - id는 엔티티와 같은 SnowflakeIdGenerator로 미리 만들고, 게시글, 해시태그, 게시글 해시태그를 JDBC batch로 넣고 chunk마다 커밋한다. 저장에 실패한 chunk는 그 chunk의 레코드만 실패로 남긴다.
+ * 커밋된 게시글은 ArticleEvent로 알려서 검색 색인, 게시글 수, 해시태그 사전이 갱신되게 한다.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+    private static final int MAX_REPORTED_FAILURES = 1_000;
+
+    private static final String INSERT_ARTICLE_SQL =
+            "insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_HASHTAG_SQL =
+            "insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG_SQL =
+            "insert into article_hashtag (article_id, hashtag_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final HashtagService hashtagService;
+    private final HashtagDictionary hashtagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ArticleImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SnowflakeIdGenerator idGenerator,
+            HashtagService hashtagService,
+            HashtagDictionary hashtagDictionary,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${board.article-import.chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.idGenerator = idGenerator;
+        this.hashtagService = hashtagService;
+        this.hashtagDictionary = hashtagDictionary;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ArticleImportResultDto importArticles(InputStream input, ArticleFileFormat format, UserAccountDto author) throws IOException {
+        ArticleImportReader reader = ArticleImportReader.of(
+                format,
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+                objectMapper
+        );
+        ImportReport report = new ImportReport();
+        List<PendingArticle> chunk = new ArrayList<>(chunkSize);
+
+        ArticleImportReader.ImportRecord record;
+        while ((record = reader.next()) != null) {
+            String error = record.error() != null ? record.error() : validate(record);
+            if (error != null) {
+                report.fail(record.lineNumber(), error);
+                continue;
+            }
+
+            chunk.add(new PendingArticle(record.lineNumber(), record.title(), record.content(), hashtagService.parseHashtagNames(record.content())));
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, author.userId(), report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, author.userId(), report);
+        }
+
+        log.info("게시글 가져오기 완료 - userId: {}, format: {}, imported: {}, failed: {}", author.userId(), format, report.imported, report.failed);
+        return report.toDto();
+    }
+
+    private String validate(ArticleImportReader.ImportRecord record) {
+        if (record.title() == null || record.title().isBlank()) {
+            return "제목이 비어 있습니다.";
+        }
+        if (record.content() == null || record.content().isBlank()) {
+            return "본문이 비어 있습니다.";
+        }
+        if (record.title().length() > MAX_TITLE_LENGTH) {
+            return "제목은 " + MAX_TITLE_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (record.content().length() > MAX_CONTENT_LENGTH) {
+            return "본문은 " + MAX_CONTENT_LENGTH + "자를 넘을 수 없습니다.";
+        }
+
+        return null;
+    }
+
+    private void saveChunk(List<PendingArticle> chunk, String userId, ImportReport report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeChunk(chunk, userId));
+            report.imported += chunk.size();
+        } catch (RuntimeException e) {
+            String message = "저장에 실패했습니다. - " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("게시글 가져오기 chunk 저장 실패 - lines: {}~{}", chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e);
+            chunk.forEach(article -> report.fail(article.lineNumber(), message));
+        }
+
+        log.debug("게시글 가져오기 진행 - imported: {}, failed: {}", report.imported, report.failed);
+    }
+
+    private void writeChunk(List<PendingArticle> chunk, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> hashtagIds = resolveHashtagIds(chunk, userId, now);
+        List<Long> articleIds = insertArticles(chunk, userId, now);
+
+        List<Object[]> articleHashtags = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Long articleId = articleIds.get(i);
+            chunk.get(i).hashtagNames().forEach(name -> articleHashtags.add(new Object[]{articleId, hashtagIds.get(name)}));
+        }
+        if (!articleHashtags.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG_SQL, articleHashtags);
+        }
+
+        // 트랜잭션 안에서 발행해야 @TransactionalEventListener가 커밋 이후에 받는다.
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingArticle article = chunk.get(i);
+            eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, articleIds.get(i), article.title(), article.content(), article.hashtagNames(), Set.of(), now));
+        }
+    }
+
+    /**
+     * chunk의 해시태그 이름 -> id
+     * 사전에 있는 이름은 메모리에서 찾고, 나머지만 IN 쿼리로 확인한 뒤 그래도 없는 이름만 새로 넣는다.
+     * 게시글이 없는 해시태그는 사전이 id를 주지 않으므로(이미 청소됐을 수 있다) IN 쿼리로 다시 확인한다. 지워진 id 하나로 chunk 전체가 실패하지 않도록.
+     */
+    private Map<String, Long> resolveHashtagIds(List<PendingArticle> chunk, String userId, LocalDateTime now) {
+        Set<String> names = new HashSet<>();
+        chunk.forEach(article -> names.addAll(article.hashtagNames()));
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> hashtagIds = new HashMap<>(hashtagDictionary.findIds(names));
+        names.removeAll(hashtagIds.keySet());
+        if (names.isEmpty()) {
+            return hashtagIds;
+        }
+
+        hashtagIds.putAll(findHashtagIds(names));
+        names.removeAll(hashtagIds.keySet());
+        if (!names.isEmpty()) {
+            List<Object[]> newHashtags = new ArrayList<>(names.size());
+            for (String name : names) {
+                long hashtagId = idGenerator.nextId();
+                hashtagIds.put(name, hashtagId);
+                newHashtags.add(new Object[]{hashtagId, name, now, userId, now, userId});
+            }
+            jdbcTemplate.batchUpdate(INSERT_HASHTAG_SQL, newHashtags);
+        }
+
+        return hashtagIds;
+    }
+
+    private Map<String, Long> findHashtagIds(Collection<String> names) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        Map<String, Long> hashtagIds = new HashMap<>();
+        jdbcTemplate.query(
+                "select id, hashtag_name from hashtag where hashtag_name in (" + placeholders + ")",
+                resultSet -> {
+                    hashtagIds.put(resultSet.getString("hashtag_name"), resultSet.getLong("id"));
+                },
+                names.toArray()
+        );
+
+        return hashtagIds;
+    }
+
+    /**
+     * 게시글을 batch로 넣고 만든 id를 넣은 순서대로 돌려준다.
+     */
+    private List<Long> insertArticles(List<PendingArticle> chunk, String userId, LocalDateTime now) {
+        List<Long> articleIds = new ArrayList<>(chunk.size());
+        List<Object[]> articles = new ArrayList<>(chunk.size());
+        for (PendingArticle article : chunk) {
+            long articleId = idGenerator.nextId();
+            articleIds.add(articleId);
+            articles.add(new Object[]{articleId, userId, article.title(), article.content(), now, userId, now, userId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE_SQL, articles);
+
+        return articleIds;
+    }
+
+    private record PendingArticle(long lineNumber, String title, String content, Set<String> hashtagNames) {
+    }
+
+    private static class ImportReport {
+
+        private long imported = 0;
+        private long failed = 0;
+        private final List<ArticleImportResultDto.Failure> failures = new ArrayList<>();
+
+        void fail(long lineNumber, String message) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(ArticleImportResultDto.Failure.of(lineNumber, message));
+            }
+        }
+
+        ArticleImportResultDto toDto() {
+            return ArticleImportResultDto.of(imported, failed, List.copyOf(failures));
+        }
+
+    }
+
+}
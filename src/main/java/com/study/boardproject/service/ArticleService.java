@@ -6,20 +6,30 @@ import com.study.boardproject.domain.UserAccount;
 import com.study.boardproject.domain.type.SearchType;
 import com.study.boardproject.dto.ArticleDto;
 import com.study.boardproject.dto.ArticleWithCommentsDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleCommentRepository;
 import com.study.boardproject.repository.ArticleRepository;
-import com.study.boardproject.repository.HashtagRepository;
 import com.study.boardproject.repository.UserAccountRepository;
+import com.study.boardproject.search.ArticleSearchIndex;
+import com.study.boardproject.search.HashtagBitmapIndex;
+import com.study.boardproject.search.HashtagQuery;
+import com.study.boardproject.search.HashtagSearchResult;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -31,34 +41,58 @@ public class ArticleService {
 
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
-    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagBitmapIndex hashtagBitmapIndex;
+    private final ArticleCountService articleCountService;
+    private final HashtagDictionary hashtagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return searchArticlesWithCachedCount(null, null, pageable);
         }
 
-        // 새로운 방식의 switch문 -> 바로 return이 가능하다.
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
-                    )
-                    .map(ArticleDto::from);
-        };
+        if (searchType == SearchType.HASHTAG) {
+            return searchArticlesViaHashtag(searchKeyword, pageable);
+        }
+
+        // 제목, 본문 검색은 색인이 준비되어 있고 색인의 순서(최신글 순)로 답해도 되면 색인으로 답한다. (색인 결과 크기가 곧 전체 개수)
+        if ((searchType == SearchType.TITLE || searchType == SearchType.CONTENT)
+                && isLatestFirst(pageable.getSort())
+                && articleSearchIndex.supports(searchType, searchKeyword)) {
+            return searchArticlesViaIndex(searchType, searchKeyword, pageable);
+        }
+
+        return searchArticlesWithCachedCount(searchType, searchKeyword, pageable);
     }
 
+    /**
+     * 커서 페이징 모드의 게시글 검색
+     * OFFSET을 사용하지 않고 count 쿼리도 날리지 않는다. 전체 페이지 수가 필요 없는 화면에서 사용한다.
+     */
     @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchArticlesAfter(SearchType searchType, String searchKeyword, PageCursor cursor, int size) {
+        if (searchType == SearchType.HASHTAG && searchKeyword != null && !searchKeyword.isBlank()) {
+            return searchArticlesViaHashtagAfter(searchKeyword, cursor, size);
+        }
+
+        return articleRepository.findSliceAfter(searchType, searchKeyword, cursor, size).map(ArticleDto::from);
+    }
+
+    /**
+     * 상세 페이지 캐시를 채우는 읽기라서 readOnly를 주지 않고 원본에서 읽는다.
+     * 커밋 직후 캐시를 비운 다음 지연된 복제본에서 다시 채우면, 옛 게시글과 댓글이 캐시 수명 동안 남는다.
+     */
+    @Transactional
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+        // 댓글 수와 상관없이 쿼리 2번으로 끝낸다. (게시글 + 작성자 + 해시태그 1번, 댓글 + 작성자 1번)
+        Article article = articleRepository.findWithUserAccountAndHashtagsById(articleId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+
+        return ArticleWithCommentsDto.from(article, articleCommentRepository.findCommentDtosByArticleId(articleId));
     }
 
     @Transactional(readOnly = true)
@@ -68,19 +102,32 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /**
+     * id로 게시글 여러 개를 한 번에 읽는다. 없는 게시글은 결과에서 빠지고, 순서는 보장하지 않는다.
+     * (작성자, 해시태그는 default_batch_fetch_size로 묶어서 읽는다.)
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleDto> getArticles(Collection<Long> articleIds) {
+        return articleRepository.findAllById(articleIds).stream()
+                .map(ArticleDto::from)
+                .toList();
+    }
+
     /**
      * 게시글 저장
      */
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
         // parsing한 결과를 받아야 한다.
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(dto.content());
+        Set<Hashtag> hashtags = renewHashtags(hashtagNames);
 
         // dto -> entity로 전환
         Article article = dto.toEntity(userAccount);
         article.addHashtags(hashtags);
 
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleEvent.created(savedArticle, hashtagNames));
     }
 
     /**
@@ -93,24 +140,17 @@ public class ArticleService {
 
             if (article.getUserAccount().equals(userAccount)) {
                 if (dto.title() != null) { article.setTitle(dto.title()); }
-                if (dto.content() != null) { article.setContent(dto.content()); }
-            }
-
-            // 게시글로부터 해시태그 id을 추출하여 set을 만든다.
-            Set<Long> hashtagIds = article.getHashtags().stream()
-                    .map(Hashtag::getId)
-                    .collect(Collectors.toUnmodifiableSet());
-
-            // 게시글에 있는 해시태그를 한번 지워준다.
-            article.clearHashtags();
-            articleRepository.flush();
 
-            hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-            // 새롭게 parsing해서 넣는다.
-            Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-            article.addHashtags(hashtags);
+                Set<String> previousHashtagNames = ArticleEvent.hashtagNamesOf(article);
+                Set<String> hashtagNames = previousHashtagNames;
+                if (dto.content() != null) {
+                    article.setContent(dto.content());
+                    hashtagNames = hashtagService.parseHashtagNames(dto.content());
+                    updateHashtags(article, hashtagNames);
+                }
 
+                eventPublisher.publishEvent(ArticleEvent.updated(article, hashtagNames, previousHashtagNames));
+            }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
@@ -121,50 +161,154 @@ public class ArticleService {
      */
     public void deleteArticle(long articleId, String userId) {
         Article article = articleRepository.getReferenceById(articleId);
-        Set<Long> hashtagIds = article.getHashtags().stream()
-                .map(Hashtag::getId)
-                .collect(Collectors.toUnmodifiableSet());
+        Set<String> hashtagNames = ArticleEvent.hashtagNamesOf(article);
+        // 작성자가 아니면 아래 삭제 쿼리가 아무것도 지우지 않으므로 이벤트도 발행하지 않는다.
+        boolean deletable = article.getUserAccount().getUserId().equals(userId);
 
+        // 게시글이 없어진 해시태그는 여기서 지우지 않고 HashtagOrphanSweeper가 주기적으로 모아서 지운다.
         articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
-        articleRepository.flush(); // 게시글을 먼저 삭제한다.
-
-        // 이제 게시글이 없는 해시태그가 판단이 되므로 제거를 한다.
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        if (deletable) {
+            eventPublisher.publishEvent(ArticleEvent.deleted(articleId, hashtagNames));
+        }
     }
 
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.getTotalCount();
     }
 
+    /**
+     * 해시태그 검색 (검색어 문법은 HashtagQuery)
+     * 최신글 순이면 해시태그 비트맵 색인에서 한 페이지 분량의 id와 전체 개수를 받아서 그 id만 읽는다.
+     * 색인이 준비되기 전이거나 다른 정렬이면 같은 검색어를 exists 조건으로 바꿔서 DB에서 찾는다.
+     */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
-        if (hashtagName == null || hashtagName.isBlank()) {
+    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagQuery, Pageable pageable) {
+        Optional<HashtagQuery> query = HashtagQuery.tryParse(hashtagQuery);
+        if (query.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 해시태그 이름을 여러개 받아서 검색이 가능하도록 한다.
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
+        if (hashtagBitmapIndex.isReady() && isLatestFirst(pageable.getSort())) {
+            HashtagSearchResult result = hashtagBitmapIndex.search(query.get(), pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findArticlesInOrder(result.articleIds()), pageable, result.totalCount());
+        }
+
+        List<ArticleDto> content = articleRepository.findPageContent(SearchType.HASHTAG, hashtagQuery, pageable).stream()
+                .map(ArticleDto::from)
+                .toList();
+        // 해시태그 하나면 게시글 수는 해시태그 사전에 있고, 여러 개를 엮은 검색어는 검색어별 count 캐시에서 채운다.
+        long totalCount = query.get() instanceof HashtagQuery.Tag tag
+                ? articleCountService.getHashtagCount(tag.hashtagName())
+                : articleCountService.getSearchCount(SearchType.HASHTAG, hashtagQuery);
+
+        return new PageImpl<>(content, pageable, totalCount);
+    }
+
+    // 커서 페이징 모드의 해시태그 검색
+    @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchArticlesViaHashtagAfter(String hashtagQuery, PageCursor cursor, int size) {
+        Optional<HashtagQuery> query = HashtagQuery.tryParse(hashtagQuery);
+        if (query.isEmpty()) {
+            return new SliceImpl<>(List.of(), Pageable.ofSize(size), false);
+        }
+
+        if (hashtagBitmapIndex.isReady()) {
+            // size + 1개를 받아서 넘치면 다음 페이지가 있다고 판단한다.
+            Optional<List<Long>> articleIds = hashtagBitmapIndex.searchAfter(query.get(), cursor == null ? null : cursor.id(), size + 1);
+            if (articleIds.isPresent()) {
+                List<Long> ids = articleIds.get();
+                boolean hasNext = ids.size() > size;
+                return new SliceImpl<>(findArticlesInOrder(hasNext ? ids.subList(0, size) : ids), Pageable.ofSize(size), hasNext);
+            }
+        }
+
+        return articleRepository.findSliceAfter(SearchType.HASHTAG, hashtagQuery, cursor, size).map(ArticleDto::from);
     }
 
     public List<String> getHashtags() {
-        //TODO: HashtagService로 이동을 고려해보자
-        return hashtagRepository.findAllHashtagNames();
-    }
-
-    // 본문을 받아서 해시태그를 parsing한 결과를 반환받는 메소드
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
-        // parsing한 결과를 받아낸다.
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        // parsing한 결과로 db에 존재하는지 검색한다.
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        // 존재하는 hashtag를 string으로 변환시킨다.
-        Set<String> existingHashtagNames = hashtags.stream()
-                .map(Hashtag::getHashtagName)
+        return hashtagDictionary.getHashtagNames();
+    }
+
+    /**
+     * 한 페이지 분량만 조회하고 전체 개수는 캐시에서 채운다. (목록 화면에서 count 쿼리를 날리지 않기 위함)
+     */
+    private Page<ArticleDto> searchArticlesWithCachedCount(SearchType searchType, String searchKeyword, Pageable pageable) {
+        List<ArticleDto> content = articleRepository.findPageContent(searchType, searchKeyword, pageable).stream()
+                .map(ArticleDto::from)
+                .toList();
+
+        return new PageImpl<>(content, pageable, articleCountService.getSearchCount(searchType, searchKeyword));
+    }
+
+    /**
+     * 색인에서 최신글 순 id 목록을 받아 현재 페이지에 해당하는 id만 한 번의 쿼리로 조회한다.
+     * 조회 결과는 id 순서가 보장되지 않으므로 색인의 순서대로 다시 맞춰준다.
+     */
+    private Page<ArticleDto> searchArticlesViaIndex(SearchType searchType, String searchKeyword, Pageable pageable) {
+        List<Long> matchedIds = articleSearchIndex.search(searchType, searchKeyword);
+        int fromIndex = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedIds.size());
+
+        return new PageImpl<>(findArticlesInOrder(matchedIds.subList(fromIndex, toIndex)), pageable, matchedIds.size());
+    }
+
+    /**
+     * id 목록의 게시글을 한 번의 쿼리로 조회한다.
+     * 조회 결과는 id 순서가 보장되지 않으므로 주어진 순서대로 다시 맞춰준다.
+     */
+    private List<ArticleDto> findArticlesInOrder(List<Long> articleIds) {
+        Map<Long, Article> articles = articleRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(ArticleDto::from)
+                .toList();
+    }
+
+    // 정렬이 없거나 createdAt DESC 하나면 검색 색인, 해시태그 비트맵 색인의 순서(최신글 순)와 같다.
+    private boolean isLatestFirst(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+                && orders.get(0).getProperty().equals("createdAt")
+                && orders.get(0).isDescending();
+    }
+
+    /**
+     * 게시글의 해시태그를 본문의 해시태그와 맞춘다.
+     * 전부 지웠다가 다시 넣으면 article_hashtag의 행을 모두 delete 후 insert 하므로, 빠진 것과 추가된 것만 반영한다.
+     * (hibernate.jdbc.batch_size 설정으로 행 단위 delete/insert는 각각 배치로 묶여서 나간다.)
+     * 게시글이 없어진 해시태그는 HashtagOrphanSweeper가 따로 지운다.
+     */
+    private void updateHashtags(Article article, Set<String> hashtagNames) {
+        List<Hashtag> removedHashtags = article.getHashtags().stream()
+                .filter(hashtag -> !hashtagNames.contains(hashtag.getHashtagName()))
+                .toList();
+        Set<String> existingHashtagNames = ArticleEvent.hashtagNamesOf(article);
+        Set<String> addedHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
                 .collect(Collectors.toUnmodifiableSet());
 
-        // 본문에서 parsing한걸로 새로운 hashtag를 우리 db에있는지 반복해서 찾아서 저장할것 add해서 set으로 만들어서 return 받는다.
+        article.removeHashtags(removedHashtags);
+        if (!addedHashtagNames.isEmpty()) {
+            article.addHashtags(renewHashtags(addedHashtagNames));
+        }
+    }
+
+    // 본문에서 parsing한 해시태그 이름으로 게시글에 붙일 해시태그를 만드는 메소드
+    private Set<Hashtag> renewHashtags(Set<String> hashtagNamesInContent) {
+        // parsing한 결과로 이미 존재하는 해시태그를 찾는다. (사전에 있으면 db를 조회하지 않고, 없는 이름만 한 번에 조회한다.)
+        Map<String, Hashtag> existingHashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
+        Set<Hashtag> hashtags = new HashSet<>(existingHashtags.values());
+
+        // 저장된 해시태그가 없는 이름만 새로 만든다. (이름은 map의 키로 확인하므로 프록시를 초기화하지 않는다.)
         hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
+            if (!existingHashtags.containsKey(newHashtagName)) {
                 hashtags.add(Hashtag.of(newHashtagName));
             }
         });
@@ -0,0 +1,154 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.ArticleViewerSketch;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleViewerSketchRepository;
+import com.study.boardproject.sketch.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글을 읽은 사람 수 (HyperLogLog 추정값)
+ * - 기록: 게시글 id별로 이번 주기에 읽은 사람을 메모리 스케치에 넣는다. 같은 사람이 여러 번 읽어도 스케치는 그대로다.
+ * - 반영: 주기적으로(그리고 종료할 때) 게시글 id 순으로 batch-size개씩 DB의 스케치를 읽어서 합치고, 추정값과 같이 저장한다.
+ *   스케치는 합쳐도 중복이 빠지므로 노드마다 따로 모은 것을 아무 순서로 합쳐도 된다. 충돌하거나 실패하면 메모리에 되돌려 두고 다음 주기에 다시 합친다.
+ * - 조회: DB에 저장한 추정값을 게시글 id 목록으로 한 번에 읽는다. (반영 주기만큼 늦다.)
+ * - 삭제: 게시글이 지워지면(커밋 이후) 모으던 스케치와 DB 스케치를 지운다.
+ *   지우는 사이에 반영 중이던 스케치가 다시 저장될 수 있으므로, 게시글이 없는 스케치는 주기적으로 한 번 더 지운다.
+ */
+@Slf4j
+@Component
+public class ArticleUniqueViewerCounter {
+
+    private final ArticleViewerSketchRepository articleViewerSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 스케치는 스레드에 안전하지 않으므로 compute/merge 안에서만 바꾼다. (게시글 하나 단위로 잠긴다.)
+    private final Map<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+
+    public ArticleUniqueViewerCounter(
+            ArticleViewerSketchRepository articleViewerSketchRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.article-viewer.batch-size:100}") int batchSize
+    ) {
+        this.articleViewerSketchRepository = articleViewerSketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param viewerKey 읽은 사람을 구분하는 값 (로그인 사용자 id, 세션 id 등)
+     */
+    public void recordViewer(Long articleId, String viewerKey) {
+        long hash = HyperLogLog.hash(viewerKey);
+        pendingSketches.compute(articleId, (id, sketch) -> {
+            HyperLogLog current = sketch == null ? new HyperLogLog() : sketch;
+            current.offerHash(hash);
+            return current;
+        });
+    }
+
+    public Map<Long, Long> getUniqueViewers(Collection<Long> articleIds) {
+        return articleViewerSketchRepository.findUniqueViewers(articleIds);
+    }
+
+    public long getUniqueViewers(Long articleId) {
+        return getUniqueViewers(List.of(articleId)).getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.article-viewer.flush-interval-ms:60000}",
+            fixedDelayString = "${board.article-viewer.flush-interval-ms:60000}"
+    )
+    public synchronized void flush() {
+        List<Long> articleIds = new ArrayList<>(pendingSketches.keySet());
+        Collections.sort(articleIds); // 여러 노드가 같은 행들을 같은 순서로 잠그도록 id 순으로 반영한다.
+
+        for (int from = 0; from < articleIds.size(); from += batchSize) {
+            Map<Long, HyperLogLog> batch = new LinkedHashMap<>();
+            for (Long articleId : articleIds.subList(from, Math.min(from + batchSize, articleIds.size()))) {
+                HyperLogLog sketch = pendingSketches.remove(articleId); // 여기부터 들어오는 사람은 새 스케치에 쌓인다.
+                if (sketch != null) {
+                    batch.put(articleId, sketch);
+                }
+            }
+
+            try {
+                transactionTemplate.execute(status -> mergeIntoDatabase(batch));
+            } catch (DataAccessException | TransactionException e) {
+                batch.forEach((articleId, sketch) -> pendingSketches.merge(articleId, sketch, HyperLogLog::merge));
+                log.warn("읽은 사람 수 반영 실패, 다음 주기에 다시 반영한다. - articles: {}", batch.size(), e);
+                return;
+            }
+        }
+        if (!articleIds.isEmpty()) {
+            log.debug("읽은 사람 수 반영 - articles: {}", articleIds.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 커밋 이후에 실행되므로 삭제는 새 트랜잭션에서 한다. 실패해도 게시글 삭제는 끝났으므로 로그만 남긴다. (주기적인 청소가 지운다.)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() != ArticleEvent.EventType.DELETED) {
+            return;
+        }
+
+        pendingSketches.remove(event.articleId());
+        try {
+            articleViewerSketchRepository.deleteByArticleId(event.articleId());
+        } catch (DataAccessException e) {
+            log.warn("읽은 사람 스케치 삭제 실패, 다음 청소 때 지운다. - articleId: {}", event.articleId(), e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.article-viewer.sweep-interval-ms:3600000}",
+            fixedDelayString = "${board.article-viewer.sweep-interval-ms:3600000}"
+    )
+    public void sweepOrphans() {
+        Long deleted = transactionTemplate.execute(status -> articleViewerSketchRepository.deleteOrphans());
+        if (deleted != null && deleted > 0) {
+            log.debug("게시글이 없는 읽은 사람 스케치 청소 - swept: {}", deleted);
+        }
+    }
+
+    private Void mergeIntoDatabase(Map<Long, HyperLogLog> batch) {
+        Map<Long, ArticleViewerSketch> sketches = articleViewerSketchRepository.findAllById(batch.keySet()).stream()
+                .collect(Collectors.toMap(ArticleViewerSketch::getArticleId, Function.identity()));
+
+        batch.forEach((articleId, viewers) -> {
+            ArticleViewerSketch sketch = sketches.get(articleId);
+            if (sketch == null) {
+                sketch = articleViewerSketchRepository.save(ArticleViewerSketch.of(articleId));
+            }
+            sketch.merge(viewers);
+        });
+        articleViewerSketchRepository.flush(); // 충돌(버전, 중복 키)을 여기서 DataAccessException으로 받는다.
+
+        return null;
+    }
+
+}
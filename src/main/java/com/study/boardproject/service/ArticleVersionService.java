@@ -0,0 +1,63 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.ArticleVersionDto;
+import com.study.boardproject.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * 조건부 GET(ETag)에 쓰는 버전 값
+ * 응답을 만들지 않고도 바뀌었는지 알 수 있도록 작은 값만 읽는다.
+ * - 게시글: 게시글 수정일시 + 가장 최근 댓글 수정일시 + 댓글 수 (쿼리 1번, 댓글 내용은 읽지 않는다.)
+ * - 게시판 전체: 가장 최근 게시글 수정일시 + 전체 게시글 수 (수정일시 인덱스 1번, 게시글 수는 캐시)
+ * 게시글 버전은 DB 값만으로 만들어서 어느 노드에서 계산해도 같다.
+ * 게시판 버전의 게시글 수는 노드마다 메모리에 든 ArticleCountService 값이라 노드마다 다를 수 있다. (getBoardVersion 참고)
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ArticleVersionService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCountService articleCountService;
+
+    /**
+     * data rest 게시글 api용, 응답 본문과 같은 (복제본) 연결에서 읽는다.
+     * 버전만 원본에서 읽으면 지연된 복제본의 옛 본문이 새 ETag로 브라우저에 남는다.
+     *
+     * @return 게시글이 없으면 빈 값
+     */
+    public Optional<String> getArticleVersion(Long articleId) {
+        return articleRepository.findArticleVersion(articleId).map(ArticleVersionDto::toVersion);
+    }
+
+    /**
+     * 게시글 상세 페이지용, 상세 캐시(ArticleDetailService)를 원본에서 채우므로 버전도 원본에서 읽는다.
+     * 복제본에서 읽으면 방금 댓글을 단 사람이 지연 동안 옛 버전과 같은 ETag로 304를 받는다.
+     *
+     * @return 게시글이 없으면 빈 값
+     */
+    @Transactional
+    public Optional<String> getArticleDetailVersion(Long articleId) {
+        return articleRepository.findArticleVersion(articleId).map(ArticleVersionDto::toVersion);
+    }
+
+    /**
+     * 게시글이 추가, 수정되면 최근 수정일시가, 삭제되면 게시글 수가 바뀐다.
+     * 게시글 수는 이 노드의 캐시 값이다. 매 목록 요청마다 count(*)를 세지 않으려는 것이고, 대신 다음을 감수한다.
+     * - 노드마다 값이 다르면 ETag가 달라서 노드를 옮길 때 304 대신 200을 한 번 더 받는다.
+     * - 다른 노드에서 삭제만 일어나면 이 노드는 재조정(board.count.reconcile-interval-ms) 전까지 같은 버전을 내서, 삭제된 글이 남은 목록에 304를 줄 수 있다.
+     */
+    public String getBoardVersion() {
+        long latestModifiedAt = articleRepository.findLatestModifiedAt()
+                .map(modifiedAt -> modifiedAt.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .orElse(0L);
+
+        return "board-" + latestModifiedAt + "-" + articleCountService.getTotalCount();
+    }
+
+}
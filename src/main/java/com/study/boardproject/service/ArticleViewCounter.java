@@ -0,0 +1,135 @@
+package com.study.boardproject.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 조회수
+ * 조회할 때마다 게시글 행을 update하면 읽기가 모두 행 잠금을 잡는 쓰기가 되므로, 메모리에 모아뒀다가 주기적으로(그리고 종료할 때) 한꺼번에 더한다.
+ * - 기록: 게시글 id별 LongAdder에 더한다. 같은 게시글을 여러 스레드가 동시에 봐도 셀이 나뉘어 있어서 서로 기다리지 않는다.
+ * - 반영: 쌓인 값을 id 순으로 batch-size개씩 "view_count = view_count + ?" batch update로 더하고, 같은 트랜잭션에서 더한 뒤의 DB 값을 읽어둔 다음 더한 만큼만 뺀다.
+ *   (반영하는 동안 들어온 조회는 남는다.)
+ * - 보여주기: DB 값 + 아직 반영하지 않은 값. DB 값은 게시글과 같이 읽은 값과 반영하면서 읽어둔 값 중 큰 값이다.
+ *   그래서 캐시된 상세 응답(ArticleDetailService)의 조회수가 반영 전 값이어도 응답을 지우지 않고 조회수만 덧씌워 보여준다.
+ *   읽어둔 값은 상세 캐시보다 오래 두어야(persisted-count-spec) 캐시된 옛 값으로 돌아가지 않는다.
+ *   읽어둔 값을 바꾸고 쌓인 값을 빼는 사이에 보여주면 조회수가 잠깐 두 번 더해지므로, 둘은 write lock 안에서 한 번에 바꾼다.
+ * 반영에 실패하면 값을 그대로 두고 다음 주기에 다시 더한다. 프로세스가 갑자기 죽으면 그 사이의 조회수는 잃는다.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter {
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "update article set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    // 반영하면서 읽어둔 DB 조회수
+    private final Cache<Long, Long> persistedCounts;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ArticleViewCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.article-view.batch-size:500}") int batchSize,
+            @Value("${board.article-view.persisted-count-spec:maximumSize=10000,expireAfterWrite=15m}") String persistedCountSpec
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.persistedCounts = Caffeine.from(persistedCountSpec).build();
+    }
+
+    public void recordView(Long articleId) {
+        pendingCounts.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param persistedCount 게시글과 같이 읽은 DB의 조회수 (캐시된 응답이면 반영 전 값일 수 있다.)
+     */
+    public long getViewCount(Long articleId, long persistedCount) {
+        lock.readLock().lock();
+        try {
+            Long flushedCount = persistedCounts.getIfPresent(articleId);
+            long persisted = flushedCount == null ? persistedCount : Math.max(flushedCount, persistedCount);
+            LongAdder pending = pendingCounts.get(articleId);
+            return pending == null ? persisted : persisted + pending.sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.article-view.flush-interval-ms:10000}",
+            fixedDelayString = "${board.article-view.flush-interval-ms:10000}"
+    )
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new TreeMap<>(); // 여러 노드가 같은 행들을 같은 순서로 잠그도록 id 순으로 반영한다.
+        pendingCounts.forEach((articleId, pending) -> {
+            long delta = pending.sum();
+            if (delta > 0) {
+                deltas.put(articleId, delta);
+            } else {
+                // 지난 주기 이후 조회가 없던 게시글은 뺀다. 지우는 순간에 들어온 조회 한두 건은 잃을 수 있다.
+                pendingCounts.remove(articleId, pending);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            List<Object[]> args = batch.stream()
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList();
+            Object[] articleIds = batch.stream().map(Map.Entry::getKey).toArray();
+            List<Map.Entry<Long, Long>> flushedCounts;
+            try {
+                flushedCounts = transactionTemplate.execute(status -> {
+                    jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, args);
+                    return jdbcTemplate.query(
+                            "select id, view_count from article where id in (" + String.join(", ", Collections.nCopies(articleIds.length, "?")) + ")",
+                            (resultSet, rowNum) -> Map.entry(resultSet.getLong("id"), resultSet.getLong("view_count")),
+                            articleIds
+                    );
+                });
+            } catch (DataAccessException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 다시 반영한다. - articles: {}", batch.size(), e);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                // 조회수는 줄지 않으므로 읽어둔 값 중 큰 값만 남긴다.
+                flushedCounts.forEach(entry -> persistedCounts.asMap().merge(entry.getKey(), entry.getValue(), Math::max));
+                batch.forEach(entry -> pendingCounts.get(entry.getKey()).add(-entry.getValue()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.debug("조회수 반영 - articles: {}", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.security.BoardPrincipal;
+import com.study.boardproject.dto.security.KakaoOAuth2Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 카카오 로그인 사용자 처리 (SecurityConfig.oAuth2UserService에 있던 로직을 분리했다.)
+ * 가입된 사용자는 조회만 하고 끝낸다. 비밀번호 해시는 처음 가입할 때만, PasswordHashingService의 전용 실행기에서 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BoardOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
+
+    private final OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate; // 카카오 사용자 정보 조회 (DefaultOAuth2UserService)
+    private final UserAccountService userAccountService;
+    private final PasswordHashingService passwordHashingService;
+
+    @Override
+    public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        KakaoOAuth2Response kakaoResponse = KakaoOAuth2Response.from(delegate.loadUser(userRequest).getAttributes());
+
+        // [provider id]_[카카오 고유값] 예) kakao_1234567890
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        String username = registrationId + "_" + kakaoResponse.id();
+
+        return userAccountService.searchUser(username)
+                .map(BoardPrincipal::from)
+                .orElseGet(() -> signUp(username, kakaoResponse));
+    }
+
+    private BoardPrincipal signUp(String username, KakaoOAuth2Response kakaoResponse) {
+        // 카카오 로그인에는 비밀번호가 필요 없지만 not null 컬럼이라 아무도 모르는 값을 해시해서 넣는다.
+        String dummyPassword;
+        try {
+            dummyPassword = passwordHashingService.encode(UUID.randomUUID().toString());
+        } catch (RejectedExecutionException e) {
+            log.warn("가입이 몰려서 카카오 로그인 가입을 거절했습니다 - username: {}, reason: {}", username, e.getMessage());
+            throw new OAuth2AuthenticationException(
+                    new OAuth2Error(OAuth2ErrorCodes.TEMPORARILY_UNAVAILABLE),
+                    "잠시 후 다시 로그인해 주세요.",
+                    e
+            );
+        }
+
+        return BoardPrincipal.from(userAccountService.saveUser(
+                username,
+                dummyPassword,
+                kakaoResponse.email(),
+                kakaoResponse.nickname(),
+                null
+        ));
+    }
+
+}
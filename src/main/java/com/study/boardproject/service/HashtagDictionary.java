@@ -0,0 +1,206 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.dto.HashtagSummaryDto;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.HashtagRepository;
+import com.study.boardproject.search.HashtagTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시태그 사전 (이름 -> id, 게시글 수)
+ * 글을 쓸 때마다 해시태그를 IN 쿼리로 찾고, 해시태그 검색 화면마다 해시태그 이름 전체를 읽던 것을 메모리에서 처리한다.
+ * - 조회: ConcurrentHashMap과 volatile 목록만 읽으므로 락이 없다.
+ * - 갱신: 커밋된 게시글 이벤트로 게시글 수를 증감하고, 새로 생긴 해시태그만 DB에서 id를 읽어온다.
+ *   게시글 수가 0이 된 해시태그도 HashtagOrphanSweeper가 DB에서 지울 때까지는 남겨둔다.
+ *   다만 그런 해시태그는 언제 청소될지 모르므로 id를 내주지 않고, 쓰는 쪽이 DB에서 다시 확인하게 한다. (아직 있으면 기존 행을 다시 쓴다.)
+ * 다른 경로(data rest 등)로 바뀐 값은 주기적으로 DB 값과 다시 맞춘다.
+ * 해시태그 자동완성용 HashtagTrie도 같은 시점에 같이 고친다. (게시글 수가 바뀐 해시태그만 넣고, 사전에서 지운 해시태그는 뺀다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagDictionary {
+
+    public static final int SUGGESTION_LIMIT = 10;
+
+    private final HashtagRepository hashtagRepository;
+
+    private volatile Map<String, HashtagEntry> entries = new ConcurrentHashMap<>();
+    private volatile HashtagTrie suggestions = new HashtagTrie(SUGGESTION_LIMIT);
+    private volatile List<String> hashtagNames; // 게시글이 있는 해시태그만 id 순, 목록이 바뀌면 null로 비운다.
+    private volatile boolean loaded = false;
+
+    /**
+     * 이름에 해당하는 해시태그 id, 사전에 없는 이름과 게시글이 없는 해시태그는 결과에서 빠진다.
+     * 게시글이 없는 해시태그는 청소와 사전 갱신 사이에 이미 DB에서 지워졌을 수 있으므로(다른 노드는 재조정 전까지 모른다) 확인된 id로 보지 않는다.
+     */
+    public Map<String, Long> findIds(Collection<String> names) {
+        Map<String, HashtagEntry> current = currentEntries();
+        Map<String, Long> ids = new HashMap<>();
+        for (String name : names) {
+            HashtagEntry entry = current.get(name);
+            if (isVerified(entry)) {
+                ids.put(name, entry.id());
+            }
+        }
+
+        return ids;
+    }
+
+    public List<String> getHashtagNames() {
+        List<String> names = hashtagNames;
+        if (names == null) {
+            names = currentEntries().values().stream()
+                    .filter(entry -> entry.articleCount().get() > 0)
+                    .sorted(Comparator.comparing(HashtagEntry::id))
+                    .map(HashtagEntry::name)
+                    .toList();
+            hashtagNames = names;
+        }
+
+        return names;
+    }
+
+    public long getArticleCount(String name) {
+        HashtagEntry entry = currentEntries().get(name);
+        return entry == null ? 0 : Math.max(entry.articleCount().get(), 0);
+    }
+
+    /**
+     * prefix로 시작하는 해시태그를 게시글 수가 많은 순으로 최대 limit개 (SUGGESTION_LIMIT까지만, 게시글이 없는 해시태그는 빠진다.)
+     */
+    public List<HashtagSummaryDto> suggest(String prefix, int limit) {
+        currentEntries();
+        return suggestions.suggest(prefix, limit);
+    }
+
+    /**
+     * 커밋된 게시글 변경만 사전에 반영한다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (!loaded) {
+            return; // 처음 조회할 때 DB에서 읽어오므로 그 전의 변경은 무시해도 된다.
+        }
+
+        Set<String> addedNames = new HashSet<>(event.hashtagNames());
+        addedNames.removeAll(event.previousHashtagNames());
+        Set<String> removedNames = new HashSet<>(event.previousHashtagNames());
+        removedNames.removeAll(event.hashtagNames());
+
+        Map<String, HashtagEntry> current = entries;
+        List<String> newNames = addedNames.stream().filter(name -> !isVerified(current.get(name))).toList();
+        if (!newNames.isEmpty()) {
+            // 새로 생긴 해시태그는 id를 알아야 하므로 여기서만 DB를 읽는다.
+            // 게시글이 없던 해시태그도 청소된 뒤 같은 이름으로 다시 만들어졌을 수 있으므로 id가 다르면 새 행으로 바꾼다.
+            hashtagRepository.findByHashtagNameIn(new HashSet<>(newNames))
+                    .forEach(hashtag -> current.compute(hashtag.getHashtagName(), (name, entry) -> {
+                        if (entry != null && entry.id().equals(hashtag.getId())) {
+                            return entry;
+                        }
+                        suggestions.remove(name); // 자동완성에 남은 지워진 행의 id도 뺀다.
+                        return HashtagEntry.of(hashtag);
+                    }));
+        }
+
+        addedNames.forEach(name -> {
+            HashtagEntry entry = current.get(name);
+            if (entry != null) {
+                if (entry.articleCount().incrementAndGet() == 1) {
+                    hashtagNames = null;
+                }
+                updateSuggestion(entry);
+            }
+        });
+        removedNames.forEach(name -> {
+            HashtagEntry entry = current.get(name);
+            if (entry != null) {
+                if (entry.articleCount().decrementAndGet() <= 0) {
+                    hashtagNames = null;
+                }
+                updateSuggestion(entry);
+            }
+        });
+    }
+
+    /**
+     * HashtagOrphanSweeper가 DB에서 지운 해시태그를 사전에서도 뺀다.
+     * 그 사이 다시 게시글이 붙은(게시글 수가 0보다 큰) 해시태그는 지워지지 않았으므로 남겨둔다.
+     */
+    public void removeOrphans(Collection<Long> hashtagIds) {
+        Set<Long> ids = Set.copyOf(hashtagIds);
+        HashtagTrie current = suggestions;
+        entries.values().removeIf(entry -> {
+            if (ids.contains(entry.id()) && entry.articleCount().get() <= 0) {
+                current.remove(entry.name());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 사전 전체를 DB에서 다시 읽어서 통째로 바꾼다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.hashtag.reconcile-interval-ms:300000}",
+            fixedDelayString = "${board.hashtag.reconcile-interval-ms:300000}"
+    )
+    public synchronized void reload() {
+        Map<String, HashtagEntry> reloaded = new ConcurrentHashMap<>();
+        List<HashtagSummaryDto> summaries = hashtagRepository.findHashtagSummaries();
+        summaries.forEach(summary -> reloaded.put(summary.hashtagName(), HashtagEntry.of(summary)));
+        HashtagTrie rebuiltSuggestions = HashtagTrie.of(summaries, SUGGESTION_LIMIT);
+
+        entries = reloaded;
+        suggestions = rebuiltSuggestions;
+        hashtagNames = null;
+        loaded = true;
+        log.debug("해시태그 사전 재조정 - hashtags: {}", reloaded.size());
+    }
+
+    // 게시글 수는 잠금 밖에서 바뀌므로, 늦게 도착한 갱신이 더 최신 값을 덮어쓰지 않도록 trie를 잠근 채로 현재 값을 읽어서 넣는다.
+    private void updateSuggestion(HashtagEntry entry) {
+        HashtagTrie current = suggestions;
+        synchronized (current) {
+            current.put(entry.id(), entry.name(), Math.max(entry.articleCount().get(), 0));
+        }
+    }
+
+    private static boolean isVerified(HashtagEntry entry) {
+        return entry != null && entry.articleCount().get() > 0;
+    }
+
+    private Map<String, HashtagEntry> currentEntries() {
+        if (!loaded) {
+            reload();
+        }
+
+        return entries;
+    }
+
+    private record HashtagEntry(Long id, String name, AtomicLong articleCount) {
+
+        static HashtagEntry of(HashtagSummaryDto summary) {
+            return new HashtagEntry(summary.id(), summary.hashtagName(), new AtomicLong(summary.articleCount()));
+        }
+
+        static HashtagEntry of(Hashtag hashtag) {
+            return new HashtagEntry(hashtag.getId(), hashtag.getHashtagName(), new AtomicLong());
+        }
+
+    }
+
+}
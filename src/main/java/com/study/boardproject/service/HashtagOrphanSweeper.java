@@ -0,0 +1,87 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.repository.HashtagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글이 없는 해시태그(고아 해시태그) 청소
+ * 게시글 수정/삭제 요청마다 해시태그의 게시글 컬렉션을 읽어서 비었는지 확인하던 것을 요청 밖의 주기 작업으로 옮겼다.
+ * id 순으로 batch-size개씩 anti-join 쿼리로 고아 id를 고르고, 게시글이 없다는 조건을 한 번 더 건 delete로 지운다.
+ * 지운 수와 걸린 시간은 board.hashtag.sweeper.swept, board.hashtag.sweeper.duration 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+public class HashtagOrphanSweeper {
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter sweptCounter;
+    private final Timer sweepTimer;
+
+    public HashtagOrphanSweeper(
+            HashtagRepository hashtagRepository,
+            HashtagDictionary hashtagDictionary,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${board.hashtag.sweep.batch-size:500}") int batchSize
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagDictionary = hashtagDictionary;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sweptCounter = Counter.builder("board.hashtag.sweeper.swept")
+                .description("지운 고아 해시태그 수")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("board.hashtag.sweeper.duration")
+                .description("고아 해시태그 청소 한 번에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.hashtag.sweep.interval-ms:60000}",
+            fixedDelayString = "${board.hashtag.sweep.interval-ms:60000}"
+    )
+    public void sweep() {
+        long startedAt = System.nanoTime();
+        long swept = sweepAll();
+        sweepTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (swept > 0) {
+            log.debug("고아 해시태그 청소 - swept: {}", swept);
+        }
+    }
+
+    private long sweepAll() {
+        long swept = 0;
+        Long lastId = 0L;
+        List<Long> orphanIds;
+        do {
+            orphanIds = hashtagRepository.findOrphanIds(lastId, batchSize);
+            if (orphanIds.isEmpty()) {
+                break;
+            }
+            lastId = orphanIds.get(orphanIds.size() - 1);
+
+            List<Long> batch = orphanIds;
+            Long deleted = transactionTemplate.execute(status -> hashtagRepository.deleteOrphansByIdIn(batch));
+            long deletedCount = deleted == null ? 0 : deleted;
+            hashtagDictionary.removeOrphans(batch);
+            sweptCounter.increment(deletedCount);
+            swept += deletedCount;
+        } while (orphanIds.size() == batchSize);
+
+        return swept;
+    }
+
+}
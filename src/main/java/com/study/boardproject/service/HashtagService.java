@@ -6,10 +6,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Transactional
@@ -17,39 +19,73 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
 
+    /**
+     * 이름에 해당하는 저장된 해시태그를 이름 -> 해시태그로 반환한다. 저장되지 않은 이름은 결과에서 빠진다.
+     * id는 해시태그 사전에서 찾고 엔티티는 참조(프록시)로만 만들어서, 게시글에 붙일 때까지 select가 나가지 않는다.
+     * 사전에 없는 이름(다른 노드에서 방금 만든 해시태그 등)과 게시글이 없어 청소됐을 수 있는 해시태그만 IN 쿼리 한 번으로 확인한다.
+     * 이름은 요청한 이름(키)으로만 확인하므로, 호출하는 쪽에서 프록시의 이름을 읽을 필요가 없다.
+     */
     @Transactional(readOnly = true)
-    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
-        // List를 Set으로 변환시킨다.
-        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+    public Map<String, Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
+        Map<String, Hashtag> hashtags = new HashMap<>();
+        hashtagDictionary.findIds(hashtagNames)
+                .forEach((name, id) -> hashtags.put(name, hashtagRepository.getReferenceById(id)));
+        if (hashtags.size() == hashtagNames.size()) {
+            return hashtags;
+        }
+
+        Set<String> missingNames = hashtagNames.stream()
+                .filter(name -> !hashtags.containsKey(name))
+                .collect(Collectors.toUnmodifiableSet());
+        hashtagRepository.findByHashtagNameIn(missingNames)
+                .forEach(hashtag -> hashtags.put(hashtag.getHashtagName(), hashtag));
+
+        return hashtags;
     }
 
-    // 본문 파싱 함수
+    /**
+     * 본문 파싱 함수
+     * 정규식 #[\w가-힣]+ 와 같은 규칙(영문, 숫자, _, 한글 음절)으로 본문을 한 번만 훑으면서 해시태그 이름을 뽑는다.
+     * 매 호출마다 Pattern을 컴파일하고 Matcher, replace("#", "")로 문자열을 복사하던 것을 없앴다.
+     */
     public Set<String> parseHashtagNames(String content) {
-        // 1. 본문 null 체크
-        if (content == null) {
+        // 1. 본문 null 체크, '#'이 없으면 훑을 필요도 없다.
+        if (content == null || content.indexOf('#') < 0) {
             return Set.of(); //null이면 빈 Set을 반환
         }
 
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip()); // strip으로 앞뒤의 공백을 자른다.
-        Set<String> result = new HashSet<>();
+        Set<String> result = null;
+        int length = content.length();
+        int index = content.indexOf('#');
+        while (index >= 0) {
+            int start = index + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
 
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
+            if (end > start) {
+                if (result == null) {
+                    result = new HashSet<>();
+                }
+                result.add(content.substring(start, end)); // '#'을 뺀 이름만 잘라낸다.
+            }
+            index = content.indexOf('#', end);
         }
 
-        //불변객체 Set을 반환한다.
-        return Set.copyOf(result);
+        //불변 Set을 반환한다.
+        return result == null ? Set.of() : Collections.unmodifiableSet(result);
     }
 
-    // 해시태그를 지우는데 게시글이 없는경우 -> 구조상 모든 글에서 해시태그가 없어졌을때 해시태그가 지워져야 한다.
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        // 만약 게시글이 비었다면
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
-        }
+    // 정규식의 \w(ASCII 영문, 숫자, _)와 가-힣(한글 음절)
+    private static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
     }
 
 }
@@ -22,6 +22,17 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * 커서 페이징 모드용 페이지 바
+     * 전체 페이지 수를 모르므로 현재 페이지 앞쪽과, 다음 페이지가 있으면 바로 다음 한 페이지까지만 보여준다.
+     */
+    public List<Integer> getPaginationBarNumbers(int currentPageNumber, boolean hasNext) {
+        int endNumber = currentPageNumber + (hasNext ? 2 : 1);
+        int startNumber = Math.max(endNumber - BAR_LENGTH, 0);
+
+        return IntStream.range(startNumber, endNumber).boxed().toList();
+    }
+
     public int currentBarLength() {
         return BAR_LENGTH;
     }
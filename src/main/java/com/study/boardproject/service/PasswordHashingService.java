@@ -0,0 +1,72 @@
+package com.study.boardproject.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(bcrypt) 전용 실행기
+ * bcrypt는 일부러 느리게 만든 CPU 작업(기본 cost 10에서 한 번에 수십 ~ 100ms)이라, 요청 스레드마다 돌리면 가입이 몰릴 때 CPU를 다 차지해서 다른 요청까지 밀린다.
+ * 스레드 수와 대기열을 제한한 전용 실행기에서만 돌리므로 동시에 해시하는 수가 threads개를 넘지 않고, 대기열까지 차면 기다리지 않고 바로 거절한다.
+ */
+@Slf4j
+public class PasswordHashingService implements AutoCloseable {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, int threads, int queueCapacity, Duration timeout) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = timeout;
+    }
+
+    /**
+     * 전용 실행기에서 해시하고, 끝날 때까지 기다린다.
+     *
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 timeout 안에 끝나지 않았을 때
+     */
+    public String encode(CharSequence rawPassword) {
+        Future<String> encoded = executor.submit(() -> passwordEncoder.encode(rawPassword));
+        try {
+            return encoded.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            encoded.cancel(true);
+            throw new RejectedExecutionException("비밀번호 해시가 " + timeout.toMillis() + "ms 안에 끝나지 않았습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            encoded.cancel(true);
+            throw new RejectedExecutionException("비밀번호 해시를 기다리다가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시에 실패했습니다.", e.getCause());
+        }
+    }
+
+    // 해시를 기다리는 작업 수
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.ArticleDto;
+import com.study.boardproject.dto.TrendingArticleDto;
+import com.study.boardproject.event.ArticleCommentEvent;
+import com.study.boardproject.event.ArticleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 순위 (최근 bucket-duration-ms * bucket-count 동안의 조회와 댓글)
+ * 요청마다 조회/댓글 로그를 모아서 정렬하지 않고, 이벤트가 올 때마다 시간 칸(bucket)에 점수를 더해두고 주기적으로 순위만 다시 만든다.
+ * - 기록: 현재 시각의 칸(고리 모양 배열)에서 게시글 id별 LongAdder에 더한다. 조회는 1점, 커밋된 새 댓글은 comment-weight점이다.
+ *   칸이 한 바퀴 돌아서 예전 시각의 칸이면 새 칸으로 바꿔 끼우므로, 창 밖으로 밀려난 점수는 따로 지우지 않아도 사라진다.
+ * - 다시 계산: 칸마다 지난 시간만큼 half-life-ms 반감기로 줄인 점수를 더하고, 크기 top-k의 최소 힙으로 상위 게시글만 남긴다.
+ *   상위 게시글은 한 번에 읽어서 불변 목록으로 바꿔 끼운다. 화면은 이 목록만 읽으므로 요청마다 DB를 읽지 않는다. (O(K))
+ * 게시글 제목 등은 다시 계산할 때의 값이다. 지운 게시글만 이벤트로 바로 뺀다.
+ */
+@Slf4j
+@Component
+public class TrendingArticles {
+
+    // 점수가 낮은 것이 먼저 (같으면 id가 작은 것이 먼저) -> 최소 힙의 머리가 가장 먼저 밀려난다.
+    private static final Comparator<Map.Entry<Long, Double>> SCORE_ORDER =
+            Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.<Long, Double>comparingByKey());
+
+    private final ArticleService articleService;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int topK;
+    private final long halfLifeMillis;
+    private final long commentWeight;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private volatile List<TrendingArticleDto> trendingArticles = List.of();
+
+    public TrendingArticles(
+            ArticleService articleService,
+            @Value("${board.trending.bucket-duration-ms:300000}") long bucketMillis,
+            @Value("${board.trending.bucket-count:12}") int bucketCount,
+            @Value("${board.trending.top-k:20}") int topK,
+            @Value("${board.trending.half-life-ms:3600000}") long halfLifeMillis,
+            @Value("${board.trending.comment-weight:5}") long commentWeight
+    ) {
+        this.articleService = articleService;
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.topK = topK;
+        this.halfLifeMillis = halfLifeMillis;
+        this.commentWeight = commentWeight;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void recordView(Long articleId) {
+        record(articleId, 1, System.currentTimeMillis());
+    }
+
+    /**
+     * 커밋된 새 댓글만 점수에 더한다. (수정, 삭제는 관심이 늘었다고 보지 않는다.)
+     */
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.eventType() == ArticleCommentEvent.EventType.CREATED) {
+            record(event.articleId(), commentWeight, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 지운 게시글은 다음 계산을 기다리지 않고 칸과 순위에서 바로 뺀다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() != ArticleEvent.EventType.DELETED) {
+            return;
+        }
+
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                bucket.scores().remove(event.articleId());
+            }
+        }
+        List<TrendingArticleDto> current = trendingArticles;
+        if (current.stream().anyMatch(trending -> event.articleId().equals(trending.articleDto().id()))) {
+            trendingArticles = current.stream()
+                    .filter(trending -> !event.articleId().equals(trending.articleDto().id()))
+                    .toList();
+        }
+    }
+
+    /**
+     * 마지막으로 계산한 순위 (점수가 높은 순, 최대 top-k개)
+     */
+    public List<TrendingArticleDto> getTrendingArticles() {
+        return trendingArticles;
+    }
+
+    @Scheduled(fixedDelayString = "${board.trending.recompute-interval-ms:30000}")
+    public void recompute() {
+        recompute(System.currentTimeMillis());
+    }
+
+    synchronized void recompute(long now) {
+        long currentEpoch = now / bucketMillis;
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket == null) {
+                continue;
+            }
+
+            long age = currentEpoch - bucket.epoch();
+            if (age >= bucketCount) {
+                buckets.compareAndSet(i, bucket, null); // 창 밖으로 밀려난 칸은 메모리에서 놓아준다.
+                continue;
+            }
+
+            double decay = Math.pow(0.5, (double) Math.max(age, 0) * bucketMillis / halfLifeMillis);
+            bucket.scores().forEach((articleId, score) -> scores.merge(articleId, score.sum() * decay, Double::sum));
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(topK + 1, SCORE_ORDER);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (heap.size() < topK) {
+                heap.offer(entry);
+            } else if (SCORE_ORDER.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+        if (heap.isEmpty()) {
+            trendingArticles = List.of();
+            return;
+        }
+
+        List<Map.Entry<Long, Double>> top = new ArrayList<>(heap);
+        top.sort(SCORE_ORDER.reversed());
+        Map<Long, ArticleDto> articles = articleService.getArticles(top.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(ArticleDto::id, Function.identity()));
+
+        // 그 사이 지워진 게시글은 읽히지 않으므로 빠진다.
+        trendingArticles = top.stream()
+                .filter(entry -> articles.containsKey(entry.getKey()))
+                .map(entry -> TrendingArticleDto.of(articles.get(entry.getKey()), entry.getValue()))
+                .toList();
+        log.debug("인기 게시글 다시 계산 - candidates: {}, ranked: {}", scores.size(), trendingArticles.size());
+    }
+
+    void record(Long articleId, long weight, long now) {
+        long epoch = now / bucketMillis;
+        int index = Math.floorMod(epoch, bucketCount);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch() < epoch) {
+            // 한 바퀴 전의 칸이면 새 칸으로 바꿔 끼운다. 여러 스레드가 동시에 바꾸려 하면 하나만 성공하고 나머지는 그 칸에 더한다.
+            Bucket fresh = new Bucket(epoch, new ConcurrentHashMap<>());
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = buckets.get(index);
+            }
+        }
+        if (bucket.epoch() > epoch) {
+            return; // 이미 다음 바퀴로 넘어간 칸에는 더하지 않는다.
+        }
+
+        bucket.scores().computeIfAbsent(articleId, id -> new LongAdder()).add(weight);
+    }
+
+    private record Bucket(long epoch, Map<Long, LongAdder> scores) {
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.study.boardproject.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 서로 다른 값의 수를 세는 HyperLogLog 스케치
+ * 값마다 64비트 해시를 만들어서 앞 precision 비트로 레지스터를 고르고, 나머지 비트의 앞쪽 0 개수 + 1 중 큰 값만 레지스터에 남긴다.
+ * 값을 몇 개 넣어도 크기가 2^precision 바이트로 고정되고, 레지스터별 최댓값을 취하면 두 스케치를 합칠 수 있다. (노드별로 센 것을 합쳐도 중복이 빠진다.)
+ * 기본 precision 11(레지스터 2048개)의 표준 오차는 약 2.3%다.
+ * 저장할 때는 값이 든 레지스터가 적으면 (index, 값) 목록(sparse)으로, 많으면 레지스터 전체(dense)로 쓴다.
+ * 스레드에 안전하지 않으므로 여러 스레드가 쓰면 호출하는 쪽에서 묶어야 한다.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 11;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final int HEADER_SIZE = 2; // 형식, precision
+    private static final int SPARSE_ENTRY_SIZE = 3; // index(2) + 값(1)
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision은 " + MIN_PRECISION + " ~ " + MAX_PRECISION + " 사이여야 합니다. - precision: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 저장 크기의 최댓값 (dense 형식)
+     */
+    public static int maxSerializedSize(int precision) {
+        return HEADER_SIZE + (1 << precision);
+    }
+
+    public void offer(String value) {
+        offerHash(hash(value));
+    }
+
+    public void offerHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        long rest = hash << precision;
+        int rank = Math.min(Long.numberOfLeadingZeros(rest), Long.SIZE - precision) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * other를 이 스케치에 합친다. (this를 바꾸고 돌려준다.)
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 스케치는 합칠 수 없습니다. - " + precision + ", " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros); // 값이 적을 때는 빈 레지스터 수로 센다. (linear counting)
+        }
+
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (nonZero * SPARSE_ENTRY_SIZE < registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + nonZero * SPARSE_ENTRY_SIZE)
+                    .put(SPARSE)
+                    .put((byte) precision);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + registers.length)
+                .put(DENSE)
+                .put((byte) precision)
+                .put(registers)
+                .array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+
+        if (format == DENSE) {
+            buffer.get(sketch.registers);
+        } else if (format == SPARSE) {
+            while (buffer.hasRemaining()) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                sketch.registers[index] = buffer.get();
+            }
+        } else {
+            throw new IllegalArgumentException("알 수 없는 스케치 형식입니다. - format: " + format);
+        }
+
+        return sketch;
+    }
+
+    /**
+     * 문자열의 64비트 해시 (FNV-1a로 섞고 murmur3의 마무리 단계로 비트를 고르게 편다.)
+     */
+    public static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HyperLogLog that)) return false;
+        return precision == that.precision && Arrays.equals(registers, that.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+
+}
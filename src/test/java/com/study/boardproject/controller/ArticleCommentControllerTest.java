@@ -2,6 +2,8 @@ package com.study.boardproject.controller;
 
 import com.study.boardproject.config.TestSecurityConfig;
 import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleCommentThreadDto;
+import com.study.boardproject.dto.UserAccountDto;
 import com.study.boardproject.dto.request.ArticleCommentRequest;
 import com.study.boardproject.service.ArticleCommentService;
 import com.study.boardproject.util.FormDataEncoder;
@@ -11,17 +13,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -110,5 +119,50 @@ class ArticleCommentControllerTest {
         then(articleCommentService).should().saveArticleComment(any(ArticleCommentDto.class));
     }
 
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][GET] 최상위 댓글 페이지 조회 - 정상 호출")
+    @Test
+    void givenArticleId_whenRequestingRootComments_thenReturnsCommentSliceJson() throws Exception {
+        // Given
+        long articleId = 1L;
+        given(articleCommentService.searchRootComments(eq(articleId), eq(null), eq(20)))
+                .willReturn(new SliceImpl<>(List.of(createArticleCommentThreadDto(1L, 4L)), Pageable.ofSize(20), true));
+
+        // When & Then
+        mvc.perform(get("/comments").queryParam("articleId", String.valueOf(articleId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comments[0].id").value(1L))
+                .andExpect(jsonPath("$.comments[0].childCount").value(4L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+        then(articleCommentService).should().searchRootComments(eq(articleId), eq(null), eq(20));
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][GET] 대댓글 페이지 조회 - 페이지 크기는 최대값으로 제한된다")
+    @Test
+    void givenTooLargePageSize_whenRequestingReplies_thenClampsPageSize() throws Exception {
+        // Given
+        long commentId = 1L;
+        given(articleCommentService.searchReplies(eq(commentId), eq(null), eq(100)))
+                .willReturn(new SliceImpl<>(List.of(), Pageable.ofSize(100), false));
+
+        // When & Then
+        mvc.perform(get("/comments/" + commentId + "/replies").queryParam("size", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+        then(articleCommentService).should().searchReplies(eq(commentId), eq(null), eq(100));
+    }
+
+    private ArticleCommentThreadDto createArticleCommentThreadDto(Long id, long childCount) {
+        UserAccountDto userAccountDto = UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", null);
+        ArticleCommentDto articleCommentDto = ArticleCommentDto.of(
+                id, 1L, userAccountDto, null, "content",
+                LocalDateTime.now(), "uno", LocalDateTime.now(), "uno"
+        );
+        return ArticleCommentThreadDto.of(articleCommentDto, childCount);
+    }
 
-}
\ No newline at end of file
+}
@@ -1,16 +1,29 @@
 package com.study.boardproject.controller;
 
 import com.study.boardproject.config.TestSecurityConfig;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
 import com.study.boardproject.domain.constant.FormStatus;
 import com.study.boardproject.domain.type.SearchType;
 import com.study.boardproject.dto.ArticleDto;
+import com.study.boardproject.dto.ArticleImportResultDto;
 import com.study.boardproject.dto.ArticleWithCommentsDto;
 import com.study.boardproject.dto.HashtagDto;
+import com.study.boardproject.dto.TrendingArticleDto;
 import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.dto.request.ArticleExportRequest;
 import com.study.boardproject.dto.request.ArticleRequest;
 import com.study.boardproject.dto.response.ArticleResponse;
+import com.study.boardproject.dto.response.ArticleWithCommentsResponse;
+import com.study.boardproject.dto.response.TrendingArticleResponse;
+import com.study.boardproject.service.ArticleDetailService;
+import com.study.boardproject.service.ArticleExportService;
+import com.study.boardproject.service.ArticleImportService;
 import com.study.boardproject.service.ArticleService;
+import com.study.boardproject.service.ArticleUniqueViewerCounter;
+import com.study.boardproject.service.ArticleVersionService;
+import com.study.boardproject.service.ArticleViewCounter;
 import com.study.boardproject.service.PaginationService;
+import com.study.boardproject.service.TrendingArticles;
 import com.study.boardproject.util.FormDataEncoder;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -23,20 +36,29 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -52,7 +74,14 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleDetailService articleDetailService;
     @MockBean private PaginationService paginationService;
+    @MockBean private ArticleImportService articleImportService;
+    @MockBean private ArticleExportService articleExportService;
+    @MockBean private ArticleVersionService articleVersionService;
+    @MockBean private ArticleViewCounter articleViewCounter;
+    @MockBean private ArticleUniqueViewerCounter articleUniqueViewerCounter;
+    @MockBean private TrendingArticles trendingArticles;
 
 
     ArticleControllerTest(
@@ -84,6 +113,20 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 게시판 버전의 ETag가 같으면 304를 돌려준다.")
+    @Test
+    void givenMatchingETag_whenRequestingArticlesView_thenReturnsNotModified() throws Exception {
+        // Given
+        given(articleVersionService.getBoardVersion()).willReturn("board-100-10");
+
+        // When & Then
+        mvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, "W/\"board-100-10-none\""))
+                .andExpect(status().isNotModified());
+        then(articleVersionService).should().getBoardVersion();
+        then(articleService).shouldHaveNoInteractions();
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 검색어와 함께 호출")
     @Test
     void givenSearchKeyword_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
@@ -137,6 +180,27 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징 모드")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithoutCounting() throws Exception {
+        // Given
+        given(articleService.searchArticlesAfter(eq(null), eq(null), eq(null), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(), Pageable.ofSize(10), false));
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyBoolean())).willReturn(List.of(0));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("paginationBarNumbers", List.of(0)));
+        then(articleService).should().searchArticlesAfter(eq(null), eq(null), eq(null), anyInt());
+        then(articleService).should(never()).searchArticles(any(), any(), any(Pageable.class));
+        then(paginationService).should().getPaginationBarNumbers(anyInt(), anyBoolean());
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -158,7 +222,7 @@ class ArticleControllerTest {
         // Given
         Long articleId = 1L;
         long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleDetailService.getArticleDetail(articleId)).willReturn(ArticleWithCommentsResponse.from(createArticleWithCommentsDto()));
         given(articleService.getArticleCount()).willReturn(totalCount);
 
         // When & Then
@@ -170,10 +234,75 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attribute("totalCount", totalCount))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleDetailService).should().getArticleDetail(articleId);
         then(articleService).should().getArticleCount();
     }
 
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - ETag가 같으면 게시글과 댓글을 읽지 않고 304를 돌려준다.")
+    @Test
+    void givenMatchingETag_whenRequestingArticleView_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        MockHttpSession session = new MockHttpSession(null, "session-1");
+        String eTag = "W/\"1-100-200-3-" + Integer.toHexString("session-1".hashCode()) + "\"";
+        given(articleVersionService.getArticleDetailVersion(articleId)).willReturn(Optional.of("1-100-200-3"));
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+        then(articleVersionService).should().getArticleDetailVersion(articleId);
+        then(articleViewCounter).should().recordView(articleId); // 304여도 조회수는 센다.
+        then(articleDetailService).shouldHaveNoInteractions();
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 다른 세션의 ETag면 다시 렌더링하고, 조회수는 아직 반영하지 않은 값까지 더해서 보여준다.")
+    @Test
+    void givenETagOfAnotherSession_whenRequestingArticleView_thenReturnsArticleViewWithNewETag() throws Exception {
+        // Given
+        Long articleId = 1L;
+        MockHttpSession session = new MockHttpSession(null, "session-2");
+        String otherETag = "W/\"1-100-200-3-" + Integer.toHexString("session-1".hashCode()) + "\"";
+        given(articleVersionService.getArticleDetailVersion(articleId)).willReturn(Optional.of("1-100-200-3"));
+        ArticleWithCommentsResponse cachedArticle = ArticleWithCommentsResponse.from(createArticleWithCommentsDto());
+        given(articleDetailService.getArticleDetail(articleId)).willReturn(cachedArticle);
+        given(articleViewCounter.getViewCount(articleId, 0L)).willReturn(7L);
+        given(articleService.getArticleCount()).willReturn(1L);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, otherETag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("article", cachedArticle.withViewCount(7L)))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-100-200-3-" + Integer.toHexString("session-2".hashCode()) + "\""));
+        then(articleViewCounter).should().recordView(articleId);
+        then(trendingArticles).should().recordView(articleId);
+        then(articleUniqueViewerCounter).should().recordViewer(articleId, "session:session-2");
+        then(articleDetailService).should().getArticleDetail(articleId);
+    }
+
+    @DisplayName("[view][GET] 인기 게시글 페이지 - 인증 없이 정상 호출, 계산해둔 순위만 보여준다.")
+    @Test
+    void givenNothing_whenRequestingTrendingArticlesView_thenReturnsTrendingArticlesView() throws Exception {
+        // Given
+        ArticleDto dto = createArticleDto();
+        given(trendingArticles.getTrendingArticles()).willReturn(List.of(TrendingArticleDto.of(dto, 3.0)));
+
+        // When & Then
+        mvc.perform(get("/articles/trending"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/trending"))
+                .andExpect(model().attribute("trendingArticles", List.of(TrendingArticleResponse.of(1, ArticleResponse.from(dto), 3.0))))
+                .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
+        then(trendingArticles).should().getTrendingArticles();
+        then(articleService).shouldHaveNoInteractions();
+    }
+
     @Disabled("구현 중")
     @DisplayName("[view][GET] 게시글 검색 전용 페이지 - 정상 호출")
     @Test
@@ -272,6 +401,115 @@ class ArticleControllerTest {
         then(articleService).should().saveArticle(any(ArticleDto.class));
     }
 
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][POST] 게시글 일괄 가져오기 - NDJSON, csrf 토큰 없이 호출하면 저장 결과를 돌려준다.")
+    @Test
+    void givenNdjsonArticles_whenImporting_thenReturnsImportResult() throws Exception {
+        // Given
+        String body = """
+                {"title": "new title", "content": "new content #java"}
+                {"title": "", "content": "no title"}
+                """;
+        given(articleImportService.importArticles(any(InputStream.class), eq(ArticleFileFormat.NDJSON), any(UserAccountDto.class)))
+                .willReturn(ArticleImportResultDto.of(1L, 1L, List.of(ArticleImportResultDto.Failure.of(2L, "제목이 비어 있습니다."))));
+
+        // When & Then
+        mvc.perform(
+                        post("/articles/import")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(body)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.imported").value(1L))
+                .andExpect(jsonPath("$.failed").value(1L))
+                .andExpect(jsonPath("$.failures[0].lineNumber").value(2L))
+                .andExpect(jsonPath("$.failures[0].message").value("제목이 비어 있습니다."));
+        then(articleImportService).should().importArticles(any(InputStream.class), eq(ArticleFileFormat.NDJSON), any(UserAccountDto.class));
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][POST] 게시글 일괄 가져오기 - CSV")
+    @Test
+    void givenCsvArticles_whenImporting_thenImportsAsCsv() throws Exception {
+        // Given
+        String body = "title,content\n\"new title\",\"new content\"\n";
+        given(articleImportService.importArticles(any(InputStream.class), eq(ArticleFileFormat.CSV), any(UserAccountDto.class)))
+                .willReturn(ArticleImportResultDto.of(1L, 0L, List.of()));
+
+        // When & Then
+        mvc.perform(
+                        post("/articles/import")
+                                .contentType("text/csv")
+                                .content(body)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1L))
+                .andExpect(jsonPath("$.failed").value(0L));
+        then(articleImportService).should().importArticles(any(InputStream.class), eq(ArticleFileFormat.CSV), any(UserAccountDto.class));
+    }
+
+    @DisplayName("[json][POST] 게시글 일괄 가져오기 - 인증 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenUnauthenticatedUser_whenImporting_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(
+                        post("/articles/import")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("{\"title\": \"new title\", \"content\": \"new content\"}")
+                )
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[file][GET] 게시글 내보내기 - CSV, 조건과 함께 호출하면 첨부 파일로 스트리밍한다.")
+    @Test
+    void givenConditions_whenExportingAsCsv_thenStreamsAttachment() throws Exception {
+        // Given
+        String csv = "record_type,id,article_id\narticle,1,1\n";
+        willAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write(csv.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).given(articleExportService).exportArticles(any(ArticleExportRequest.class), eq(ArticleFileFormat.CSV), any(OutputStream.class));
+
+        // When & Then
+        MvcResult result = mvc.perform(
+                        get("/articles/export")
+                                .queryParam("format", "CSV")
+                                .queryParam("hashtagName", "java")
+                                .queryParam("createdFrom", "2021-01-01T00:00:00")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"articles.csv\""))
+                .andExpect(content().string(csv));
+        then(articleExportService).should().exportArticles(
+                eq(ArticleExportRequest.of("java", null, LocalDateTime.of(2021, 1, 1, 0, 0), null)),
+                eq(ArticleFileFormat.CSV),
+                any(OutputStream.class)
+        );
+    }
+
+    @DisplayName("[file][GET] 게시글 내보내기 - 인증 없을 땐 로그인 페이지로 이동")
+    @Test
+    void givenUnauthenticatedUser_whenExporting_thenRedirectsToLoginPage() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/articles/export"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 수정 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequesting_thenRedirectsToLoginPage() throws Exception {
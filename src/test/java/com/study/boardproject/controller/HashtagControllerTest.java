@@ -0,0 +1,68 @@
+package com.study.boardproject.controller;
+
+import com.study.boardproject.config.TestSecurityConfig;
+import com.study.boardproject.dto.HashtagSummaryDto;
+import com.study.boardproject.service.HashtagDictionary;
+import com.study.boardproject.util.FormDataEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("View 컨트롤러 - 해시태그")
+@Import({TestSecurityConfig.class, FormDataEncoder.class})
+@WebMvcTest(HashtagController.class)
+class HashtagControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private HashtagDictionary hashtagDictionary;
+
+    public HashtagControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 해시태그 자동완성 - 로그인 없이, 게시글 수가 많은 순으로 반환")
+    @Test
+    void givenPrefix_whenRequestingAutocomplete_thenReturnsSuggestions() throws Exception {
+        // Given
+        given(hashtagDictionary.suggest("자", 10)).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "자바", 7L),
+                HashtagSummaryDto.of(2L, "자료구조", 3L)
+        ));
+
+        // When & Then
+        mvc.perform(get("/hashtags/autocomplete").queryParam("prefix", "#자"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtagName").value("자바"))
+                .andExpect(jsonPath("$[0].articleCount").value(7L))
+                .andExpect(jsonPath("$[1].hashtagName").value("자료구조"));
+        then(hashtagDictionary).should().suggest("자", 10);
+    }
+
+    @DisplayName("[api][GET] 해시태그 자동완성 - 개수는 최대값으로 제한된다")
+    @Test
+    void givenTooLargeSize_whenRequestingAutocomplete_thenClampsSize() throws Exception {
+        // Given
+        given(hashtagDictionary.suggest("java", HashtagDictionary.SUGGESTION_LIMIT)).willReturn(List.of());
+
+        // When & Then
+        mvc.perform(get("/hashtags/autocomplete").queryParam("prefix", "java").queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        then(hashtagDictionary).should().suggest("java", HashtagDictionary.SUGGESTION_LIMIT);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.study.boardproject.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DataSource - 읽기 복제본 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds from replica_lag";
+
+    private final List<DriverManagerDataSource> databases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(database -> new JdbcTemplate(database).execute("shutdown"));
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 원본으로 간다.")
+    @Test
+    void givenReplica_whenQuerying_thenRoutesOnlyReadOnlyTransactionsToReplica() {
+        // Given
+        DataSource primary = createDatabase("primary", 0);
+        DataSource replica = createDatabase("replica", 0);
+        ReplicaRoutingDataSource sut = new ReplicaRoutingDataSource(primary, Map.of("replica", replica), LAG_QUERY, 10, 1);
+
+        // When
+        String readOnly = queryNodeName(sut, true);
+        String readWrite = queryNodeName(sut, false);
+        String withoutTransaction = new JdbcTemplate(new LazyConnectionDataSourceProxy(sut)).queryForObject("select name from board_node", String.class);
+
+        // Then
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(readWrite).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("복제본이 여러 개면, 읽기 전용 트랜잭션을 돌아가면서 나눠 보낸다.")
+    @Test
+    void givenReplicas_whenQueryingReadOnly_thenRoundRobinsAcrossReplicas() {
+        // Given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", createDatabase("replica-1", 0));
+        replicas.put("replica-2", createDatabase("replica-2", 0));
+        ReplicaRoutingDataSource sut = new ReplicaRoutingDataSource(createDatabase("primary", 0), replicas, LAG_QUERY, 10, 1);
+
+        // When
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            names.add(queryNodeName(sut, true));
+        }
+
+        // Then
+        assertThat(names).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘으면 원본에서 읽고, 따라잡으면 다시 복제본에서 읽는다.")
+    @Test
+    void givenLaggingReplica_whenCheckingReplicas_thenFallsBackToPrimaryUntilCaughtUp() {
+        // Given
+        DriverManagerDataSource replica = createDatabase("replica", 30);
+        ReplicaRoutingDataSource sut = new ReplicaRoutingDataSource(createDatabase("primary", 0), Map.of("replica", replica), LAG_QUERY, 10, 1);
+
+        // When
+        sut.checkReplicas();
+        String whileLagging = queryNodeName(sut, true);
+        boolean availableWhileLagging = sut.isAvailable("replica");
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        sut.checkReplicas();
+        String afterCatchingUp = queryNodeName(sut, true);
+
+        // Then
+        assertThat(whileLagging).isEqualTo("primary");
+        assertThat(availableWhileLagging).isFalse();
+        assertThat(afterCatchingUp).isEqualTo("replica");
+        assertThat(sut.isAvailable("replica")).isTrue();
+    }
+
+    @DisplayName("복제본에 연결할 수 없으면, 원본에서 읽고 그 복제본은 뺀다.")
+    @Test
+    void givenUnreachableReplica_whenQueryingReadOnly_thenFallsBackToPrimary() {
+        // Given
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/~/unreachable", "sa", "");
+        ReplicaRoutingDataSource sut = new ReplicaRoutingDataSource(createDatabase("primary", 0), Map.of("replica", unreachable), LAG_QUERY, 10, 1);
+
+        // When
+        String readOnly = queryNodeName(sut, true);
+
+        // Then
+        assertThat(readOnly).isEqualTo("primary");
+        assertThat(sut.isAvailable("replica")).isFalse();
+    }
+
+    // 서비스처럼 트랜잭션 매니저와 LazyConnectionDataSourceProxy를 거쳐서, 연결된 DB의 이름을 읽는다.
+    private String queryNodeName(ReplicaRoutingDataSource routingDataSource, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("select name from board_node", String.class));
+    }
+
+    private DriverManagerDataSource createDatabase(String name, int lagSeconds) {
+        DriverManagerDataSource database = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table board_node (name varchar(20))");
+        jdbcTemplate.update("insert into board_node values (?)", name);
+        jdbcTemplate.execute("create table replica_lag (seconds int)");
+        jdbcTemplate.update("insert into replica_lag values (?)", lagSeconds);
+        databases.add(database);
+
+        return database;
+    }
+
+}
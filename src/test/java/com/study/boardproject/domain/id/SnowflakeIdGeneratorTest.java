@@ -0,0 +1,119 @@
+package com.study.boardproject.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("도메인 - Snowflake id 생성기")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @DisplayName("id에는 생성 시각과 노드 id가 들어가고, 2^53 안의 값이다.")
+    @Test
+    void givenNodeId_whenGenerating_thenEncodesTimestampAndNodeId() {
+        // Given
+        SnowflakeIdGenerator sut = new SnowflakeIdGenerator(7, () -> NOW);
+
+        // When
+        long id = sut.nextId();
+
+        // Then
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(id)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @DisplayName("같은 밀리초 안에서 순번이 넘치면, 다음 밀리초 값을 당겨 쓰면서 계속 증가한다.")
+    @Test
+    void givenSameMillisecond_whenSequenceOverflows_thenBorrowsNextMillisecond() {
+        // Given
+        SnowflakeIdGenerator sut = new SnowflakeIdGenerator(1, () -> NOW);
+        int sequencePerMillisecond = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+
+        // When
+        long previous = sut.nextId();
+        for (int i = 1; i < sequencePerMillisecond; i++) {
+            long next = sut.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        long overflowed = sut.nextId();
+
+        // Then
+        assertThat(overflowed).isGreaterThan(previous);
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(overflowed)).isEqualTo(NOW + 1);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(overflowed)).isEqualTo(1);
+    }
+
+    @DisplayName("시계가 뒤로 가도, id는 줄어들지 않고 시계가 따라잡으면 다시 현재 시각을 쓴다.")
+    @Test
+    void givenClockMovesBackwards_whenGenerating_thenIdsKeepIncreasing() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator sut = new SnowflakeIdGenerator(0, clock::get);
+
+        // When
+        long beforeSkew = sut.nextId();
+        clock.set(NOW - 5_000);
+        long duringSkew = sut.nextId();
+        clock.set(NOW + 10);
+        long afterSkew = sut.nextId();
+
+        // Then
+        assertThat(duringSkew).isGreaterThan(beforeSkew);
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(duringSkew)).isEqualTo(NOW);
+        assertThat(afterSkew).isGreaterThan(duringSkew);
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(afterSkew)).isEqualTo(NOW + 10);
+    }
+
+    @DisplayName("여러 스레드가 동시에 만들어도, id가 겹치지 않는다.")
+    @Test
+    void givenConcurrentThreads_whenGenerating_thenIdsAreUnique() throws Exception {
+        // Given
+        SnowflakeIdGenerator sut = new SnowflakeIdGenerator(3, System::currentTimeMillis);
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(sut.nextId());
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @DisplayName("노드 id가 범위를 벗어나면, 예외를 던진다.")
+    @Test
+    void givenOutOfRangeNodeId_whenCreating_thenThrowsException() {
+        // Given
+        int nodeId = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+
+        // When & Then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(nodeId, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
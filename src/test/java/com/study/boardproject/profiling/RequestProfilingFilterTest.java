@@ -0,0 +1,104 @@
+package com.study.boardproject.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.ModelAndView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청별 성능 측정")
+class RequestProfilingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestProfileRecorder recorder = new RequestProfileRecorder(meterRegistry);
+    private final RequestProfilingFilter sut = new RequestProfilingFilter(recorder);
+    private final RequestProfilingInterceptor interceptor = new RequestProfilingInterceptor();
+
+    @DisplayName("컨트롤러 메서드가 처리한 요청은, Server-Timing 헤더를 붙이고 메서드별로 문장 수와 시간을 남긴다.")
+    @Test
+    void givenHandledRequest_whenFiltering_thenWritesServerTimingAndRecordsPerHandler() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("article"));
+        FilterChain chain = (req, res) -> {
+            interceptor.preHandle(request, response, handler);
+            RequestProfile profile = RequestProfile.current();
+            profile.serviceEntered();
+            profile.serviceEntered(); // 서비스 안에서 다른 서비스 호출
+            profile.statementExecuted(2_000_000);
+            profile.statementExecuted(1_000_000);
+            profile.serviceExited();
+            profile.serviceExited();
+            interceptor.postHandle(request, response, handler, new ModelAndView("articles/detail"));
+            interceptor.afterCompletion(request, response, handler, null);
+        };
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getHeader(RequestProfilingFilter.SERVER_TIMING))
+                .startsWith("db;dur=3.0;desc=\"2 statements\", app;dur=")
+                .contains("mapping;dur=", "render;dur=", "total;dur=");
+        assertThat(meterRegistry.get("board.request.duration").tag("handler", "SampleController.article").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.request.statements").tag("handler", "SampleController.article").summary().totalAmount()).isEqualTo(2);
+        assertThat(recorder.getHandlerMeters()).containsOnlyKeys("SampleController.article");
+        assertThat(RequestProfile.current()).isNull();
+    }
+
+    @DisplayName("컨트롤러 메서드를 거치지 않은 요청(정적 리소스 등)은, 헤더도 측정값도 남기지 않는다.")
+    @Test
+    void givenRequestWithoutHandlerMethod_whenFiltering_thenRecordsNothing() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/css/main.css");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> interceptor.preHandle(request, response, new Object());
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getHeader(RequestProfilingFilter.SERVER_TIMING)).isNull();
+        assertThat(recorder.getHandlerMeters()).isEmpty();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @DisplayName("Hibernate가 실행한 문장은 요청 안에서만 세고, batch는 한 번을 문장 하나로 센다.")
+    @Test
+    void givenStatementsInsideAndOutsideRequest_whenExecuting_thenCountsOnlyInsideRequest() {
+        // Given
+        JdbcProfilingSessionEventListener listener = new JdbcProfilingSessionEventListener();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd(); // 요청 밖 (스케줄러 등)
+        RequestProfile profile = RequestProfile.start();
+
+        // When
+        try {
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+            listener.jdbcExecuteBatchStart();
+            listener.jdbcExecuteBatchEnd();
+        } finally {
+            RequestProfile.clear();
+        }
+
+        // Then
+        assertThat(profile.getStatementCount()).isEqualTo(2);
+        assertThat(profile.getDbNanos()).isNotNegative();
+    }
+
+    public static class SampleController {
+
+        public String article() {
+            return "articles/detail";
+        }
+
+    }
+
+}
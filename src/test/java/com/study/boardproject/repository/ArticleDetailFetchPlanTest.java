@@ -0,0 +1,90 @@
+package com.study.boardproject.repository;
+
+import com.study.boardproject.domain.Article;
+import com.study.boardproject.domain.ArticleComment;
+import com.study.boardproject.domain.UserAccount;
+import com.study.boardproject.dto.ArticleWithCommentsDto;
+import com.study.boardproject.dto.response.ArticleWithCommentsResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JPA 쿼리 수 테스트 - 게시글 상세")
+@Import(ArticleDetailFetchPlanTest.TestJpaConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleDetailFetchPlanTest {
+
+    private static final int COMMENT_COUNT = 5_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManager entityManager;
+
+    ArticleDetailFetchPlanTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("댓글이 5,000개 달린 게시글도, 상세 화면 데이터는 쿼리 2번으로 만든다.")
+    @Test
+    void givenArticleWithManyComments_whenLoadingArticleWithComments_thenExecutesFixedNumberOfQueries() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        Article article = articleRepository.save(Article.of(userAccount, "new article", "new content"));
+        List<ArticleComment> comments = new ArrayList<>(COMMENT_COUNT);
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(ArticleComment.of(article, userAccount, "comment " + i));
+        }
+        articleCommentRepository.saveAll(comments);
+        entityManager.flush();
+        entityManager.clear(); // 1차 캐시에 남은 엔티티로 쿼리 수가 줄어들지 않도록 비운다.
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Article loadedArticle = articleRepository.findWithUserAccountAndHashtagsById(article.getId()).orElseThrow();
+        ArticleWithCommentsDto dto = ArticleWithCommentsDto.from(
+                loadedArticle,
+                articleCommentRepository.findCommentDtosByArticleId(article.getId())
+        );
+        ArticleWithCommentsResponse response = ArticleWithCommentsResponse.from(dto);
+
+        // Then
+        assertThat(response.articleCommentsResponse()).hasSize(COMMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+
+}
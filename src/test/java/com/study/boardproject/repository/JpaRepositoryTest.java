@@ -2,8 +2,15 @@ package com.study.boardproject.repository;
 
 import com.study.boardproject.domain.Article;
 import com.study.boardproject.domain.ArticleComment;
+import com.study.boardproject.domain.ArticleViewerSketch;
 import com.study.boardproject.domain.Hashtag;
 import com.study.boardproject.domain.UserAccount;
+import com.study.boardproject.domain.id.SnowflakeIdGenerator;
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleVersionDto;
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.sketch.HyperLogLog;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +23,7 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,17 +38,20 @@ class JpaRepositoryTest {
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final ArticleViewerSketchRepository articleViewerSketchRepository;
 
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired ArticleViewerSketchRepository articleViewerSketchRepository
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.articleViewerSketchRepository = articleViewerSketchRepository;
     }
 
     @DisplayName("select 테스트")
@@ -73,6 +84,23 @@ class JpaRepositoryTest {
         assertThat(articleRepository.count()).isEqualTo(previousCount + 1);
     }
 
+    @DisplayName("게시글을 저장하면, DB를 거치지 않고 시간순으로 증가하는 id를 받는다.")
+    @Test
+    void givenNewArticles_whenSaving_thenAssignsTimeOrderedIds() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        long startedAt = System.currentTimeMillis();
+
+        // When
+        Article first = articleRepository.save(Article.of(userAccount, "first", "content"));
+        Article second = articleRepository.save(Article.of(userAccount, "second", "content"));
+
+        // Then
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(first.getId())).isGreaterThanOrEqualTo(startedAt);
+        assertThat(first.getId()).isLessThan(1L << 53); // 자바스크립트 number로 읽어도 깨지지 않는다.
+    }
+
     @DisplayName("update 테스트")
     @Test
     void givenTestData_whenUpdating_thenWorksFine() {
@@ -185,27 +213,146 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(19);
     }
 
-    @DisplayName("[Querydsl] hashtag로 페이징된 게시글 검색하기")
+    @DisplayName("[Querydsl] 검색 조건으로 게시글 수 세기 - 해시태그별 게시글 수와 맞는지")
     @Test
-    void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() {
+    void givenHashtagNames_whenCountingArticles_thenReturnsSameCountAsGroupedHashtagCounts() {
         // Given
-        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
-        Pageable pageable = PageRequest.of(0, 5, Sort.by(
-                Sort.Order.desc("hashtags.hashtagName"),
-                Sort.Order.asc("title")
-        ));
+        String hashtagNames = "blue crimson fuscia";
 
         // When
-        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+        long count = articleRepository.countBySearch(SearchType.HASHTAG, hashtagNames);
+        Map<String, Long> hashtagCounts = hashtagRepository.countArticlesGroupByHashtagName();
 
         // Then
-        assertThat(articlePage.getContent()).hasSize(pageable.getPageSize());
-        assertThat(articlePage.getContent().get(0).getTitle()).isEqualTo("Fusce posuere felis sed lacus.");
-        assertThat(articlePage.getContent().get(0).getHashtags())
-                .extracting("hashtagName", String.class)
-                .containsExactly("fuscia");
-        assertThat(articlePage.getTotalElements()).isEqualTo(17);
-        assertThat(articlePage.getTotalPages()).isEqualTo(4);
+        assertThat(count).isEqualTo(17);
+        assertThat(hashtagCounts).hasSize(19);
+        assertThat(hashtagCounts.get("blue") + hashtagCounts.get("crimson") + hashtagCounts.get("fuscia")).isEqualTo(17);
+        assertThat(articleRepository.countBySearch(null, null)).isEqualTo(123);
+        assertThat(hashtagRepository.findHashtagSummaries())
+                .hasSize(19)
+                .allSatisfy(summary -> assertThat(summary.articleCount()).isEqualTo(hashtagCounts.get(summary.hashtagName())));
+    }
+
+    @DisplayName("[Querydsl] AND, OR, NOT 해시태그 검색어로 게시글 수 세기")
+    @Test
+    void givenBooleanHashtagQuery_whenCountingArticles_thenEvaluatesOperators() {
+        // Given
+        Map<String, Long> hashtagCounts = hashtagRepository.countArticlesGroupByHashtagName();
+
+        // When & Then
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "blue OR #crimson"))
+                .isEqualTo(hashtagCounts.get("blue") + hashtagCounts.get("crimson"));
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "blue AND NOT crimson")).isEqualTo(hashtagCounts.get("blue"));
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "blue AND crimson")).isZero();
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "NOT (blue OR crimson)"))
+                .isEqualTo(123 - hashtagCounts.get("blue") - hashtagCounts.get("crimson"));
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "blue AND")).isZero();
+    }
+
+    @DisplayName("[Querydsl] 대댓글 커서 조회 - 작성일 순으로 한 페이지씩, 대댓글 수는 한 번에")
+    @Test
+    void givenParentCommentIdAndCursor_whenQueryingReplies_thenReturnsRepliesPageByPage() {
+        // Given
+        Long parentCommentId = 1L;
+
+        // When
+        Slice<ArticleCommentDto> firstPage = articleCommentRepository.findReplyCommentDtos(parentCommentId, null, 3);
+        ArticleCommentDto last = firstPage.getContent().get(firstPage.getNumberOfElements() - 1);
+        Slice<ArticleCommentDto> secondPage = articleCommentRepository.findReplyCommentDtos(parentCommentId, PageCursor.of(last.createdAt(), last.id()), 3);
+        Map<Long, Long> replyCounts = articleCommentRepository.countRepliesByParentCommentIds(List.of(1L, 2L));
+
+        // Then
+        assertThat(firstPage.getContent()).hasSize(3);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.getContent().get(0).createdAt()).isAfterOrEqualTo(last.createdAt());
+        assertThat(replyCounts).containsExactly(Map.entry(1L, 4L));
+    }
+
+    @DisplayName("[Querydsl] 조건부 GET용 게시글 버전 조회 - 댓글은 수와 최근 수정일시만")
+    @Test
+    void givenArticleId_whenQueryingArticleVersion_thenReturnsModifiedAtAndCommentSummary() {
+        // Given
+        Long articleId = 49L;
+        Long notExistingArticleId = 0L;
+
+        // When
+        Optional<ArticleVersionDto> version = articleRepository.findArticleVersion(articleId);
+        Optional<ArticleVersionDto> notExisting = articleRepository.findArticleVersion(notExistingArticleId);
+
+        // Then
+        assertThat(version).get()
+                .hasFieldOrPropertyWithValue("articleId", articleId)
+                .hasFieldOrPropertyWithValue("commentCount", 8L);
+        assertThat(version.get().modifiedAt()).isNotNull();
+        assertThat(version.get().lastCommentModifiedAt()).isNotNull();
+        assertThat(notExisting).isEmpty();
+        assertThat(articleRepository.findLatestModifiedAt()).get()
+                .satisfies(latest -> assertThat(latest).isAfterOrEqualTo(version.get().modifiedAt()));
+    }
+
+    @DisplayName("[Querydsl] 읽은 사람 수 조회 - 스케치를 합쳐서 저장하면, 게시글 id 목록으로 추정값만 한 번에 읽는다.")
+    @Test
+    void givenMergedViewerSketch_whenQueryingUniqueViewers_thenReturnsEstimatesById() {
+        // Given
+        HyperLogLog firstNode = new HyperLogLog();
+        firstNode.offer("user:uno");
+        firstNode.offer("user:uno2");
+        HyperLogLog secondNode = new HyperLogLog();
+        secondNode.offer("user:uno");
+        secondNode.offer("session:abc");
+        ArticleViewerSketch sketch = ArticleViewerSketch.of(1L);
+        sketch.merge(firstNode);
+        articleViewerSketchRepository.saveAndFlush(sketch);
+        sketch.merge(secondNode);
+        articleViewerSketchRepository.flush();
+
+        // When
+        Map<Long, Long> uniqueViewers = articleViewerSketchRepository.findUniqueViewers(List.of(1L, 2L));
+
+        // Then
+        assertThat(uniqueViewers).containsExactly(Map.entry(1L, 3L));
+        assertThat(sketch.getVersion()).isEqualTo(1L);
+        assertThat(articleViewerSketchRepository.findUniqueViewers(List.of())).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 읽은 사람 스케치 삭제 - 게시글 id로 지우고, 게시글이 없는 스케치만 골라서 지운다.")
+    @Test
+    void givenViewerSketches_whenDeletingByArticleIdAndOrphans_thenDeletesThem() {
+        // Given
+        articleViewerSketchRepository.save(ArticleViewerSketch.of(1L));
+        articleViewerSketchRepository.save(ArticleViewerSketch.of(2L));
+        articleViewerSketchRepository.save(ArticleViewerSketch.of(999_999L)); // 없는 게시글
+        articleViewerSketchRepository.flush();
+
+        // When
+        long deletedByArticleId = articleViewerSketchRepository.deleteByArticleId(2L);
+        long deletedOrphans = articleViewerSketchRepository.deleteOrphans();
+
+        // Then
+        assertThat(deletedByArticleId).isEqualTo(1);
+        assertThat(deletedOrphans).isEqualTo(1);
+        assertThat(articleViewerSketchRepository.findUniqueViewers(List.of(1L, 2L, 999_999L))).containsOnlyKeys(1L);
+    }
+
+    @DisplayName("[Querydsl] 게시글이 없는 해시태그 조회, 삭제")
+    @Test
+    void givenOrphanHashtag_whenQueryingAndDeletingOrphans_thenDeletesOnlyOrphans() {
+        // Given
+        Long orphanHashtagId = hashtagRepository.save(Hashtag.of("orphan")).getId();
+        Long usedHashtagId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+        long previousHashtagCount = hashtagRepository.count();
+
+        // When
+        List<Long> orphanIds = hashtagRepository.findOrphanIds(0L, 100);
+        long deletedCount = hashtagRepository.deleteOrphansByIdIn(List.of(orphanHashtagId, usedHashtagId));
+
+        // Then
+        assertThat(orphanIds).containsExactly(orphanHashtagId);
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(hashtagRepository.count()).isEqualTo(previousHashtagCount - 1);
+        assertThat(hashtagRepository.existsById(usedHashtagId)).isTrue();
     }
 
     @EnableJpaAuditing
@@ -0,0 +1,148 @@
+package com.study.boardproject.repository;
+
+import com.study.boardproject.config.SecondLevelCacheConfig;
+import com.study.boardproject.dto.ArticleDto;
+import com.study.boardproject.dto.ArticleWithCommentsDto;
+import com.study.boardproject.dto.UserAccountDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.domain.AuditorAware;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시가 없을 때(처음 읽을 때)와 있을 때(다시 읽을 때)의 쿼리 수를 비교한다.
+ * 각 요청은 새 세션에서 시작하도록 1차 캐시를 비우고 센다.
+ */
+@Slf4j
+@DisplayName("JPA 쿼리 수 테스트 - 2차 캐시")
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheQueryCountTest.TestJpaConfig.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheQueryCountTest {
+
+    private static final long ARTICLE_ID = 49L;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
+
+    SecondLevelCacheQueryCountTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        sessionFactory().getCache().evictAllRegions(); // 다른 테스트가 채워둔 캐시로 처음 읽는 쿼리 수가 줄지 않게 한다.
+    }
+
+    @DisplayName("게시글 리스트 페이지를 다시 읽으면, 작성자와 해시태그는 2차 캐시에서 읽고 페이지 쿼리 1번만 실행한다.")
+    @Test
+    void givenArticlePage_whenLoadingTwice_thenSecondLoadSkipsUserAccountAndHashtagQueries() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        long coldQueries = countQueries(() -> articleRepository.findPageContent(null, null, pageable).forEach(ArticleDto::from));
+        long warmQueries = countQueries(() -> articleRepository.findPageContent(null, null, pageable).forEach(ArticleDto::from));
+
+        // Then
+        log.info("게시글 리스트 페이지 쿼리 수 - 2차 캐시 없음: {}, 있음: {}", coldQueries, warmQueries);
+        assertThat(coldQueries).isGreaterThan(warmQueries);
+        assertThat(warmQueries).isEqualTo(1);
+    }
+
+    @DisplayName("로그인 사용자로 게시글 상세 페이지를 다시 읽으면, 로그인 사용자 조회 쿼리가 빠진다.")
+    @Test
+    void givenPrincipalAndArticle_whenLoadingDetailTwice_thenSecondLoadSkipsPrincipalQuery() {
+        // Given
+        Runnable detailPage = () -> {
+            userAccountRepository.findById("uno").map(UserAccountDto::from).orElseThrow(); // 매 요청 인증 정보 조회
+            ArticleWithCommentsDto.from(
+                    articleRepository.findWithUserAccountAndHashtagsById(ARTICLE_ID).orElseThrow(),
+                    articleCommentRepository.findCommentDtosByArticleId(ARTICLE_ID)
+            );
+        };
+
+        // When
+        long coldQueries = countQueries(detailPage);
+        long warmQueries = countQueries(detailPage);
+
+        // Then
+        log.info("게시글 상세 페이지 쿼리 수 - 2차 캐시 없음: {}, 있음: {}", coldQueries, warmQueries);
+        assertThat(coldQueries).isEqualTo(3);
+        assertThat(warmQueries).isEqualTo(2);
+    }
+
+    @DisplayName("같은 이름으로 해시태그를 다시 찾으면, 쿼리 캐시로 답하고 쿼리를 실행하지 않는다.")
+    @Test
+    void givenHashtagNames_whenFindingTwice_thenSecondFindHitsQueryCache() {
+        // Given
+        Set<String> hashtagNames = Set.of("pink", "blue");
+
+        // When
+        long coldQueries = countQueries(() -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+        long warmQueries = countQueries(() -> hashtagRepository.findByHashtagNameIn(hashtagNames));
+
+        // Then
+        assertThat(coldQueries).isEqualTo(1);
+        assertThat(warmQueries).isZero();
+        assertThat(statistics().getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    // 새 요청처럼 1차 캐시를 비운 뒤, 실행한 쿼리(prepared statement) 수를 센다.
+    private long countQueries(Runnable request) {
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+        request.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return sessionFactory().getStatistics();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+
+@DisplayName("검색 색인 - 게시글")
+class ArticleSearchIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    // 색인 재구성(rebuild)을 하지 않는 테스트는 repository가 필요 없다.
+    private ArticleSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex(null);
+    }
+
+    @DisplayName("색인이 준비되기 전에는, 색인 검색을 지원하지 않는다.")
+    @Test
+    void givenNotReadyIndex_whenCheckingSupport_thenReturnsFalse() {
+        // Given
+
+        // When
+        boolean actual = sut.supports(SearchType.TITLE, "spring");
+
+        // Then
+        assertThat(actual).isFalse();
+    }
+
+    @DisplayName("한 글자짜리 단어가 있는 검색어는, 색인으로 답할 수 없다.")
+    @Test
+    void givenOneLetterWord_whenGettingQueryGrams_thenReturnsNull() {
+        // Given
+
+        // When & Then
+        assertThat(SearchTokenizer.queryGrams("a spring")).isNull();
+        assertThat(SearchTokenizer.queryGrams("글")).isNull();
+        assertThat(SearchTokenizer.queryGrams(" ")).isNull();
+        assertThat(SearchTokenizer.queryGrams("spring boot")).isNotNull();
+    }
+
+    @DisplayName("제목으로 검색하면, 검색어를 그대로 포함한 게시글 id를 대소문자 구분 없이 최신글 순으로 반환한다.")
+    @Test
+    void givenIndexedArticles_whenSearchingTitle_thenReturnsMatchedArticleIdsLatestFirst() {
+        // Given
+        sut.index(1L, "Spring Boot 입문", "content", CREATED_AT.plusDays(3));
+        sut.index(2L, "spring spring 정리", "content", CREATED_AT.plusDays(1));
+        sut.index(3L, "Java 입문", "content", CREATED_AT.plusDays(2));
+        sut.index(4L, "Boot with Spring", "content", CREATED_AT);
+
+        // When & Then
+        assertThat(sut.search(SearchType.TITLE, "spring")).containsExactly(1L, 2L, 4L);
+        assertThat(sut.search(SearchType.TITLE, "SPRING BOOT")).containsExactly(1L);
+    }
+
+    @DisplayName("한글 검색어는 조사가 붙은 단어에서도 찾아진다.")
+    @Test
+    void givenKoreanKeyword_whenSearchingContent_thenMatchesWordsWithPostposition() {
+        // Given
+        sut.index(1L, "title", "게시판을 만들어 보았습니다", CREATED_AT);
+        sut.index(2L, "title", "게시글 목록", CREATED_AT);
+        sut.index(3L, "title", "게시글 중고 시판", CREATED_AT); // "게시판"의 gram(게시, 시판)은 모두 있지만 이어져 있지 않다.
+
+        // When
+        List<Long> actual = sut.search(SearchType.CONTENT, "게시판");
+
+        // Then
+        assertThat(actual).containsExactly(1L);
+    }
+
+    @DisplayName("게시글이 수정되거나 삭제되면, 색인에 반영된다.")
+    @Test
+    void givenArticleEvents_whenSearching_thenReflectsChanges() {
+        // Given
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 1L, "spring", "content"));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 2L, "spring", "content"));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 1L, "java", "content"));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 2L, null, null));
+
+        // When
+        List<Long> spring = sut.search(SearchType.TITLE, "spring");
+        List<Long> java = sut.search(SearchType.TITLE, "java");
+
+        // Then
+        assertThat(spring).isEmpty();
+        assertThat(java).containsExactly(1L);
+    }
+
+    @DisplayName("색인을 다시 만드는 동안 커밋된 변경은, 먼저 읽어둔 게시글로 덮어쓰지 않고 새 색인에 반영된다.")
+    @Test
+    void givenArticleEventsDuringRebuild_whenSearching_thenReflectsThem() {
+        // Given
+        ArticleRepository articleRepository = mock(ArticleRepository.class);
+        sut = new ArticleSearchIndex(articleRepository);
+        given(articleRepository.findArticleDocuments(0L, 1_000)).willAnswer(invocation -> {
+            // 게시글을 읽은 직후, 색인을 교체하기 전에 삭제와 수정이 커밋된다.
+            sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+            sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 2L, "java", "content"));
+            return List.of(
+                    new ArticleDocument(1L, "spring", "content", CREATED_AT),
+                    new ArticleDocument(2L, "spring", "content", CREATED_AT)
+            );
+        });
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.search(SearchType.TITLE, "spring")).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "java")).containsExactly(2L);
+    }
+
+}
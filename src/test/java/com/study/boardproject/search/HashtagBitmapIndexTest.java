@@ -0,0 +1,135 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.dto.PageCursor;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 해시태그 비트맵")
+@ExtendWith(MockitoExtension.class)
+class HashtagBitmapIndexTest {
+
+    @InjectMocks private HashtagBitmapIndex sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("색인을 만들기 전에는 준비되지 않은 상태이고, 만들고 나면 준비된 상태가 된다.")
+    @Test
+    void givenNothing_whenRebuilding_thenBecomesReady() {
+        // Given
+        given(articleRepository.findArticleKeysAfter(null, 1_000)).willReturn(List.of());
+        assertThat(sut.isReady()).isFalse();
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.isReady()).isTrue();
+        then(articleRepository).should(never()).findArticleHashtagNames(any());
+    }
+
+    @DisplayName("AND, OR, NOT 검색어는 중복 없이 최신글 순으로 게시글 id와 전체 개수를 돌려준다.")
+    @Test
+    void givenIndexedArticles_whenSearching_thenReturnsMatchedArticleIdsLatestFirst() {
+        // Given
+        rebuildWithArticles();
+
+        // When & Then
+        assertThat(search("java")).isEqualTo(HashtagSearchResult.of(List.of(40L, 20L, 10L), 3));
+        assertThat(search("java AND spring")).isEqualTo(HashtagSearchResult.of(List.of(20L, 10L), 2));
+        assertThat(search("java OR spring")).isEqualTo(HashtagSearchResult.of(List.of(40L, 30L, 20L, 10L), 4));
+        assertThat(search("java NOT spring")).isEqualTo(HashtagSearchResult.of(List.of(40L), 1));
+        assertThat(search("NOT java")).isEqualTo(HashtagSearchResult.of(List.of(50L, 30L), 2));
+        assertThat(search("(java OR jpa) NOT kotlin")).isEqualTo(HashtagSearchResult.of(List.of(30L, 20L, 10L), 3));
+        assertThat(search("nothing")).isEqualTo(HashtagSearchResult.of(List.of(), 0));
+    }
+
+    @DisplayName("offset과 limit을 주면, 최신글 순으로 그 페이지의 게시글 id만 돌려준다.")
+    @Test
+    void givenOffsetAndLimit_whenSearching_thenReturnsPage() {
+        // Given
+        rebuildWithArticles();
+
+        // When
+        HashtagSearchResult actual = sut.search(HashtagQuery.parse("java OR spring"), 1, 2);
+
+        // Then
+        assertThat(actual).isEqualTo(HashtagSearchResult.of(List.of(30L, 20L), 4));
+    }
+
+    @DisplayName("커서 게시글 id를 주면, 그보다 오래된 게시글 id를 돌려주고, 색인에 없는 커서면 빈 값을 돌려준다.")
+    @Test
+    void givenCursorArticleId_whenSearchingAfter_thenReturnsOlderArticleIds() {
+        // Given
+        rebuildWithArticles();
+        HashtagQuery query = HashtagQuery.parse("java OR spring");
+
+        // When & Then
+        assertThat(sut.searchAfter(query, null, 2)).contains(List.of(40L, 30L));
+        assertThat(sut.searchAfter(query, 30L, 2)).contains(List.of(20L, 10L));
+        assertThat(sut.searchAfter(query, 10L, 2)).contains(List.of());
+        assertThat(sut.searchAfter(query, 999L, 2)).isEmpty();
+    }
+
+    @DisplayName("게시글이 생성, 수정, 삭제되면 색인에 바로 반영된다.")
+    @Test
+    void givenArticleEvents_whenSearching_thenReflectsChanges() {
+        // Given
+        rebuildWithArticles();
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 60L, "title", "content", Set.of("java", "jpa"), Set.of()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 10L, "title", "content", Set.of("spring"), Set.of("java", "spring")));
+        sut.onArticleEvent(ArticleEvent.deleted(40L, Set.of("java", "kotlin")));
+
+        // Then
+        assertThat(search("java")).isEqualTo(HashtagSearchResult.of(List.of(60L, 20L), 2));
+        assertThat(search("spring")).isEqualTo(HashtagSearchResult.of(List.of(30L, 20L, 10L), 3));
+        assertThat(search("kotlin")).isEqualTo(HashtagSearchResult.of(List.of(), 0));
+        assertThat(search("NOT spring")).isEqualTo(HashtagSearchResult.of(List.of(60L, 50L), 2));
+    }
+
+    /**
+     * 작성일 순서: 10, 20, 30, 40, 50 (id와 작성일 순서가 같다.)
+     * 10: java, spring / 20: java, spring / 30: spring, jpa / 40: java, kotlin / 50: 해시태그 없음
+     */
+    private void rebuildWithArticles() {
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        given(articleRepository.findArticleKeysAfter(null, 1_000)).willReturn(List.of(
+                PageCursor.of(createdAt, 10L),
+                PageCursor.of(createdAt.plusMinutes(1), 20L),
+                PageCursor.of(createdAt.plusMinutes(2), 30L),
+                PageCursor.of(createdAt.plusMinutes(3), 40L),
+                PageCursor.of(createdAt.plusMinutes(4), 50L)
+        ));
+        given(articleRepository.findArticleHashtagNames(List.of(10L, 20L, 30L, 40L, 50L))).willReturn(List.of(
+                new ArticleHashtagName(10L, "java"),
+                new ArticleHashtagName(10L, "spring"),
+                new ArticleHashtagName(20L, "java"),
+                new ArticleHashtagName(20L, "spring"),
+                new ArticleHashtagName(30L, "spring"),
+                new ArticleHashtagName(30L, "jpa"),
+                new ArticleHashtagName(40L, "java"),
+                new ArticleHashtagName(40L, "kotlin")
+        ));
+        sut.rebuild();
+    }
+
+    private HashtagSearchResult search(String query) {
+        return sut.search(HashtagQuery.parse(query), 0, 20);
+    }
+
+}
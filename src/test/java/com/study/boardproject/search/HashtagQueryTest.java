@@ -0,0 +1,82 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.search.HashtagQuery.And;
+import com.study.boardproject.search.HashtagQuery.Not;
+import com.study.boardproject.search.HashtagQuery.Or;
+import com.study.boardproject.search.HashtagQuery.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("검색 색인 - 해시태그 검색어")
+class HashtagQueryTest {
+
+    @DisplayName("연산자는 NOT, AND, OR 순으로 묶이고, 괄호가 우선한다.")
+    @Test
+    void givenOperatorsAndParentheses_whenParsing_thenFollowsPrecedence() {
+        // Given
+        String query = "java AND (spring OR jpa) OR NOT kotlin";
+
+        // When
+        HashtagQuery actual = HashtagQuery.parse(query);
+
+        // Then
+        assertThat(actual).isEqualTo(new Or(
+                new And(new Tag("java"), new Or(new Tag("spring"), new Tag("jpa"))),
+                new Not(new Tag("kotlin"))
+        ));
+    }
+
+    @DisplayName("연산자 없이 띄어 쓴 해시태그는 OR로, AND 없이 붙인 NOT은 AND NOT으로 본다.")
+    @Test
+    void givenImplicitOperators_whenParsing_thenUsesOrAndAndNot() {
+        // Given
+
+        // When & Then
+        assertThat(HashtagQuery.parse("java spring")).isEqualTo(new Or(new Tag("java"), new Tag("spring")));
+        assertThat(HashtagQuery.parse("java NOT spring")).isEqualTo(new And(new Tag("java"), new Not(new Tag("spring"))));
+    }
+
+    @DisplayName("소문자 and, or, not과 #을 붙인 연산자 이름은, 연산자가 아니라 해시태그로 본다.")
+    @Test
+    void givenOperatorNamedHashtags_whenParsing_thenTreatsThemAsHashtags() {
+        // Given
+
+        // When & Then
+        assertThat(HashtagQuery.parse("java not spring")).isEqualTo(new Or(new Or(new Tag("java"), new Tag("not")), new Tag("spring")));
+        assertThat(HashtagQuery.parse("#not AND #and")).isEqualTo(new And(new Tag("not"), new Tag("and")));
+        assertThat(HashtagQuery.parse("#NOT OR java")).isEqualTo(new Or(new Tag("NOT"), new Tag("java")));
+        assertThat(HashtagQuery.parse("or")).isEqualTo(new Tag("or"));
+    }
+
+    @DisplayName("해시태그 앞의 #은 떼고, 붙여 쓴 해시태그는 나눠서 본다.")
+    @Test
+    void givenHashSigns_whenParsing_thenStripsThem() {
+        // Given
+
+        // When
+        HashtagQuery actual = HashtagQuery.parse("#java#spring AND #jpa");
+
+        // Then
+        assertThat(actual).isEqualTo(new Or(new Tag("java"), new And(new Tag("spring"), new Tag("jpa"))));
+        assertThat(actual.hashtagNames()).containsExactly("java", "spring", "jpa");
+    }
+
+    @DisplayName("해석할 수 없는 검색어는 예외를 던지고, tryParse는 빈 값을 돌려준다.")
+    @ParameterizedTest(name = "[{index}] \"{0}\"")
+    @NullAndEmptySource
+    @ValueSource(strings = {" # ", "java AND", "(java", "java)", "AND java", "()", "java OR OR spring"})
+    void givenInvalidQuery_whenParsing_thenThrowsException(String query) {
+        // Given
+
+        // When & Then
+        assertThatThrownBy(() -> HashtagQuery.parse(query)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(HashtagQuery.tryParse(query)).isEmpty();
+    }
+
+}
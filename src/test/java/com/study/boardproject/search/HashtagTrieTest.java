@@ -0,0 +1,79 @@
+package com.study.boardproject.search;
+
+import com.study.boardproject.dto.HashtagSummaryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 - 해시태그 자동완성")
+class HashtagTrieTest {
+
+    @DisplayName("접두어로 시작하는 해시태그를 게시글 수가 많은 순으로 limit개까지 돌려주고, 게시글이 없는 해시태그는 뺀다.")
+    @Test
+    void givenHashtags_whenSuggesting_thenReturnsTopHashtagsByArticleCount() {
+        // Given
+        HashtagTrie sut = HashtagTrie.of(List.of(
+                HashtagSummaryDto.of(1L, "spring", 5L),
+                HashtagSummaryDto.of(2L, "springboot", 9L),
+                HashtagSummaryDto.of(3L, "sql", 7L),
+                HashtagSummaryDto.of(4L, "spa", 0L),
+                HashtagSummaryDto.of(5L, "java", 1L)
+        ), 3);
+
+        // When & Then
+        assertThat(sut.suggest("sp", 10)).containsExactly(
+                HashtagSummaryDto.of(2L, "springboot", 9L),
+                HashtagSummaryDto.of(1L, "spring", 5L)
+        );
+        assertThat(sut.suggest("S", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("springboot", "sql", "spring");
+        assertThat(sut.suggest("", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("springboot", "sql", "spring");
+        assertThat(sut.suggest("s", 1)).extracting(HashtagSummaryDto::hashtagName).containsExactly("springboot");
+        assertThat(sut.suggest("springs", 10)).isEmpty();
+        assertThat(sut.suggest("kotlin", 10)).isEmpty();
+    }
+
+    @DisplayName("입력 중인 한글 음절도 자모 단위로 맞춘다. (겹모음, 겹받침 포함)")
+    @Test
+    void givenPartialHangulSyllable_whenSuggesting_thenMatchesByJamo() {
+        // Given
+        HashtagTrie sut = HashtagTrie.of(List.of(
+                HashtagSummaryDto.of(1L, "감자", 3L),
+                HashtagSummaryDto.of(2L, "가방", 2L),
+                HashtagSummaryDto.of(3L, "갑시다", 4L),
+                HashtagSummaryDto.of(4L, "과자", 1L)
+        ), 10);
+
+        // When & Then
+        assertThat(sut.suggest("가", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("갑시다", "감자", "가방");
+        assertThat(sut.suggest("감", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("감자");
+        assertThat(sut.suggest("값", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("갑시다");
+        assertThat(sut.suggest("고", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("과자");
+        assertThat(sut.suggest("ㄱ", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("갑시다", "감자", "가방", "과자");
+    }
+
+    @DisplayName("해시태그를 넣고, 게시글 수를 바꾸고, 빼면 순위에 바로 반영된다.")
+    @Test
+    void givenChanges_whenSuggesting_thenReflectsThem() {
+        // Given
+        HashtagTrie sut = new HashtagTrie(10);
+        sut.put(1L, "java", 3L);
+        sut.put(2L, "javascript", 2L);
+        sut.put(3L, "jpa", 1L);
+
+        // When
+        sut.put(2L, "javascript", 4L);
+        sut.put(4L, "jav", 10L);
+        sut.remove("java");
+        sut.remove("jav");
+        sut.put(3L, "jpa", 0L);
+
+        // Then
+        assertThat(sut.suggest("ja", 10)).containsExactly(HashtagSummaryDto.of(2L, "javascript", 4L));
+        assertThat(sut.suggest("j", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("javascript");
+        assertThat(sut.suggest("java", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("javascript");
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.study.boardproject.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 - 압축 비트맵")
+class RoaringBitmapTest {
+
+    @DisplayName("값을 넣고 빼면, 배열 칸과 비트맵 칸을 오가도 포함 여부와 개수가 맞다.")
+    @Test
+    void givenManyValues_whenAddingAndRemoving_thenKeepsMembershipAcrossContainerTypes() {
+        // Given
+        RoaringBitmap sut = new RoaringBitmap();
+
+        // When
+        for (int value = 0; value < 5000; value++) {
+            sut.add(value * 2); // 한 칸에 5000개 -> 비트맵 칸
+        }
+        sut.add(70_000); // 다음 칸
+        for (int value = 0; value < 2000; value++) {
+            sut.remove(value * 2); // 3000개로 줄어 -> 배열 칸
+        }
+
+        // Then
+        assertThat(sut.cardinality()).isEqualTo(3001);
+        assertThat(sut.contains(3998)).isFalse();
+        assertThat(sut.contains(4000)).isTrue();
+        assertThat(sut.contains(4001)).isFalse();
+        assertThat(sut.contains(70_000)).isTrue();
+    }
+
+    @DisplayName("교집합, 합집합, 차집합은 원본을 바꾸지 않고 새 비트맵을 돌려준다.")
+    @Test
+    void givenTwoBitmaps_whenCombining_thenReturnsSetOperations() {
+        // Given
+        RoaringBitmap left = bitmapOf(1, 2, 3, 65_536, 200_000);
+        RoaringBitmap right = bitmapOf(2, 3, 4, 200_000, 300_000);
+
+        // When
+        RoaringBitmap and = left.and(right);
+        RoaringBitmap or = left.or(right);
+        RoaringBitmap andNot = left.andNot(right);
+
+        // Then
+        assertThat(and.reverseValues(Integer.MAX_VALUE, 0, 10)).containsExactly(200_000, 3, 2);
+        assertThat(or.reverseValues(Integer.MAX_VALUE, 0, 10)).containsExactly(300_000, 200_000, 65_536, 4, 3, 2, 1);
+        assertThat(andNot.reverseValues(Integer.MAX_VALUE, 0, 10)).containsExactly(65_536, 1);
+        assertThat(left.cardinality()).isEqualTo(5);
+        assertThat(right.cardinality()).isEqualTo(5);
+    }
+
+    @DisplayName("비트맵 칸끼리 연산해도, 결과가 작으면 배열 칸으로 돌아와 같은 값을 돌려준다.")
+    @Test
+    void givenDenseBitmaps_whenIntersecting_thenReturnsSameValues() {
+        // Given
+        RoaringBitmap even = new RoaringBitmap();
+        RoaringBitmap multiplesOfThree = new RoaringBitmap();
+        RoaringBitmap multiplesOfFive = new RoaringBitmap();
+        for (int value = 0; value < 60_000; value++) {
+            if (value % 2 == 0) {
+                even.add(value);
+            }
+            if (value % 3 == 0) {
+                multiplesOfThree.add(value);
+            }
+            if (value % 5 == 0) {
+                multiplesOfFive.add(value);
+            }
+        }
+
+        // When
+        RoaringBitmap actual = even.and(multiplesOfThree).and(multiplesOfFive).andNot(bitmapOf(0));
+
+        // Then
+        assertThat(actual.cardinality()).isEqualTo(1_999);
+        assertThat(actual.contains(30)).isTrue();
+        assertThat(actual.contains(45)).isFalse();
+        assertThat(actual.reverseValues(Integer.MAX_VALUE, 0, 3)).containsExactly(59_970, 59_940, 59_910);
+    }
+
+    @DisplayName("큰 값부터 읽으면, below보다 작은 값만 skip개 건너뛰고 limit개 돌려준다.")
+    @Test
+    void givenBelowAndSkip_whenReadingInReverse_thenReturnsPage() {
+        // Given
+        RoaringBitmap sut = new RoaringBitmap();
+        for (int value = 0; value < 200_000; value += 10) {
+            sut.add(value);
+        }
+
+        // When & Then
+        assertThat(sut.reverseValues(Integer.MAX_VALUE, 0, 3)).containsExactly(199_990, 199_980, 199_970);
+        assertThat(sut.reverseValues(Integer.MAX_VALUE, 7000, 2)).containsExactly(129_990, 129_980); // 칸을 통째로 건너뛴다.
+        assertThat(sut.reverseValues(131_072, 0, 2)).containsExactly(131_070, 131_060);
+        assertThat(sut.reverseValues(131_070, 1, 2)).containsExactly(131_050, 131_040);
+        assertThat(sut.reverseValues(25, 0, 10)).containsExactly(20, 10, 0);
+        assertThat(new RoaringBitmap().reverseValues(Integer.MAX_VALUE, 0, 10)).isEmpty();
+    }
+
+    private RoaringBitmap bitmapOf(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.study.boardproject.seed;
+
+import com.study.boardproject.domain.Article;
+import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.domain.UserAccount;
+import com.study.boardproject.dto.HashtagSummaryDto;
+import com.study.boardproject.repository.ArticleCommentRepository;
+import com.study.boardproject.repository.ArticleRepository;
+import com.study.boardproject.repository.HashtagRepository;
+import com.study.boardproject.repository.UserAccountRepository;
+import com.study.boardproject.service.HashtagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("데이터 생성 - 게시판 시드")
+@Import(BoardSeederTest.TestJpaConfig.class)
+@DataJpaTest(properties = "spring.sql.init.mode=never") // data.sql 없이 빈 테이블에서 시작한다.
+class BoardSeederTest {
+
+    private static final SeedProperties PROPERTIES = new SeedProperties(20, 300, 10, 50, 2, 50, 1.1, 3, 64, 42L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+
+    BoardSeederTest(
+            @Autowired JdbcTemplate jdbcTemplate,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired HashtagRepository hashtagRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+    }
+
+    @DisplayName("시드를 실행하면, 설정한 수만큼 회원, 해시태그, 게시글과 댓글, 대댓글이 만들어진다.")
+    @Test
+    void givenSeedProperties_whenSeeding_thenCreatesConfiguredBoard() {
+        // Given
+        BoardSeeder sut = new BoardSeeder(jdbcTemplate, PROPERTIES);
+
+        // When
+        sut.seed();
+
+        // Then
+        assertThat(userAccountRepository.count()).isEqualTo(PROPERTIES.users());
+        assertThat(hashtagRepository.count()).isEqualTo(PROPERTIES.hashtags());
+        assertThat(articleRepository.count()).isEqualTo(PROPERTIES.articles());
+        assertThat(articleCommentRepository.count()).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from article_comment c join article_comment p on c.parent_comment_id = p.id where c.article_id = p.article_id",
+                Long.class
+        )).isPositive();
+    }
+
+    @DisplayName("시드 게시글의 본문 해시태그는 게시글 해시태그와 같고, 인기 순위 1번 해시태그가 가장 많이 쓰인다.")
+    @Test
+    void givenSeededBoard_whenReadingHashtags_thenContentMatchesLinksAndPopularityIsSkewed() {
+        // Given
+        new BoardSeeder(jdbcTemplate, PROPERTIES).seed();
+        HashtagService hashtagService = new HashtagService(null, null); // 파싱은 저장소를 쓰지 않는다.
+
+        // When
+        HashtagSummaryDto mostUsed = hashtagRepository.findHashtagSummaries().stream()
+                .max(Comparator.comparingLong(HashtagSummaryDto::articleCount))
+                .orElseThrow();
+        Article article = articleRepository.findAll().stream()
+                .filter(it -> !it.getHashtags().isEmpty())
+                .findFirst()
+                .orElseThrow();
+
+        // Then
+        assertThat(mostUsed.id()).isEqualTo(1L);
+        assertThat(hashtagService.parseHashtagNames(article.getContent()))
+                .isEqualTo(article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet()));
+    }
+
+    @DisplayName("시드 뒤에 게시글을 저장하면, 시드 id와 겹치지 않는 id를 받고 다시 시드를 실행해도 데이터가 늘지 않는다.")
+    @Test
+    void givenSeededBoard_whenSavingArticleAndSeedingAgain_thenGetsNewIdAndSkipsSeeding() {
+        // Given
+        BoardSeeder sut = new BoardSeeder(jdbcTemplate, PROPERTIES);
+        sut.seed();
+        UserAccount userAccount = userAccountRepository.getReferenceById("user1");
+
+        // When
+        Article saved = articleRepository.saveAndFlush(Article.of(userAccount, "new article", "new content"));
+        sut.seed();
+
+        // Then
+        assertThat(saved.getId()).isGreaterThan(PROPERTIES.articles());
+        assertThat(articleRepository.count()).isEqualTo(PROPERTIES.articles() + 1L);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+
+}
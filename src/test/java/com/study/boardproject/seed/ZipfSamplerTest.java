@@ -0,0 +1,45 @@
+package com.study.boardproject.seed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("데이터 생성 - Zipf 샘플러")
+class ZipfSamplerTest {
+
+    @DisplayName("여러 번 뽑으면, 순위 k는 1 / (k + 1)^s 에 비례하는 빈도로 나온다.")
+    @Test
+    void givenZipfSampler_whenSamplingManyTimes_thenFrequenciesFollowZipfLaw() {
+        // Given
+        ZipfSampler sut = new ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] frequencies = new int[100];
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            frequencies[sut.sample(random)]++;
+        }
+
+        // Then
+        assertThat(frequencies[0]).isGreaterThan(frequencies[1]);
+        assertThat(frequencies[1]).isGreaterThan(frequencies[9]);
+        assertThat((double) frequencies[0] / frequencies[1]).isCloseTo(2.0, within(0.1));
+        assertThat((double) frequencies[0] / frequencies[9]).isCloseTo(10.0, within(1.0));
+    }
+
+    @DisplayName("크기가 0이면, 예외를 던진다.")
+    @Test
+    void givenZeroSize_whenCreatingSampler_thenThrowsException() {
+        // Given
+
+        // When & Then
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -5,7 +5,9 @@ import com.study.boardproject.domain.ArticleComment;
 import com.study.boardproject.domain.Hashtag;
 import com.study.boardproject.domain.UserAccount;
 import com.study.boardproject.dto.ArticleCommentDto;
+import com.study.boardproject.dto.ArticleCommentThreadDto;
 import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.event.ArticleCommentEvent;
 import com.study.boardproject.repository.ArticleCommentRepository;
 import com.study.boardproject.repository.ArticleRepository;
 import com.study.boardproject.repository.UserAccountRepository;
@@ -20,11 +22,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -42,6 +50,7 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -70,6 +79,32 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID로 최상위 댓글을 조회하면, 대댓글 수와 함께 한 페이지를 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingRootComments_thenReturnsRootCommentsWithChildCounts() {
+        // Given
+        Long articleId = 1L;
+        int size = 2;
+        Slice<ArticleCommentDto> rootComments = new SliceImpl<>(
+                List.of(createArticleCommentDto(2L, null, "second"), createArticleCommentDto(1L, null, "first")),
+                Pageable.ofSize(size),
+                true
+        );
+        given(articleCommentRepository.findRootCommentDtos(articleId, null, size)).willReturn(rootComments);
+        given(articleCommentRepository.countRepliesByParentCommentIds(List.of(2L, 1L))).willReturn(Map.of(1L, 4L));
+
+        // When
+        Slice<ArticleCommentThreadDto> actual = sut.searchRootComments(articleId, null, size);
+
+        // Then
+        assertThat(actual.hasNext()).isTrue();
+        assertThat(actual.getContent())
+                .extracting(thread -> thread.articleCommentDto().id(), ArticleCommentThreadDto::childCount)
+                .containsExactly(tuple(2L, 0L), tuple(1L, 4L));
+        then(articleCommentRepository).should().findRootCommentDtos(articleId, null, size);
+        then(articleCommentRepository).should().countRepliesByParentCommentIds(List.of(2L, 1L));
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -123,6 +158,7 @@ class ArticleCommentServiceTest {
                 .isNotEqualTo(oldContent)
                 .isEqualTo(updatedContent);
         then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.UPDATED, 1L, dto.id()));
     }
 
     @DisplayName("없는 댓글 정보를 수정하려고 하면, 경고 로그를 찍고 아무 것도 안 한다.")
@@ -137,6 +173,7 @@ class ArticleCommentServiceTest {
 
         // Then
         then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("부모 댓글 ID와 댓글 정보를 입력하면, 대댓글을 저장한다.")
@@ -168,6 +205,7 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "uno";
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(createArticleComment(articleCommentId, "댓글")));
         willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
 
         // When
@@ -175,6 +213,7 @@ class ArticleCommentServiceTest {
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, 1L, articleCommentId));
     }
 
     private ArticleCommentDto createArticleCommentDto(String content) {
@@ -0,0 +1,123 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.type.SearchType;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+
+@DisplayName("비즈니스 로직 - 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+
+    @InjectMocks private ArticleCountService sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private HashtagDictionary hashtagDictionary;
+
+    @DisplayName("게시글 수를 여러 번 조회해도, count 쿼리는 처음 한 번만 실행한다.")
+    @Test
+    void givenNothing_whenCountingArticlesTwice_thenQueriesOnlyOnce() {
+        // Given
+        given(articleRepository.count()).willReturn(123L);
+
+        // When
+        long first = sut.getTotalCount();
+        long second = sut.getTotalCount();
+
+        // Then
+        assertThat(first).isEqualTo(123L);
+        assertThat(second).isEqualTo(123L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("게시글이 저장되거나 삭제되면, 캐시된 게시글 수가 증감한다.")
+    @Test
+    void givenArticleEvents_whenCounting_thenReflectsIncrementsAndDecrements() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+        sut.reconcile();
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "title", "#java #jpa", Set.of("java", "jpa"), Set.of()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 5L, "title", "#java", Set.of("java"), Set.of("spring")));
+        sut.onArticleEvent(ArticleEvent.deleted(3L, Set.of("java")));
+
+        // Then
+        assertThat(sut.getTotalCount()).isEqualTo(10L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("해시태그별 게시글 수는 해시태그 사전에서 가져온다.")
+    @Test
+    void givenHashtagName_whenCounting_thenReturnsCountFromHashtagDictionary() {
+        // Given
+        given(hashtagDictionary.getArticleCount("java")).willReturn(4L);
+
+        // When
+        long actual = sut.getHashtagCount("java");
+
+        // Then
+        assertThat(actual).isEqualTo(4L);
+        then(hashtagDictionary).should().getArticleCount("java");
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색어별 게시글 수는 캐시해두고, 게시글이 바뀌면 다시 센다.")
+    @Test
+    void givenSearchKeyword_whenCountingTwiceAroundWrite_thenRecountsAfterWrite() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        given(articleRepository.countBySearch(searchType, searchKeyword)).willReturn(2L, 3L);
+
+        // When
+        long beforeWrite = sut.getSearchCount(searchType, searchKeyword);
+        long cached = sut.getSearchCount(searchType, searchKeyword);
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 1L, "title", "content"));
+        long afterWrite = sut.getSearchCount(searchType, searchKeyword);
+
+        // Then
+        assertThat(beforeWrite).isEqualTo(2L);
+        assertThat(cached).isEqualTo(2L);
+        assertThat(afterWrite).isEqualTo(3L);
+        then(articleRepository).should(times(2)).countBySearch(searchType, searchKeyword);
+    }
+
+    @DisplayName("검색어별 게시글 수를 세는 동안 게시글이 바뀌면, 센 값은 돌려주기만 하고 캐시하지 않는다.")
+    @Test
+    void givenWriteDuringCounting_whenCountingSearch_thenDoesNotCacheStaleCount() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        given(articleRepository.countBySearch(searchType, searchKeyword))
+                .willAnswer(invocation -> {
+                    // count 쿼리가 끝나기 전에 다른 요청의 쓰기가 커밋된다.
+                    sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 1L, "title", "content"));
+                    return 2L;
+                })
+                .willReturn(3L);
+
+        // When
+        long stale = sut.getSearchCount(searchType, searchKeyword);
+        long recounted = sut.getSearchCount(searchType, searchKeyword);
+        long cached = sut.getSearchCount(searchType, searchKeyword);
+
+        // Then
+        assertThat(stale).isEqualTo(2L);
+        assertThat(recounted).isEqualTo(3L);
+        assertThat(cached).isEqualTo(3L);
+        then(articleRepository).should(times(2)).countBySearch(searchType, searchKeyword);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.config.CacheConfig;
+import com.study.boardproject.dto.ArticleWithCommentsDto;
+import com.study.boardproject.dto.HashtagDto;
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.dto.response.ArticleWithCommentsResponse;
+import com.study.boardproject.event.ArticleCommentEvent;
+import com.study.boardproject.event.ArticleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 캐시 어노테이션은 프록시가 있어야 동작하므로 캐시 설정과 서비스만 올려서 테스트한다.
+ */
+@DisplayName("비즈니스 로직 - 게시글 상세 캐시")
+@SpringBootTest(classes = {CacheConfig.class, ArticleDetailService.class})
+class ArticleDetailServiceTest {
+
+    @Autowired private ArticleDetailService sut;
+    @Autowired private CacheManager cacheManager;
+
+    @MockBean private ArticleService articleService;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.ARTICLE_DETAIL).clear();
+    }
+
+    @DisplayName("같은 게시글 상세를 여러 번 조회하면, 처음 한 번만 게시글을 불러온다.")
+    @Test
+    void givenArticleId_whenGettingArticleDetailTwice_thenLoadsArticleOnlyOnce() {
+        // Given
+        Long articleId = 1L;
+        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto(articleId));
+
+        // When
+        ArticleWithCommentsResponse first = sut.getArticleDetail(articleId);
+        ArticleWithCommentsResponse second = sut.getArticleDetail(articleId);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        then(articleService).should(times(1)).getArticleWithComments(articleId);
+    }
+
+    @DisplayName("게시글이나 댓글이 바뀌면, 그 게시글의 캐시만 지운다.")
+    @Test
+    void givenArticleAndCommentEvents_whenGettingArticleDetail_thenReloadsOnlyChangedArticle() {
+        // Given
+        given(articleService.getArticleWithComments(1L)).willReturn(createArticleWithCommentsDto(1L));
+        given(articleService.getArticleWithComments(2L)).willReturn(createArticleWithCommentsDto(2L));
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(2L);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 1L, "new title", "new content"));
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(2L);
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, 2L, 10L));
+        sut.getArticleDetail(2L);
+
+        // Then
+        then(articleService).should(times(2)).getArticleWithComments(1L);
+        then(articleService).should(times(2)).getArticleWithComments(2L);
+    }
+
+    private ArticleWithCommentsDto createArticleWithCommentsDto(Long articleId) {
+        return ArticleWithCommentsDto.of(
+                articleId,
+                UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", null),
+                Set.of(),
+                "title",
+                "content",
+                Set.of(HashtagDto.of("java")),
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.study.boardproject.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
+import com.study.boardproject.dto.request.ArticleExportRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 내보내기")
+@Import({ArticleExportService.class, ArticleExportServiceTest.TestConfig.class})
+@DataJpaTest(properties = "board.article-export.chunk-size=7") // chunk 경계를 여러 번 넘도록 작게 잡는다.
+class ArticleExportServiceTest {
+
+    private final ArticleExportService sut;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+
+    ArticleExportServiceTest(
+            @Autowired ArticleExportService sut,
+            @Autowired JdbcTemplate jdbcTemplate,
+            @Autowired ObjectMapper objectMapper,
+            @Autowired DataSource dataSource
+    ) {
+        this.sut = sut;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+    }
+
+    @DisplayName("조건 없이 NDJSON으로 내보내면, 모든 게시글을 id 순으로 한 줄씩 댓글과 함께 쓴다.")
+    @Test
+    void givenNoCondition_whenExportingAsNdjson_thenWritesEveryArticleWithComments() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Long articleCount = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        Long commentCountOfArticle49 = jdbcTemplate.queryForObject("select count(*) from article_comment where article_id = 49", Long.class);
+
+        // When
+        long exported = sut.exportArticles(ArticleExportRequest.of(null, null, null, null), ArticleFileFormat.NDJSON, output);
+
+        // Then
+        List<JsonNode> lines = readNdjson(output);
+        assertThat(exported).isEqualTo(articleCount);
+        assertThat(lines).hasSize(articleCount.intValue());
+        assertThat(lines).extracting(line -> line.get("id").asLong()).isSorted();
+        JsonNode article49 = lines.stream().filter(line -> line.get("id").asLong() == 49L).findFirst().orElseThrow();
+        assertThat(article49.get("comments")).hasSize(commentCountOfArticle49.intValue());
+        assertThat(article49.get("comments").findValues("parentCommentId")).anyMatch(value -> value.asLong() == 1L);
+    }
+
+    @DisplayName("해시태그, 작성자, 작성일시 조건을 주면, 조건에 맞는 게시글만 내보낸다.")
+    @Test
+    void givenConditions_whenExportingAsNdjson_thenWritesOnlyMatchingArticles() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LocalDateTime createdFrom = LocalDateTime.of(2021, 1, 1, 0, 0);
+        LocalDateTime createdTo = LocalDateTime.of(2021, 7, 1, 0, 0);
+        Long expectedCount = jdbcTemplate.queryForObject(
+                "select count(*) from article a join article_hashtag ah on ah.article_id = a.id join hashtag h on h.id = ah.hashtag_id"
+                        + " where h.hashtag_name = 'pink' and a.user_id = 'uno' and a.created_at >= ? and a.created_at < ?",
+                Long.class, createdFrom, createdTo
+        );
+
+        // When
+        long exported = sut.exportArticles(ArticleExportRequest.of("pink", "uno", createdFrom, createdTo), ArticleFileFormat.NDJSON, output);
+
+        // Then
+        List<JsonNode> lines = readNdjson(output);
+        assertThat(exported).isEqualTo(expectedCount);
+        assertThat(lines).hasSize(expectedCount.intValue());
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.get("userId").asText()).isEqualTo("uno");
+            assertThat(line.get("hashtags").toString()).contains("\"pink\"");
+            assertThat(LocalDateTime.parse(line.get("createdAt").asText())).isBetween(createdFrom, createdTo.minusNanos(1));
+        });
+    }
+
+    @DisplayName("CSV로 내보내면, 헤더 다음에 게시글 행과 그 댓글 행을 쓰고 줄바꿈이 있는 본문은 따옴표로 감싼다.")
+    @Test
+    void givenArticle_whenExportingAsCsv_thenWritesArticleAndCommentRows() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String content = jdbcTemplate.queryForObject("select content from article where id = 49", String.class);
+        Long commentCount = jdbcTemplate.queryForObject("select count(*) from article_comment where article_id = 49", Long.class);
+        LocalDateTime createdAt = jdbcTemplate.queryForObject("select created_at from article where id = 49", LocalDateTime.class);
+        String userId = jdbcTemplate.queryForObject("select user_id from article where id = 49", String.class);
+
+        // When
+        sut.exportArticles(ArticleExportRequest.of(null, userId, createdAt, createdAt.plusSeconds(1)), ArticleFileFormat.CSV, output);
+
+        // Then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("record_type,id,article_id,parent_comment_id,user_id,title,content,hashtags,created_at,created_by,modified_at,modified_by\n");
+        assertThat(csv).contains("\"" + content.replace("\"", "\"\"") + "\"");
+        assertThat(csv.lines().filter(line -> line.startsWith("comment,")).count()).isEqualTo(commentCount);
+    }
+
+    @DisplayName("내보내면, 해시태그와 댓글 IN 쿼리는 게시글 커서와 다른 연결에서 실행한다.")
+    @Test
+    void givenStreamingCursor_whenExporting_thenRunsChunkQueriesOnAnotherConnection() throws Exception {
+        // Given
+        ConnectionRecordingDataSource recordingDataSource = new ConnectionRecordingDataSource(dataSource);
+        ArticleExportService exportService = new ArticleExportService(
+                new JdbcTemplate(recordingDataSource),
+                objectMapper,
+                new DataSourceTransactionManager(recordingDataSource),
+                1000,
+                7
+        );
+
+        // When
+        exportService.exportArticles(ArticleExportRequest.of(null, null, null, null), ArticleFileFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Then
+        Connection cursorConnection = recordingDataSource.connectionOf("from article a");
+        assertThat(cursorConnection).isNotNull();
+        assertThat(recordingDataSource.connectionOf("from article_hashtag ah")).isNotNull().isNotSameAs(cursorConnection);
+        assertThat(recordingDataSource.connectionOf("from article_comment")).isNotNull().isNotSameAs(cursorConnection);
+    }
+
+    private List<JsonNode> readNdjson(ByteArrayOutputStream output) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * 어떤 sql을 어떤 (실제) 연결에서 준비했는지 기록한다.
+     */
+    static class ConnectionRecordingDataSource extends DelegatingDataSource {
+
+        private final Map<String, Connection> connectionsBySql = new ConcurrentHashMap<>();
+
+        ConnectionRecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            connectionsBySql.putIfAbsent((String) args[0], connection);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+            );
+        }
+
+        Connection connectionOf(String sqlPart) {
+            return connectionsBySql.entrySet().stream()
+                    .filter(entry -> entry.getKey().contains(sqlPart))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.study.boardproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardproject.domain.Article;
+import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.domain.constant.ArticleFileFormat;
+import com.study.boardproject.domain.id.SnowflakeIdGenerator;
+import com.study.boardproject.dto.ArticleImportResultDto;
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.repository.ArticleRepository;
+import com.study.boardproject.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 일괄 가져오기")
+@Import({ArticleImportService.class, HashtagService.class, HashtagDictionary.class, ArticleImportServiceTest.TestConfig.class})
+@DataJpaTest(properties = "board.article-import.chunk-size=2") // chunk가 여러 번 나뉘도록 작게 잡는다.
+class ArticleImportServiceTest {
+
+    private final ArticleImportService sut;
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
+
+    ArticleImportServiceTest(
+            @Autowired ArticleImportService sut,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired HashtagDictionary hashtagDictionary
+    ) {
+        this.sut = sut;
+        this.articleRepository = articleRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagDictionary = hashtagDictionary;
+    }
+
+    @DisplayName("NDJSON을 가져오면, 올바른 레코드는 해시태그와 함께 저장하고 잘못된 레코드는 줄 번호와 사유를 남긴다.")
+    @Test
+    void givenNdjsonArticles_whenImporting_thenSavesValidArticlesAndReportsFailures() throws Exception {
+        // Given
+        long previousCount = articleRepository.count();
+        String body = """
+                {"title": "import 1", "content": "본문 #pink #importtag"}
+                {"title": "", "content": "제목 없음"}
+                not json
+
+                {"title": "import 2", "content": "본문 #importtag"}
+                {"title": "import 3", "content": "본문 #새태그"}
+                """;
+
+        // When
+        ArticleImportResultDto result = sut.importArticles(toInputStream(body), ArticleFileFormat.NDJSON, createUserAccountDto());
+
+        // Then
+        assertThat(result.importedCount()).isEqualTo(3L);
+        assertThat(result.failedCount()).isEqualTo(2L);
+        assertThat(result.failures())
+                .extracting(ArticleImportResultDto.Failure::lineNumber)
+                .containsExactly(2L, 3L);
+        assertThat(articleRepository.count()).isEqualTo(previousCount + 3);
+
+        Map<String, Article> imported = findArticlesByTitle("import 1", "import 2", "import 3");
+        assertThat(imported).hasSize(3);
+        assertThat(imported.get("import 1").getCreatedBy()).isEqualTo("uno");
+        assertThat(imported.get("import 1").getHashtags())
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("pink", "importtag");
+        assertThat(imported.get("import 3").getHashtags())
+                .extracting(Hashtag::getHashtagName)
+                .containsExactly("새태그");
+        assertThat(hashtagRepository.findByHashtagNameIn(Set.of("pink", "importtag", "새태그"))).hasSize(3);
+    }
+
+    @DisplayName("CSV를 가져오면, 따옴표 안의 쉼표, 줄바꿈, 따옴표를 그대로 살리고 컬럼이 모자란 레코드는 실패로 남긴다.")
+    @Test
+    void givenCsvArticles_whenImporting_thenParsesQuotedFieldsAndReportsShortRecords() throws Exception {
+        // Given
+        String body = "title,content\n"
+                + "\"csv, 제목\",\"첫 줄\n둘째 줄 \"\"인용\"\" #csvtag\"\r\n"
+                + "only title\n";
+
+        // When
+        ArticleImportResultDto result = sut.importArticles(toInputStream(body), ArticleFileFormat.CSV, createUserAccountDto());
+
+        // Then
+        assertThat(result.importedCount()).isEqualTo(1L);
+        assertThat(result.failures())
+                .extracting(ArticleImportResultDto.Failure::lineNumber)
+                .containsExactly(4L);
+        Article article = findArticlesByTitle("csv, 제목").get("csv, 제목");
+        assertThat(article.getContent()).isEqualTo("첫 줄\n둘째 줄 \"인용\" #csvtag");
+        assertThat(article.getHashtags())
+                .extracting(Hashtag::getHashtagName)
+                .containsExactly("csvtag");
+    }
+
+    @DisplayName("CSV 헤더에 title, content 컬럼이 없으면, 아무것도 저장하지 않고 첫 줄을 실패로 남긴다.")
+    @Test
+    void givenCsvWithoutRequiredHeader_whenImporting_thenSavesNothing() throws Exception {
+        // Given
+        long previousCount = articleRepository.count();
+        String body = "name,body\nnew title,new content\n";
+
+        // When
+        ArticleImportResultDto result = sut.importArticles(toInputStream(body), ArticleFileFormat.CSV, createUserAccountDto());
+
+        // Then
+        assertThat(result.importedCount()).isZero();
+        assertThat(result.failures())
+                .extracting(ArticleImportResultDto.Failure::lineNumber)
+                .containsExactly(1L);
+        assertThat(articleRepository.count()).isEqualTo(previousCount);
+    }
+
+    @DisplayName("사전에 남아 있는 고아 해시태그가 이미 청소됐으면, 그 id를 쓰지 않고 해시태그를 새로 만들어서 저장한다.")
+    @Test
+    void givenSweptHashtagStillInDictionary_whenImporting_thenCreatesHashtagAgain() throws Exception {
+        // Given
+        Long orphanId = hashtagRepository.saveAndFlush(Hashtag.of("swepttag")).getId();
+        hashtagDictionary.reload(); // 게시글 수 0으로 사전에 들어간다.
+        hashtagRepository.deleteOrphansByIdIn(List.of(orphanId)); // 청소가 지웠지만 아직 사전에서 빼기 전이다.
+        String body = """
+                {"title": "swept 1", "content": "본문 #swepttag"}
+                {"title": "swept 2", "content": "본문 #pink"}
+                """;
+
+        // When
+        ArticleImportResultDto result = sut.importArticles(toInputStream(body), ArticleFileFormat.NDJSON, createUserAccountDto());
+
+        // Then
+        assertThat(result.importedCount()).isEqualTo(2L);
+        assertThat(result.failures()).isEmpty();
+        Hashtag hashtag = findArticlesByTitle("swept 1").get("swept 1").getHashtags().iterator().next();
+        assertThat(hashtag.getHashtagName()).isEqualTo("swepttag");
+        assertThat(hashtag.getId()).isNotEqualTo(orphanId);
+    }
+
+    private Map<String, Article> findArticlesByTitle(String... titles) {
+        Set<String> titleSet = Set.of(titles);
+        return articleRepository.findAll().stream()
+                .filter(article -> titleSet.contains(article.getTitle()))
+                .collect(Collectors.toMap(Article::getTitle, Function.identity()));
+    }
+
+    private InputStream toInputStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", "This is memo");
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        SnowflakeIdGenerator snowflakeIdGenerator() {
+            return SnowflakeIdGenerator.forNode(0);
+        }
+    }
+
+}
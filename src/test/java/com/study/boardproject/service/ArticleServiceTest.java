@@ -7,10 +7,16 @@ import com.study.boardproject.domain.type.SearchType;
 import com.study.boardproject.dto.ArticleDto;
 import com.study.boardproject.dto.ArticleWithCommentsDto;
 import com.study.boardproject.dto.HashtagDto;
+import com.study.boardproject.dto.PageCursor;
 import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleCommentRepository;
 import com.study.boardproject.repository.ArticleRepository;
-import com.study.boardproject.repository.HashtagRepository;
 import com.study.boardproject.repository.UserAccountRepository;
+import com.study.boardproject.search.ArticleSearchIndex;
+import com.study.boardproject.search.HashtagBitmapIndex;
+import com.study.boardproject.search.HashtagQuery;
+import com.study.boardproject.search.HashtagSearchResult;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +25,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -44,22 +55,30 @@ class ArticleServiceTest {
 
     @Mock private HashtagService hashtagService;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
-    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagDictionary hashtagDictionary;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private HashtagBitmapIndex hashtagBitmapIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findPageContent(null, null, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(null, null)).willReturn(0L);
 
         // When
         Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findPageContent(null, null, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions(); // count 쿼리를 날리지 않는다.
+        then(articleCountService).should().getSearchCount(null, null);
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -69,14 +88,97 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.findPageContent(searchType, searchKeyword, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(searchType, searchKeyword)).willReturn(0L);
 
         // When
         Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findPageContent(searchType, searchKeyword, pageable);
+        then(articleCountService).should().getSearchCount(searchType, searchKeyword);
+    }
+
+    @DisplayName("검색 색인이 준비되어 있으면, 색인 순서대로 현재 페이지의 게시글만 조회해서 반환한다.")
+    @Test
+    void givenSearchParametersAndReadyIndex_whenSearchingArticles_thenReturnsArticlePageInIndexOrder() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(2);
+        Article article3 = createArticle(3L);
+        Article article2 = createArticle(2L);
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword)).willReturn(List.of(3L, 2L, 1L));
+        given(articleRepository.findAllById(List.of(3L, 2L))).willReturn(List.of(article2, article3));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        assertThat(articles.getContent())
+                .extracting(ArticleDto::id)
+                .containsExactly(3L, 2L);
+        then(articleRepository).should().findAllById(List.of(3L, 2L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("검색 색인이 준비되어 있어도 최신글 순이 아닌 정렬을 요청하면, 색인을 쓰지 않고 DB에서 검색한다.")
+    @Test
+    void givenSortOtherThanLatestFirst_whenSearchingArticles_thenDoesNotUseIndex() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title"));
+        given(articleRepository.findPageContent(searchType, searchKeyword, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(searchType, searchKeyword)).willReturn(0L);
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleSearchIndex).shouldHaveNoInteractions();
+        then(articleRepository).should().findPageContent(searchType, searchKeyword, pageable);
+    }
+
+    @DisplayName("커서와 함께 게시글을 검색하면, count 쿼리 없이 게시글 슬라이스를 반환한다.")
+    @Test
+    void givenCursor_whenSearchingArticlesAfter_thenReturnsArticleSlice() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 10L);
+        int size = 20;
+        Article expectedArticle = createArticle();
+        given(articleRepository.findSliceAfter(searchType, searchKeyword, cursor, size))
+                .willReturn(new SliceImpl<>(List.of(expectedArticle), Pageable.ofSize(size), true));
+
+        // When
+        Slice<ArticleDto> articles = sut.searchArticlesAfter(searchType, searchKeyword, cursor, size);
+
+        // Then
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(articles.getContent()).containsExactly(ArticleDto.from(expectedArticle));
+        then(articleRepository).should().findSliceAfter(searchType, searchKeyword, cursor, size);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("커서는 문자열로 인코딩했다가 그대로 복원할 수 있고, 잘못된 문자열은 첫 페이지(null)로 본다.")
+    @Test
+    void givenCursor_whenEncodingAndDecoding_thenReturnsSameCursor() {
+        // Given
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2023, 1, 1, 12, 30, 15), 123L);
+
+        // When
+        PageCursor actual = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(actual).isEqualTo(cursor);
+        assertThat(PageCursor.decode("")).isNull();
+        assertThat(PageCursor.decode("not-a-cursor")).isNull();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -90,7 +192,7 @@ class ArticleServiceTest {
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(hashtagRepository).shouldHaveNoInteractions();
+        then(articleCountService).shouldHaveNoInteractions();
         then(articleRepository).shouldHaveNoInteractions();
     }
 
@@ -98,16 +200,94 @@ class ArticleServiceTest {
     @Test
     void givenNonexistentHashtag_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         // Given
-        String hashtagName = "난 없지롱";
+        String hashtagName = "난없지롱";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        given(articleRepository.findPageContent(SearchType.HASHTAG, hashtagName, pageable)).willReturn(List.of());
+        given(articleCountService.getHashtagCount(hashtagName)).willReturn(0L);
 
         // When
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findPageContent(SearchType.HASHTAG, hashtagName, pageable);
+        then(articleCountService).should().getHashtagCount(hashtagName);
+    }
+
+    @DisplayName("해시태그 검색어를 해석할 수 없으면, DB를 읽지 않고 빈 페이지를 반환한다.")
+    @Test
+    void givenInvalidHashtagQuery_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
+        // Given
+        String hashtagQuery = "java AND (spring";
+        Pageable pageable = Pageable.ofSize(20);
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagQuery, pageable);
+
+        // Then
+        assertThat(articles).isEqualTo(Page.empty(pageable));
+        then(hashtagBitmapIndex).shouldHaveNoInteractions();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 비트맵 색인이 준비되어 있으면, 색인이 준 최신글 순서대로 현재 페이지의 게시글만 조회하고 전체 개수도 색인에서 받는다.")
+    @Test
+    void givenReadyHashtagBitmapIndex_whenSearchingArticlesViaHashtag_thenReturnsArticlePageInIndexOrder() {
+        // Given
+        String hashtagQuery = "java AND NOT spring";
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(hashtagBitmapIndex.isReady()).willReturn(true);
+        given(hashtagBitmapIndex.search(HashtagQuery.parse(hashtagQuery), 2L, 2)).willReturn(HashtagSearchResult.of(List.of(5L, 4L), 5L));
+        given(articleRepository.findAllById(List.of(5L, 4L))).willReturn(List.of(createArticle(4L), createArticle(5L)));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagQuery, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(5);
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(5L, 4L);
+        then(articleRepository).should().findAllById(List.of(5L, 4L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("최신글 순이 아닌 정렬로 해시태그 검색하면, 색인이 준비되어 있어도 DB에서 검색어 조건으로 찾는다.")
+    @Test
+    void givenOtherSort_whenSearchingArticlesViaHashtag_thenSearchesDatabase() {
+        // Given
+        String hashtagQuery = "java spring";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("title"));
+        given(hashtagBitmapIndex.isReady()).willReturn(true);
+        given(articleRepository.findPageContent(SearchType.HASHTAG, hashtagQuery, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(SearchType.HASHTAG, hashtagQuery)).willReturn(0L);
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagQuery, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(hashtagBitmapIndex).should(never()).search(any(), anyLong(), anyInt());
+        then(articleCountService).should().getSearchCount(SearchType.HASHTAG, hashtagQuery);
+    }
+
+    @DisplayName("커서와 함께 해시태그 검색하면, 색인에서 커서 다음 게시글을 하나 더 받아서 다음 페이지가 있는지 판단한다.")
+    @Test
+    void givenCursorAndReadyHashtagBitmapIndex_whenSearchingArticlesViaHashtagAfter_thenReturnsArticleSlice() {
+        // Given
+        String hashtagQuery = "java";
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 10L);
+        given(hashtagBitmapIndex.isReady()).willReturn(true);
+        given(hashtagBitmapIndex.searchAfter(HashtagQuery.parse(hashtagQuery), 10L, 3)).willReturn(Optional.of(List.of(9L, 7L, 3L)));
+        given(articleRepository.findAllById(List.of(9L, 7L))).willReturn(List.of(createArticle(7L), createArticle(9L)));
+
+        // When
+        Slice<ArticleDto> articles = sut.searchArticlesViaHashtagAfter(hashtagQuery, cursor, 2);
+
+        // Then
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(9L, 7L);
+        then(articleRepository).should().findAllById(List.of(9L, 7L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -117,14 +297,16 @@ class ArticleServiceTest {
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
         Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        given(articleRepository.findPageContent(SearchType.HASHTAG, hashtagName, pageable)).willReturn(List.of(expectedArticle));
+        given(articleCountService.getHashtagCount(hashtagName)).willReturn(1L);
 
         // When
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findPageContent(SearchType.HASHTAG, hashtagName, pageable);
+        then(articleCountService).should().getHashtagCount(hashtagName);
     }
 
     @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
@@ -133,7 +315,8 @@ class ArticleServiceTest {
         // Given
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findWithUserAccountAndHashtagsById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findCommentDtosByArticleId(articleId)).willReturn(List.of());
 
         // When
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
@@ -146,7 +329,8 @@ class ArticleServiceTest {
                         .map(HashtagDto::from)
                         .collect(Collectors.toUnmodifiableSet())
                 );
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithUserAccountAndHashtagsById(articleId);
+        then(articleCommentRepository).should().findCommentDtosByArticleId(articleId);
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
@@ -154,7 +338,7 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         // Given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findWithUserAccountAndHashtagsById(articleId)).willReturn(Optional.empty());
 
         // When
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -163,7 +347,8 @@ class ArticleServiceTest {
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithUserAccountAndHashtagsById(articleId);
+        then(articleCommentRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -211,8 +396,7 @@ class ArticleServiceTest {
         // Given
         ArticleDto dto = createArticleDto();
         Set<String> expectedHashtagNames = Set.of("java", "spring");
-        Set<Hashtag> expectedHashtags = new HashSet<>();
-        expectedHashtags.add(createHashtag("java"));
+        Map<String, Hashtag> expectedHashtags = Map.of("java", createHashtag("java"));
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
@@ -236,12 +420,10 @@ class ArticleServiceTest {
         Article article = createArticle();
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #springboot");
         Set<String> expectedHashtagNames = Set.of("springboot");
-        Set<Hashtag> expectedHashtags = new HashSet<>();
+        Map<String, Hashtag> expectedHashtags = Map.of();
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
         given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
 
@@ -258,8 +440,6 @@ class ArticleServiceTest {
                 .containsExactly("springboot");
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
 
@@ -298,6 +478,32 @@ class ArticleServiceTest {
         // Then
         then(articleRepository).should().getReferenceById(differentArticleId);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 본문의 해시태그가 일부만 바뀌면, 빠진 해시태그와 추가된 해시태그만 반영한다.")
+    @Test
+    void givenPartiallyChangedHashtags_whenUpdatingArticle_thenAppliesOnlyDifference() {
+        // Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #java #jpa");
+        Set<String> expectedHashtagNames = Set.of("java", "jpa");
+
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
+        given(hashtagService.findHashtagsByNames(Set.of("jpa"))).willReturn(Map.of());
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        assertThat(article.getHashtags())
+                .extracting("hashtagName")
+                .containsExactlyInAnyOrder("java", "jpa");
+        then(hashtagService).should().findHashtagsByNames(Set.of("jpa"));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
@@ -308,8 +514,6 @@ class ArticleServiceTest {
         String userId = "uno";
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
 
         // When
         sut.deleteArticle(1L, userId);
@@ -317,8 +521,8 @@ class ArticleServiceTest {
         // Then
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+        then(hashtagService).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
@@ -326,14 +530,15 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCountService.getTotalCount()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleCountService).should().getTotalCount();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다")
@@ -342,14 +547,14 @@ class ArticleServiceTest {
         // Given
         Article article = createArticle();
         List<String> expectedHashtags = List.of("java", "spring", "boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
+        given(hashtagDictionary.getHashtagNames()).willReturn(expectedHashtags);
 
         // When
         List<String> actualHashtags = sut.getHashtags();
 
         // Then
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        then(hashtagDictionary).should().getHashtagNames();
     }
 
     private UserAccount createUserAccount() {
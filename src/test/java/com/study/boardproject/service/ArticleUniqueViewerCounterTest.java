@@ -0,0 +1,137 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.ArticleViewerSketch;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.ArticleViewerSketchRepository;
+import com.study.boardproject.sketch.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글을 읽은 사람 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleUniqueViewerCounterTest {
+
+    private ArticleUniqueViewerCounter sut;
+
+    @Mock private ArticleViewerSketchRepository articleViewerSketchRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleUniqueViewerCounter(articleViewerSketchRepository, transactionTemplate, 100);
+    }
+
+    @DisplayName("모은 스케치를 DB의 스케치에 합치고, 처음 읽힌 게시글은 새 스케치를 저장한다.")
+    @Test
+    void givenRecordedViewers_whenFlushing_thenMergesIntoExistingAndNewSketches() {
+        // Given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Void>>getArgument(0).doInTransaction(null));
+        HyperLogLog otherNode = new HyperLogLog();
+        otherNode.offer("user:uno");
+        otherNode.offer("user:uno2");
+        ArticleViewerSketch existing = ArticleViewerSketch.of(1L);
+        existing.merge(otherNode);
+        given(articleViewerSketchRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(existing));
+        given(articleViewerSketchRepository.save(any(ArticleViewerSketch.class))).will(returnsFirstArg());
+        sut.recordViewer(1L, "user:uno");
+        sut.recordViewer(1L, "user:uno");
+        sut.recordViewer(1L, "user:uno3");
+        sut.recordViewer(2L, "user:uno");
+
+        // When
+        sut.flush();
+
+        // Then
+        ArgumentCaptor<ArticleViewerSketch> savedCaptor = ArgumentCaptor.forClass(ArticleViewerSketch.class);
+        then(articleViewerSketchRepository).should().save(savedCaptor.capture());
+        then(articleViewerSketchRepository).should().flush();
+        assertThat(existing.getUniqueViewers()).isEqualTo(3L);
+        assertThat(savedCaptor.getValue().getArticleId()).isEqualTo(2L);
+        assertThat(savedCaptor.getValue().getUniqueViewers()).isEqualTo(1L);
+    }
+
+    @DisplayName("합치다가 충돌하면, 스케치를 메모리에 되돌려서 다음 주기에 다시 합친다.")
+    @Test
+    void givenConflict_whenFlushing_thenKeepsSketchForNextFlush() {
+        // Given
+        given(transactionTemplate.execute(any()))
+                .willThrow(new OptimisticLockingFailureException("conflict"))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Void>>getArgument(0).doInTransaction(null));
+        ArticleViewerSketch existing = ArticleViewerSketch.of(1L);
+        given(articleViewerSketchRepository.findAllById(Set.of(1L))).willReturn(List.of(existing));
+        sut.recordViewer(1L, "user:uno");
+        sut.recordViewer(1L, "user:uno2");
+
+        // When
+        sut.flush();
+        sut.recordViewer(1L, "user:uno3");
+        sut.flush();
+
+        // Then
+        assertThat(existing.getUniqueViewers()).isEqualTo(3L);
+        then(transactionTemplate).should(times(2)).execute(any());
+    }
+
+    @DisplayName("모은 스케치가 없으면, DB에 아무것도 보내지 않는다.")
+    @Test
+    void givenNoViewers_whenFlushing_thenDoesNothing() {
+        // Given
+
+        // When
+        sut.flush();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(articleViewerSketchRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글이 삭제되면, 모으던 스케치를 버리고 DB 스케치를 지운다.")
+    @Test
+    void givenDeletedArticle_whenHandlingEvent_thenDropsPendingAndDeletesSketch() {
+        // Given
+        sut.recordViewer(1L, "user:uno");
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 1L, "title", "content"));
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+        sut.flush();
+
+        // Then
+        then(articleViewerSketchRepository).should().deleteByArticleId(1L);
+        then(articleViewerSketchRepository).shouldHaveNoMoreInteractions();
+        then(transactionTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글이 없는 스케치를 주기적으로 지운다.")
+    @Test
+    void givenNothing_whenSweeping_thenDeletesOrphanSketches() {
+        // Given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Long>>getArgument(0).doInTransaction(null));
+        given(articleViewerSketchRepository.deleteOrphans()).willReturn(2L);
+
+        // When
+        sut.sweepOrphans();
+
+        // Then
+        then(articleViewerSketchRepository).should().deleteOrphans();
+    }
+
+}
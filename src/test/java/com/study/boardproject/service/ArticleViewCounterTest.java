@@ -0,0 +1,110 @@
+package com.study.boardproject.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+
+    private ArticleViewCounter sut;
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleViewCounter(jdbcTemplate, transactionTemplate, 2, "maximumSize=100");
+    }
+
+    @DisplayName("조회수는 DB 값에 아직 반영하지 않은 값을 더해서 보여준다.")
+    @Test
+    void givenRecordedViews_whenGettingViewCount_thenReturnsPersistedPlusPending() {
+        // Given
+        sut.recordView(1L);
+        sut.recordView(1L);
+
+        // When
+        long viewed = sut.getViewCount(1L, 10L);
+        long notViewed = sut.getViewCount(2L, 5L);
+
+        // Then
+        assertThat(viewed).isEqualTo(12L);
+        assertThat(notViewed).isEqualTo(5L);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("쌓인 조회수를 id 순으로 batch-size개씩 batch update로 더하고, 더한 뒤의 DB 값을 읽어둔 다음 더한 만큼 뺀다.")
+    @Test
+    void givenPendingViews_whenFlushing_thenBatchUpdatesDeltasAndKeepsFlushedCounts() {
+        // Given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).willReturn(
+                List.of(Map.entry(1L, 12L), Map.entry(2L, 6L)),
+                List.of(Map.entry(3L, 1L))
+        );
+        sut.recordView(3L);
+        sut.recordView(1L);
+        sut.recordView(1L);
+        sut.recordView(2L);
+
+        // When
+        sut.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getAllValues().get(0)).containsExactly(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(argsCaptor.getAllValues().get(1)).containsExactly(new Object[]{1L, 3L});
+        assertThat(sut.getViewCount(1L, 12L)).isEqualTo(12L); // 반영된 값은 DB 값에 들어 있다.
+        // 캐시된 상세 응답처럼 반영 전 DB 값을 주어도, 읽어둔 값을 써서 조회수가 줄지 않는다.
+        assertThat(sut.getViewCount(1L, 10L)).isEqualTo(12L);
+        assertThat(sut.getViewCount(2L, 5L)).isEqualTo(6L);
+    }
+
+    @DisplayName("반영에 실패하면, 조회수를 그대로 두고 다음 주기에 다시 더한다.")
+    @Test
+    void givenDatabaseFailure_whenFlushing_thenKeepsPendingViews() {
+        // Given
+        given(transactionTemplate.execute(any())).willThrow(new QueryTimeoutException("timeout"));
+        sut.recordView(1L);
+
+        // When
+        sut.flush();
+
+        // Then
+        assertThat(sut.getViewCount(1L, 10L)).isEqualTo(11L);
+    }
+
+    @DisplayName("쌓인 조회수가 없으면, DB에 아무것도 보내지 않는다.")
+    @Test
+    void givenNoPendingViews_whenFlushing_thenDoesNothing() {
+        // Given
+
+        // When
+        sut.flush();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+    }
+
+}
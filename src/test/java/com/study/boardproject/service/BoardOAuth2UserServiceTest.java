@@ -0,0 +1,137 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 카카오 로그인")
+@ExtendWith(MockitoExtension.class)
+class BoardOAuth2UserServiceTest {
+
+    @InjectMocks private BoardOAuth2UserService sut;
+
+    @Mock private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+    @Mock private UserAccountService userAccountService;
+    @Mock private PasswordHashingService passwordHashingService;
+
+    @DisplayName("이미 가입한 카카오 사용자가 로그인하면, 비밀번호 해시 없이 회원 정보만 읽는다.")
+    @Test
+    void givenRegisteredKakaoUser_whenLoggingIn_thenReturnsPrincipalWithoutHashing() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        given(delegate.loadUser(userRequest)).willReturn(createKakaoUser());
+        given(userAccountService.searchUser("kakao_1234567890")).willReturn(Optional.of(createUserAccountDto()));
+
+        // When
+        OAuth2User result = sut.loadUser(userRequest);
+
+        // Then
+        assertThat(result)
+                .isInstanceOf(BoardPrincipal.class)
+                .hasFieldOrPropertyWithValue("username", "kakao_1234567890");
+        then(passwordHashingService).shouldHaveNoInteractions();
+        then(userAccountService).should(never()).saveUser(any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("처음 로그인한 카카오 사용자는, 해시한 임시 비밀번호로 가입시킨다.")
+    @Test
+    void givenNewKakaoUser_whenLoggingIn_thenSignsUpWithHashedPassword() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        given(delegate.loadUser(userRequest)).willReturn(createKakaoUser());
+        given(userAccountService.searchUser("kakao_1234567890")).willReturn(Optional.empty());
+        given(passwordHashingService.encode(anyString())).willReturn("{bcrypt}hashed");
+        given(userAccountService.saveUser("kakao_1234567890", "{bcrypt}hashed", "test@gmail.com", "홍길동", null))
+                .willReturn(createUserAccountDto());
+
+        // When
+        OAuth2User result = sut.loadUser(userRequest);
+
+        // Then
+        assertThat(result).hasFieldOrPropertyWithValue("username", "kakao_1234567890");
+        then(passwordHashingService).should().encode(anyString());
+        then(userAccountService).should().saveUser("kakao_1234567890", "{bcrypt}hashed", "test@gmail.com", "홍길동", null);
+    }
+
+    @DisplayName("가입이 몰려서 비밀번호 해시가 거절되면, 가입하지 않고 잠시 후 다시 시도하라는 인증 예외를 던진다.")
+    @Test
+    void givenHashingRejected_whenNewKakaoUserLogsIn_thenThrowsTemporarilyUnavailable() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        given(delegate.loadUser(userRequest)).willReturn(createKakaoUser());
+        given(userAccountService.searchUser("kakao_1234567890")).willReturn(Optional.empty());
+        given(passwordHashingService.encode(anyString())).willThrow(new RejectedExecutionException("queue full"));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.loadUser(userRequest))
+                .isInstanceOf(OAuth2AuthenticationException.class)
+                .extracting(e -> ((OAuth2AuthenticationException) e).getError().getErrorCode())
+                .isEqualTo(OAuth2ErrorCodes.TEMPORARILY_UNAVAILABLE);
+        then(userAccountService).should(never()).saveUser(any(), any(), any(), any(), any());
+    }
+
+    private OAuth2UserRequest createUserRequest() {
+        ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/kakao")
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .tokenUri("https://kauth.kakao.com/oauth/token")
+                .userInfoUri("https://kapi.kakao.com/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER,
+                "access-token",
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+
+        return new OAuth2UserRequest(clientRegistration, accessToken);
+    }
+
+    private OAuth2User createKakaoUser() {
+        Map<String, Object> attributes = Map.of(
+                "id", 1234567890L,
+                "connected_at", "2022-01-02T00:12:34Z",
+                "properties", Map.of("nickname", "홍길동"),
+                "kakao_account", Map.of(
+                        "profile", Map.of("nickname", "홍길동"),
+                        "has_email", true,
+                        "email", "test@gmail.com"
+                )
+        );
+
+        return new DefaultOAuth2User(List.of(), attributes, "id");
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("kakao_1234567890", "{bcrypt}hashed", "test@gmail.com", "홍길동", null);
+    }
+
+}
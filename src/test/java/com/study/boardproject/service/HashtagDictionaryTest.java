@@ -0,0 +1,156 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.domain.Hashtag;
+import com.study.boardproject.dto.HashtagSummaryDto;
+import com.study.boardproject.event.ArticleEvent;
+import com.study.boardproject.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그 사전")
+@ExtendWith(MockitoExtension.class)
+class HashtagDictionaryTest {
+
+    @InjectMocks private HashtagDictionary sut;
+
+    @Mock private HashtagRepository hashtagRepository;
+
+    @DisplayName("해시태그를 여러 번 조회해도, DB는 처음 한 번만 읽는다.")
+    @Test
+    void givenHashtagNames_whenLookingUpTwice_thenLoadsOnlyOnce() {
+        // Given
+        given(hashtagRepository.findHashtagSummaries()).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "java", 3L),
+                HashtagSummaryDto.of(2L, "spring", 1L)
+        ));
+
+        // When
+        Map<String, Long> ids = sut.findIds(Set.of("java", "spring", "boot"));
+        List<String> names = sut.getHashtagNames();
+
+        // Then
+        assertThat(ids).isEqualTo(Map.of("java", 1L, "spring", 2L));
+        assertThat(names).containsExactly("java", "spring");
+        assertThat(sut.getArticleCount("java")).isEqualTo(3L);
+        then(hashtagRepository).should(times(1)).findHashtagSummaries();
+    }
+
+    @DisplayName("게시글 이벤트가 오면, 게시글 수를 증감하고 새 해시태그는 추가, 게시글이 없어진 해시태그는 목록에서 뺀다.")
+    @Test
+    void givenArticleEvents_whenLookingUp_thenReflectsAddedAndRemovedHashtags() {
+        // Given
+        given(hashtagRepository.findHashtagSummaries()).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "java", 3L),
+                HashtagSummaryDto.of(2L, "spring", 1L)
+        ));
+        given(hashtagRepository.findByHashtagNameIn(Set.of("jpa"))).willReturn(List.of(createHashtag(3L, "jpa")));
+        sut.reload();
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "title", "#java #jpa", Set.of("java", "jpa"), Set.of()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 5L, "title", "#java", Set.of("java"), Set.of("spring")));
+        sut.onArticleEvent(ArticleEvent.deleted(3L, Set.of("java")));
+
+        // Then
+        assertThat(sut.getArticleCount("java")).isEqualTo(4L);
+        assertThat(sut.getArticleCount("jpa")).isEqualTo(1L);
+        assertThat(sut.getArticleCount("spring")).isZero();
+        assertThat(sut.getHashtagNames()).containsExactly("java", "jpa");
+        assertThat(sut.findIds(Set.of("jpa", "spring"))).isEqualTo(Map.of("jpa", 3L)); // 게시글이 없는 해시태그는 청소됐을 수 있어서 DB에서 다시 확인한다.
+        then(hashtagRepository).should(times(1)).findHashtagSummaries();
+        then(hashtagRepository).should(times(1)).findByHashtagNameIn(any());
+    }
+
+    @DisplayName("청소된 고아 해시태그는 사전에서 빠지고, 그 사이 게시글이 다시 붙은 해시태그는 남는다.")
+    @Test
+    void givenSweptHashtagIds_whenRemovingOrphans_thenRemovesOnlyHashtagsWithoutArticles() {
+        // Given
+        given(hashtagRepository.findHashtagSummaries()).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "java", 0L),
+                HashtagSummaryDto.of(2L, "spring", 0L)
+        ));
+        sut.reload();
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "title", "#spring", Set.of("spring"), Set.of()));
+
+        // When
+        sut.removeOrphans(List.of(1L, 2L));
+
+        // Then
+        assertThat(sut.findIds(Set.of("java", "spring"))).isEqualTo(Map.of("spring", 2L));
+        assertThat(sut.getHashtagNames()).containsExactly("spring");
+    }
+
+    @DisplayName("청소로 지운 뒤 사전에서 빼기 전에 같은 이름으로 글을 쓰면, 지워진 id를 내주지 않고 새로 만든 해시태그로 바꾼다.")
+    @Test
+    void givenArticleSavedBetweenSweepAndRemovingOrphans_whenLookingUp_thenReturnsRecreatedHashtag() {
+        // Given
+        given(hashtagRepository.findHashtagSummaries()).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "java", 3L),
+                HashtagSummaryDto.of(2L, "spring", 0L)
+        ));
+        given(hashtagRepository.findByHashtagNameIn(Set.of("spring"))).willReturn(List.of(createHashtag(7L, "spring")));
+        sut.reload();
+        // 청소가 DB에서 2번을 지웠고, 아직 removeOrphans는 부르지 않았다.
+
+        // When
+        Map<String, Long> idsWhileSaving = sut.findIds(Set.of("java", "spring"));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "title", "#java #spring", Set.of("java", "spring"), Set.of()));
+        sut.removeOrphans(List.of(2L));
+
+        // Then
+        assertThat(idsWhileSaving).isEqualTo(Map.of("java", 1L));
+        assertThat(sut.findIds(Set.of("spring"))).isEqualTo(Map.of("spring", 7L));
+        assertThat(sut.getArticleCount("spring")).isEqualTo(1L);
+        assertThat(sut.suggest("sp", 10)).containsExactly(HashtagSummaryDto.of(7L, "spring", 1L));
+    }
+
+    @DisplayName("자동완성은 접두어로 시작하는 해시태그를 게시글 수가 많은 순으로 돌려주고, 게시글 이벤트와 고아 청소를 바로 반영한다.")
+    @Test
+    void givenArticleEventsAndSweptHashtags_whenSuggesting_thenReturnsHashtagsByArticleCount() {
+        // Given
+        given(hashtagRepository.findHashtagSummaries()).willReturn(List.of(
+                HashtagSummaryDto.of(1L, "java", 3L),
+                HashtagSummaryDto.of(2L, "javascript", 5L),
+                HashtagSummaryDto.of(3L, "jpa", 0L),
+                HashtagSummaryDto.of(4L, "자바", 2L),
+                HashtagSummaryDto.of(5L, "jakarta", 0L)
+        ));
+        sut.reload();
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "title", "#java", Set.of("java"), Set.of()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 12L, "title", "#java #jpa", Set.of("java", "jpa"), Set.of()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 13L, "title", "#java", Set.of("java"), Set.of()));
+        sut.removeOrphans(List.of(4L, 5L)); // 게시글이 있는 "자바"는 남는다.
+
+        // Then
+        assertThat(sut.suggest("ja", 10)).containsExactly(
+                HashtagSummaryDto.of(1L, "java", 6L),
+                HashtagSummaryDto.of(2L, "javascript", 5L)
+        );
+        assertThat(sut.suggest("j", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("java", "javascript", "jpa");
+        assertThat(sut.suggest("잡", 10)).extracting(HashtagSummaryDto::hashtagName).containsExactly("자바"); // 입력 중인 "잡" = ㅈㅏㅂ
+        assertThat(sut.suggest("", 1)).extracting(HashtagSummaryDto::hashtagName).containsExactly("java");
+        then(hashtagRepository).should(times(1)).findHashtagSummaries();
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.repository.HashtagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 고아 해시태그 청소")
+@ExtendWith(MockitoExtension.class)
+class HashtagOrphanSweeperTest {
+
+    private HashtagOrphanSweeper sut;
+    private MeterRegistry meterRegistry;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagDictionary hashtagDictionary;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new HashtagOrphanSweeper(hashtagRepository, hashtagDictionary, transactionTemplate, meterRegistry, 2);
+    }
+
+    @DisplayName("고아 해시태그가 배치 크기보다 많으면, 배치 단위로 나눠서 지우고 지운 수를 메트릭에 남긴다.")
+    @Test
+    void givenOrphanHashtagsMoreThanBatchSize_whenSweeping_thenDeletesBatchByBatch() {
+        // Given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Long>>getArgument(0).doInTransaction(null));
+        given(hashtagRepository.findOrphanIds(0L, 2)).willReturn(List.of(1L, 2L));
+        given(hashtagRepository.findOrphanIds(2L, 2)).willReturn(List.of(5L));
+        given(hashtagRepository.deleteOrphansByIdIn(List.of(1L, 2L))).willReturn(2L);
+        given(hashtagRepository.deleteOrphansByIdIn(List.of(5L))).willReturn(1L);
+
+        // When
+        sut.sweep();
+
+        // Then
+        then(hashtagDictionary).should().removeOrphans(List.of(1L, 2L));
+        then(hashtagDictionary).should().removeOrphans(List.of(5L));
+        then(hashtagRepository).should(never()).findOrphanIds(eq(5L), anyInt());
+        assertThat(meterRegistry.get("board.hashtag.sweeper.swept").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("board.hashtag.sweeper.duration").timer().count()).isEqualTo(1L);
+    }
+
+    @DisplayName("고아 해시태그가 없으면, 아무 것도 지우지 않는다.")
+    @Test
+    void givenNoOrphanHashtags_whenSweeping_thenDeletesNothing() {
+        // Given
+        given(hashtagRepository.findOrphanIds(0L, 2)).willReturn(List.of());
+
+        // When
+        sut.sweep();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(hashtagDictionary).shouldHaveNoInteractions();
+        assertThat(meterRegistry.get("board.hashtag.sweeper.swept").counter().count()).isZero();
+    }
+
+}
@@ -11,14 +11,22 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 
 
@@ -34,6 +42,9 @@ class HashtagServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private HashtagDictionary hashtagDictionary;
+
 
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복없이 반환한다.")
     @MethodSource
@@ -68,21 +79,94 @@ class HashtagServiceTest {
         );
     }
 
+    @DisplayName("무작위 본문을 파싱해도, 정규식(#[\\w가-힣]+)으로 파싱한 결과와 같다.")
+    @Test
+    void givenRandomContents_whenParsing_thenReturnsSameHashtagNamesAsRegex() {
+        //given
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        // '#', 해시태그 문자, 경계 문자(공백, 기호, 자모, 다른 언어 문자, 서로게이트 쌍)를 섞는다.
+        String[] alphabet = {"#", "#", "a", "Z", "0", "9", "_", "가", "힣", "한", " ", "\n", "-", ".", "ㄱ", "ㅏ", "é", "字", "\uD83D\uDE00", "\uAC00", "\uD7A4"};
+        SplittableRandom random = new SplittableRandom(20230701L);
+
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder content = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                content.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            Set<String> expected = new HashSet<>();
+            Matcher matcher = pattern.matcher(content.toString().strip());
+            while (matcher.find()) {
+                expected.add(matcher.group().replace("#", ""));
+            }
+
+            //when
+            Set<String> actual = sut.parseHashtagNames(content.toString());
+
+            //then
+            assertThat(actual).as("content: [%s]", content).isEqualTo(expected);
+        }
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("해시태그 이름들을 입력하면, 저장된 해시태그 중 이름에 매칭하는 것들을 중복 없이 반환한다.")
     @Test
     void givenHashtagNames_whenFindingHashtags_thenReturnHashtagSet() {
         //given
         Set<String> hashtagNames = Set.of("java", "spring", "boots");
-        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(
-                Hashtag.of("java"),
-                Hashtag.of("spring")
-        ));
+        given(hashtagDictionary.findIds(hashtagNames)).willReturn(Map.of("java", 1L, "spring", 2L));
+        given(hashtagRepository.getReferenceById(1L)).willReturn(createHashtag(1L, "java"));
+        given(hashtagRepository.getReferenceById(2L)).willReturn(createHashtag(2L, "spring"));
+
+        given(hashtagRepository.findByHashtagNameIn(Set.of("boots"))).willReturn(List.of());
 
         //when
-        Set<Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+        Map<String, Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
 
         //then
-        assertThat(hashtags).hasSize(2);
-        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        assertThat(hashtags).containsOnlyKeys("java", "spring");
+        then(hashtagDictionary).should().findIds(hashtagNames);
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("boots"));
+    }
+
+    @DisplayName("사전에 없는 이름도 저장된 해시태그가 있으면, IN 쿼리 한 번으로 찾아서 함께 반환한다.")
+    @Test
+    void givenHashtagNamesMissingInDictionary_whenFindingHashtags_thenFindsThemInOneQuery() {
+        //given
+        Set<String> hashtagNames = Set.of("java", "kotlin", "scala");
+        given(hashtagDictionary.findIds(hashtagNames)).willReturn(Map.of("java", 1L));
+        given(hashtagRepository.getReferenceById(1L)).willReturn(createHashtag(1L, "java"));
+        given(hashtagRepository.findByHashtagNameIn(Set.of("kotlin", "scala"))).willReturn(List.of(createHashtag(3L, "kotlin")));
+
+        //when
+        Map<String, Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+
+        //then
+        assertThat(hashtags).containsOnlyKeys("java", "kotlin");
+        assertThat(hashtags.get("kotlin").getId()).isEqualTo(3L);
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("kotlin", "scala"));
+    }
+
+    @DisplayName("모든 이름이 사전에 있으면, 해시태그 테이블을 조회하지 않는다.")
+    @Test
+    void givenHashtagNamesAllInDictionary_whenFindingHashtags_thenDoesNotQuery() {
+        //given
+        Set<String> hashtagNames = Set.of("java");
+        given(hashtagDictionary.findIds(hashtagNames)).willReturn(Map.of("java", 1L));
+        given(hashtagRepository.getReferenceById(1L)).willReturn(createHashtag(1L, "java"));
+
+        //when
+        Map<String, Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+
+        //then
+        assertThat(hashtags).containsOnlyKeys("java");
+        then(hashtagRepository).should(never()).findByHashtagNameIn(any());
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
     }
-}
\ No newline at end of file
+}
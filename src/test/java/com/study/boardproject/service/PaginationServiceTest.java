@@ -59,6 +59,30 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("커서 페이징 모드에서 현재 페이지 번호와 다음 페이지 여부를 주면, 페이징 바 리스트를 만들어준다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}]  현재 페이지: {0}, 다음 페이지 존재: {1} => {2}")
+    void givenCurrentPageNumberAndHasNext_whenCalculating_thenReturnPaginationBarNumbers(int currentPageNumber, boolean hasNext, List<Integer> expected) {
+        //given
+
+        //when
+        List<Integer> actual = sut.getPaginationBarNumbers(currentPageNumber, hasNext);
+
+        //then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenCurrentPageNumberAndHasNext_whenCalculating_thenReturnPaginationBarNumbers() {
+        // 총 페이지 수를 모르므로 다음 페이지는 바로 다음 한 페이지까지만 나온다.
+        return Stream.of(
+                arguments(0, false, List.of(0)),
+                arguments(0, true, List.of(0, 1)),
+                arguments(2, true, List.of(0, 1, 2, 3)),
+                arguments(6, true, List.of(3, 4, 5, 6, 7)),
+                arguments(6, false, List.of(2, 3, 4, 5, 6))
+        );
+    }
+
     @DisplayName("현재 설정되어 있는 페이지네이션 바의 길이를 알려준다.")
     @Test
     void test2() {
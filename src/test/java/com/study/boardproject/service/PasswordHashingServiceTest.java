@@ -0,0 +1,90 @@
+package com.study.boardproject.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비즈니스 로직 - 비밀번호 해시 실행기")
+class PasswordHashingServiceTest {
+
+    @DisplayName("비밀번호를 주면, 전용 실행기에서 bcrypt로 해시한 값을 돌려준다.")
+    @Test
+    void givenRawPassword_whenEncoding_thenReturnsBcryptHash() {
+        // Given
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        try (PasswordHashingService sut = new PasswordHashingService(passwordEncoder, 1, 1, Duration.ofSeconds(5))) {
+
+            // When
+            String encoded = sut.encode("asdf1234");
+
+            // Then
+            assertThat(encoded).startsWith("{bcrypt}");
+            assertThat(passwordEncoder.matches("asdf1234", encoded)).isTrue();
+        }
+    }
+
+    @DisplayName("해시 중인 작업과 대기열이 가득 차면, 기다리지 않고 바로 거절한다.")
+    @Test
+    void givenBusyWorkerAndFullQueue_whenEncoding_thenRejectsImmediately() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.encode(any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try (PasswordHashingService sut = new PasswordHashingService(passwordEncoder, 1, 1, Duration.ofSeconds(5))) {
+            Future<String> running = callers.submit(() -> sut.encode("first"));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> queued = callers.submit(() -> sut.encode("second"));
+            awaitQueued(sut, queued);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.encode("third")).isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @DisplayName("해시가 timeout 안에 끝나지 않으면, 거절 예외를 던진다.")
+    @Test
+    void givenSlowHashing_whenEncoding_thenRejectsAfterTimeout() {
+        // Given
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.encode(any())).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return "encoded";
+        });
+        try (PasswordHashingService sut = new PasswordHashingService(passwordEncoder, 1, 1, Duration.ofMillis(50))) {
+
+            // When & Then
+            assertThatThrownBy(() -> sut.encode("slow")).isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    // 두 번째 호출이 대기열에 들어갈 때까지 기다린다. (대기열이 차기 전에 세 번째 호출을 하면 거절되지 않는다.)
+    private void awaitQueued(PasswordHashingService sut, Future<String> queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sut.queuedCount() == 0 && !queued.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+}
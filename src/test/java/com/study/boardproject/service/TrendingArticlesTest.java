@@ -0,0 +1,146 @@
+package com.study.boardproject.service;
+
+import com.study.boardproject.dto.ArticleDto;
+import com.study.boardproject.dto.TrendingArticleDto;
+import com.study.boardproject.dto.UserAccountDto;
+import com.study.boardproject.event.ArticleCommentEvent;
+import com.study.boardproject.event.ArticleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 인기 게시글")
+@ExtendWith(MockitoExtension.class)
+class TrendingArticlesTest {
+
+    private static final long BUCKET_MILLIS = 1000L;
+
+    private TrendingArticles sut;
+
+    @Mock private ArticleService articleService;
+
+    @BeforeEach
+    void setUp() {
+        // 1초 칸 4개 (최근 4초), 반감기 1초, 댓글 5점, 상위 2개
+        sut = new TrendingArticles(articleService, BUCKET_MILLIS, 4, 2, 1000L, 5L);
+    }
+
+    @DisplayName("조회와 새 댓글 점수로 상위 top-k개만 점수가 높은 순으로 남기고, 게시글은 그 k개만 읽는다.")
+    @Test
+    void givenViewsAndComments_whenRecomputing_thenKeepsTopKByScore() {
+        // Given
+        sut = new TrendingArticles(articleService, 3_600_000L, 4, 2, Long.MAX_VALUE, 5L); // 댓글 이벤트는 현재 시각으로 기록하므로 칸을 길게, 점수는 거의 줄지 않게
+        sut.recordView(1L);
+        sut.recordView(1L);
+        sut.recordView(2L);
+        sut.recordView(3L);
+        sut.recordView(3L);
+        sut.recordView(3L);
+        given(articleService.getArticles(any())).willReturn(List.of(createArticleDto(3L), createArticleDto(2L)));
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, 2L, 100L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, 1L, 101L));
+        sut.recompute();
+
+        // Then
+        List<TrendingArticleDto> actual = sut.getTrendingArticles();
+        assertThat(actual).extracting(trending -> trending.articleDto().id()).containsExactly(2L, 3L);
+        assertThat(actual.get(0).score()).isCloseTo(6.0, within(1e-6));
+        assertThat(actual.get(1).score()).isCloseTo(3.0, within(1e-6));
+        then(articleService).should().getArticles(argThat(ids -> ids.size() == 2 && ids.containsAll(Set.of(2L, 3L))));
+    }
+
+    @DisplayName("지난 칸의 점수는 반감기만큼 줄어들고, 창 밖으로 밀려난 칸의 점수는 빠진다.")
+    @Test
+    void givenOldBuckets_whenRecomputing_thenDecaysAndDropsExpiredScores() {
+        // Given
+        long now = 10 * BUCKET_MILLIS;
+        sut.record(1L, 8, now - 2 * BUCKET_MILLIS); // 2초 전 -> 1/4
+        sut.record(2L, 3, now);
+        sut.record(3L, 100, now - 5 * BUCKET_MILLIS); // 창(4초) 밖
+        given(articleService.getArticles(any())).willReturn(List.of(createArticleDto(1L), createArticleDto(2L)));
+
+        // When
+        sut.recompute(now);
+
+        // Then
+        List<TrendingArticleDto> actual = sut.getTrendingArticles();
+        assertThat(actual).extracting(trending -> trending.articleDto().id()).containsExactly(2L, 1L);
+        assertThat(actual.get(1).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @DisplayName("한 바퀴 돈 칸에 기록하면, 예전 점수는 버리고 새로 센다.")
+    @Test
+    void givenBucketFromPreviousLap_whenRecording_thenReplacesBucket() {
+        // Given
+        long now = 10 * BUCKET_MILLIS;
+        sut.record(1L, 50, now - 4 * BUCKET_MILLIS); // 같은 칸, 한 바퀴 전
+        sut.record(2L, 1, now);
+        given(articleService.getArticles(any())).willReturn(List.of(createArticleDto(2L)));
+
+        // When
+        sut.recompute(now);
+
+        // Then
+        assertThat(sut.getTrendingArticles()).extracting(trending -> trending.articleDto().id()).containsExactly(2L);
+        then(articleService).should().getArticles(List.of(2L));
+    }
+
+    @DisplayName("게시글이 지워지면, 다시 계산하지 않아도 순위에서 바로 빠진다.")
+    @Test
+    void givenDeletedArticle_whenGettingTrendingArticles_thenExcludesIt() {
+        // Given
+        long now = 10 * BUCKET_MILLIS;
+        sut.record(1L, 2, now);
+        sut.record(2L, 1, now);
+        given(articleService.getArticles(any())).willReturn(List.of(createArticleDto(1L), createArticleDto(2L)));
+        sut.recompute(now);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+
+        // Then
+        assertThat(sut.getTrendingArticles()).extracting(trending -> trending.articleDto().id()).containsExactly(2L);
+    }
+
+    @DisplayName("기록이 없으면, 게시글을 읽지 않고 빈 순위를 돌려준다.")
+    @Test
+    void givenNothing_whenRecomputing_thenReturnsEmptyWithoutQuery() {
+        // Given
+
+        // When
+        sut.recompute();
+
+        // Then
+        assertThat(sut.getTrendingArticles()).isEmpty();
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    private ArticleDto createArticleDto(Long id) {
+        return ArticleDto.of(
+                id,
+                UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", "memo"),
+                "title",
+                "content",
+                Set.of(),
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.study.boardproject.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 스케치")
+class HyperLogLogTest {
+
+    @DisplayName("같은 값을 여러 번 넣어도, 한 번만 센다.")
+    @Test
+    void givenDuplicatedValues_whenEstimating_thenCountsDistinctValues() {
+        // Given
+        HyperLogLog sut = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            sut.offer("user:" + (i % 10));
+        }
+
+        // Then
+        assertThat(sut.estimate()).isEqualTo(10L);
+    }
+
+    @DisplayName("값이 많아도, 추정값은 표준 오차(약 2.3%)의 3배 안에 든다.")
+    @Test
+    void givenManyDistinctValues_whenEstimating_thenEstimatesWithinErrorBound() {
+        // Given
+        HyperLogLog sut = new HyperLogLog();
+        int distinct = 100_000;
+
+        // When
+        for (int i = 0; i < distinct; i++) {
+            sut.offer("user:" + i);
+        }
+
+        // Then
+        assertThat((double) sut.estimate()).isCloseTo(distinct, within(distinct * 0.07));
+    }
+
+    @DisplayName("노드별로 센 스케치를 합치면, 겹치는 값은 한 번만 센다.")
+    @Test
+    void givenOverlappingSketches_whenMerging_thenCountsUnion() {
+        // Given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 3_000; i++) {
+            first.offer("user:" + i);
+        }
+        for (int i = 2_000; i < 5_000; i++) {
+            second.offer("user:" + i);
+        }
+
+        // When
+        HyperLogLog merged = HyperLogLog.fromBytes(first.toBytes()).merge(second);
+
+        // Then
+        assertThat((double) merged.estimate()).isCloseTo(5_000, within(5_000 * 0.07));
+        assertThat(merged.merge(second)).isEqualTo(merged); // 같은 스케치를 다시 합쳐도 그대로다.
+    }
+
+    @DisplayName("값이 적으면 sparse, 많으면 dense 형식으로 저장하고, 읽으면 같은 스케치가 된다.")
+    @Test
+    void givenSketches_whenSerializing_thenChoosesCompactFormatAndRoundTrips() {
+        // Given
+        HyperLogLog small = new HyperLogLog();
+        small.offer("user:uno");
+        small.offer("user:uno2");
+        HyperLogLog large = new HyperLogLog();
+        for (int i = 0; i < 10_000; i++) {
+            large.offer("user:" + i);
+        }
+
+        // When
+        byte[] smallBytes = small.toBytes();
+        byte[] largeBytes = large.toBytes();
+
+        // Then
+        assertThat(smallBytes).hasSize(2 + 2 * 3);
+        assertThat(largeBytes).hasSize(HyperLogLog.maxSerializedSize(HyperLogLog.DEFAULT_PRECISION));
+        assertThat(HyperLogLog.fromBytes(smallBytes)).isEqualTo(small);
+        assertThat(HyperLogLog.fromBytes(largeBytes)).isEqualTo(large);
+        assertThat(new HyperLogLog().toBytes()).hasSize(2);
+    }
+
+    @DisplayName("precision이 다른 스케치는 합칠 수 없다.")
+    @Test
+    void givenSketchesWithDifferentPrecision_whenMerging_thenThrowsException() {
+        // Given
+        HyperLogLog sut = new HyperLogLog(11);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.merge(new HyperLogLog(12)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}